@@ -226,6 +226,7 @@ import com.linkedin.datahub.graphql.resolvers.load.LoadableTypeBatchResolver;
 import com.linkedin.datahub.graphql.resolvers.load.LoadableTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.load.OwnerTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.load.TimeSeriesAspectResolver;
+import com.linkedin.datahub.graphql.resolvers.load.TimeseriesAspectLoader;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddLinkResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddOwnerResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddOwnersResolver;
@@ -322,6 +323,7 @@ import com.linkedin.datahub.graphql.resolvers.view.DeleteViewResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListGlobalViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListMyViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.UpdateViewResolver;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.EntityType;
 import com.linkedin.datahub.graphql.types.LoadableType;
@@ -865,6 +867,9 @@ public class GmsGraphQLEngine {
     builder
         .addDataLoaders(loaderSuppliers(loadableTypes))
         .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
+        .addDataLoader(
+            TimeseriesAspectLoader.NAME,
+            context -> TimeseriesAspectLoader.create(entityClient, context))
         .setGraphQLQueryComplexityLimit(graphQLQueryComplexityLimit)
         .setGraphQLQueryDepthLimit(graphQLQueryDepthLimit)
         .setGraphQLQueryIntrospectionEnabled(graphQLQueryIntrospectionEnabled)
@@ -3026,6 +3031,10 @@ public class GmsGraphQLEngine {
     BatchLoaderContextProvider contextProvider = () -> queryContext;
     DataLoaderOptions loaderOptions =
         DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
+    if (graphType instanceof AspectProjectingType) {
+      // Results only hold the aspects requested with their key, so they can't be reused by key
+      loaderOptions.setCachingEnabled(false);
+    }
     return DataLoader.newDataLoader(
         (keys, context) ->
             GraphQLConcurrencyUtils.supplyAsync(
@@ -3035,6 +3044,14 @@ public class GmsGraphQLEngine {
                         String.format(
                             "Batch loading entities of type: %s, keys: %s",
                             graphType.name(), keys));
+                    if (graphType instanceof AspectProjectingType) {
+                      return ((AspectProjectingType<T, K>) graphType)
+                          .batchLoad(
+                              keys,
+                              context.getContext(),
+                              AspectProjectingType.mergeKeyContexts(
+                                  context.getKeyContextsList()));
+                    }
                     return graphType.batchLoad(keys, context.getContext());
                   } catch (Exception e) {
                     log.error(
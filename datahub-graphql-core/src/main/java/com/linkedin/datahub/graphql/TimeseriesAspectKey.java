@@ -0,0 +1,20 @@
+package com.linkedin.datahub.graphql;
+
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.With;
+
+/** The timeseries aspects of an entity to load, keys differing only by urn are batched together. */
+@Value
+public class TimeseriesAspectKey {
+  @With @Nullable String urn;
+  String entityName;
+  String aspectName;
+  @Nullable Long startTimeMillis;
+  @Nullable Long endTimeMillis;
+  @Nullable Integer limit;
+  @Nullable Filter filter;
+  @Nullable SortCriterion sort;
+}
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.load;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.List;
@@ -64,6 +65,6 @@ public class EntityTypeResolver implements DataFetcher<CompletableFuture<Entity>
         environment.getDataLoaderRegistry().getDataLoader(filteredEntity.name());
     final Object key = filteredEntity.getKeyProvider().apply(resolvedEntity);
 
-    return loader.load(key);
+    return loader.load(key, AspectProjectingType.getKeyContext(filteredEntity, environment));
   }
 }
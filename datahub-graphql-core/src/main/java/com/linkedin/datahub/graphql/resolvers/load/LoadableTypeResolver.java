@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.load;
 
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.LoadableType;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -38,6 +39,6 @@ public class LoadableTypeResolver<T, K> implements DataFetcher<CompletableFuture
     }
     final DataLoader<K, T> loader =
         environment.getDataLoaderRegistry().getDataLoader(_loadableType.name());
-    return loader.load(key);
+    return loader.load(key, AspectProjectingType.getKeyContext(_loadableType, environment));
   }
 }
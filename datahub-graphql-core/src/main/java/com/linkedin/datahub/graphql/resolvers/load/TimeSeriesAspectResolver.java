@@ -5,7 +5,7 @@ import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.*;
 import com.datahub.authorization.AuthUtil;
 import com.datahub.authorization.EntitySpec;
 import com.linkedin.datahub.graphql.QueryContext;
-import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
+import com.linkedin.datahub.graphql.TimeseriesAspectKey;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.FilterInput;
 import com.linkedin.datahub.graphql.generated.TimeSeriesAspect;
@@ -19,7 +19,6 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.Collections;
@@ -41,6 +40,9 @@ import lombok.extern.slf4j.Slf4j;
  * <p>On creation of a TimeSeriesAspectResolver, it is expected that a mapper capable of mapping a
  * generic {@link EnvelopedAspect} to a GraphQL {@link TimeSeriesAspect} is provided. This wil be
  * invoked for each {@link EnvelopedAspect} received from the GMS getTimeSeriesAspectValues API.
+ *
+ * <p>The aspects of the entities resolved by a request are fetched in batches by the {@link
+ * TimeseriesAspectLoader}.
  */
 @Slf4j
 public class TimeSeriesAspectResolver
@@ -88,52 +90,43 @@ public class TimeSeriesAspectResolver
 
   @Override
   public CompletableFuture<List<TimeSeriesAspect>> get(DataFetchingEnvironment environment) {
-    return GraphQLConcurrencyUtils.supplyAsync(
-        () -> {
-          final QueryContext context = environment.getContext();
-          // Fetch the urn, assuming the parent has an urn field.
-          // todo: what if the parent urn isn't projected?
-          final String urn = ((Entity) environment.getSource()).getUrn();
-
-          if (!isAuthorized(context, urn)) {
-            return Collections.emptyList();
-          }
+    final QueryContext context = environment.getContext();
+    // Fetch the urn, assuming the parent has an urn field.
+    // todo: what if the parent urn isn't projected?
+    final String urn = ((Entity) environment.getSource()).getUrn();
 
-          final Long maybeStartTimeMillis =
-              environment.getArgumentOrDefault("startTimeMillis", null);
-          final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
-          // Max number of aspects to return.
-          final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
-          final FilterInput maybeFilters =
-              environment.getArgument("filter") != null
-                  ? bindArgument(environment.getArgument("filter"), FilterInput.class)
-                  : null;
-          final SortCriterion maybeSort = _sort;
+    if (!isAuthorized(context, urn)) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
 
-          try {
-            // Step 1: Get aspects.
-            List<EnvelopedAspect> aspects =
-                _client.getTimeseriesAspectValues(
-                    context.getOperationContext(),
-                    urn,
-                    _entityName,
-                    _aspectName,
-                    maybeStartTimeMillis,
-                    maybeEndTimeMillis,
-                    maybeLimit,
-                    buildFilters(maybeFilters, context.getOperationContext().getAspectRetriever()),
-                    maybeSort);
+    final Long maybeStartTimeMillis = environment.getArgumentOrDefault("startTimeMillis", null);
+    final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
+    // Max number of aspects to return.
+    final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
+    final FilterInput maybeFilters =
+        environment.getArgument("filter") != null
+            ? bindArgument(environment.getArgument("filter"), FilterInput.class)
+            : null;
+    final SortCriterion maybeSort = _sort;
 
+    // Step 1: Get aspects, batched with those of the other entities of the request.
+    final TimeseriesAspectKey key =
+        new TimeseriesAspectKey(
+            urn,
+            _entityName,
+            _aspectName,
+            maybeStartTimeMillis,
+            maybeEndTimeMillis,
+            maybeLimit,
+            buildFilters(maybeFilters, context.getOperationContext().getAspectRetriever()),
+            maybeSort);
+    return TimeseriesAspectLoader.load(environment, _client, key)
+        .thenApply(
             // Step 2: Bind profiles into GraphQL strong types.
-            return aspects.stream()
-                .map(a -> _aspectMapper.apply(context, a))
-                .collect(Collectors.toList());
-          } catch (RemoteInvocationException e) {
-            throw new RuntimeException("Failed to retrieve aspects from GMS", e);
-          }
-        },
-        this.getClass().getSimpleName(),
-        "get");
+            aspects ->
+                aspects.stream()
+                    .map(a -> _aspectMapper.apply(context, a))
+                    .collect(Collectors.toList()));
   }
 
   private Filter buildFilters(
@@ -0,0 +1,132 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.TimeseriesAspectKey;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.r2.RemoteInvocationException;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.Try;
+
+/**
+ * Batches the timeseries aspect reads of resolvers, so that the timeseries aspects of a page of
+ * entities are fetched with one request to GMS for each distinct query rather than one per entity.
+ * A failed request, or a urn missing from its result, only fails the keys it was made for.
+ */
+@Slf4j
+public class TimeseriesAspectLoader {
+
+  public static final String NAME = "TimeseriesAspects";
+
+  private TimeseriesAspectLoader() {}
+
+  @Nonnull
+  public static DataLoader<TimeseriesAspectKey, List<EnvelopedAspect>> create(
+      @Nonnull final EntityClient entityClient, @Nonnull final QueryContext context) {
+    return DataLoaderFactory.newDataLoaderWithTry(
+        keys ->
+            GraphQLConcurrencyUtils.supplyAsync(
+                () -> batchLoad(entityClient, context, keys),
+                TimeseriesAspectLoader.class.getSimpleName(),
+                "batchLoad"));
+  }
+
+  /**
+   * Loads the timeseries aspects of a key with the loader of the request, or on its own if the
+   * request has no such loader.
+   */
+  @Nonnull
+  public static CompletableFuture<List<EnvelopedAspect>> load(
+      @Nonnull final DataFetchingEnvironment environment,
+      @Nonnull final EntityClient entityClient,
+      @Nonnull final TimeseriesAspectKey key) {
+    final DataLoader<TimeseriesAspectKey, List<EnvelopedAspect>> loader =
+        environment.getDataLoaderRegistry() != null
+            ? environment.getDataLoaderRegistry().getDataLoader(NAME)
+            : null;
+    if (loader != null) {
+      return loader.load(key);
+    }
+    final QueryContext context = environment.getContext();
+    return GraphQLConcurrencyUtils.supplyAsync(
+        () -> {
+          final Try<List<EnvelopedAspect>> result =
+              batchLoad(entityClient, context, List.of(key)).get(0);
+          if (result.isFailure()) {
+            throw (RuntimeException) result.getThrowable();
+          }
+          return result.get();
+        },
+        TimeseriesAspectLoader.class.getSimpleName(),
+        "load");
+  }
+
+  /** Loads the aspects of each key, in the order of the keys. */
+  @Nonnull
+  static List<Try<List<EnvelopedAspect>>> batchLoad(
+      @Nonnull final EntityClient entityClient,
+      @Nonnull final QueryContext context,
+      @Nonnull final List<TimeseriesAspectKey> keys) {
+    final Map<TimeseriesAspectKey, Set<String>> urnsByQuery = new LinkedHashMap<>();
+    for (TimeseriesAspectKey key : keys) {
+      urnsByQuery.computeIfAbsent(key.withUrn(null), k -> new LinkedHashSet<>()).add(key.getUrn());
+    }
+    log.debug(
+        "Batch loading timeseries aspects of {} keys with {} queries",
+        keys.size(),
+        urnsByQuery.size());
+
+    final Map<TimeseriesAspectKey, Try<Map<String, List<EnvelopedAspect>>>> valuesByQuery =
+        new HashMap<>();
+    for (Map.Entry<TimeseriesAspectKey, Set<String>> entry : urnsByQuery.entrySet()) {
+      final TimeseriesAspectKey query = entry.getKey();
+      try {
+        valuesByQuery.put(
+            query,
+            Try.succeeded(
+                entityClient.batchGetTimeseriesAspectValues(
+                    context.getOperationContext(),
+                    entry.getValue(),
+                    query.getEntityName(),
+                    query.getAspectName(),
+                    query.getStartTimeMillis(),
+                    query.getEndTimeMillis(),
+                    query.getLimit(),
+                    query.getFilter(),
+                    query.getSort())));
+      } catch (RemoteInvocationException | RuntimeException e) {
+        log.error("Failed to batch load timeseries aspects of {} urns", entry.getValue().size(), e);
+        valuesByQuery.put(
+            query, Try.failed(new RuntimeException("Failed to retrieve aspects from GMS", e)));
+      }
+    }
+    return keys.stream()
+        .map(key -> valuesByQuery.get(key.withUrn(null)).flatMap(values -> valuesOf(values, key)))
+        .collect(Collectors.toList());
+  }
+
+  /** Urns that have no aspects map to an empty list, a missing urn failed to load. */
+  private static Try<List<EnvelopedAspect>> valuesOf(
+      @Nonnull final Map<String, List<EnvelopedAspect>> values,
+      @Nonnull final TimeseriesAspectKey key) {
+    final List<EnvelopedAspect> aspects = values.get(key.getUrn());
+    return aspects != null
+        ? Try.succeeded(aspects)
+        : Try.failed(
+            new RuntimeException(
+                String.format("Failed to retrieve aspects of %s from GMS", key.getUrn())));
+  }
+}
@@ -0,0 +1,115 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link LoadableType} that can load only the aspects needed to resolve the fields selected by a
+ * query, rather than every aspect its mapper supports.
+ *
+ * <p>Resolvers pass the aspects needed for their selection set as the {@link
+ * org.dataloader.DataLoader} key context. A batch loads the union of the aspects requested for its
+ * keys, or all aspects if any key was loaded without a projection.
+ *
+ * @param <T> the GraphQL object type corresponding to the type.
+ * @param <K> the key type for the DataLoader
+ */
+public interface AspectProjectingType<T, K> extends LoadableType<T, K> {
+
+  /**
+   * Returns the aspects needed to resolve the fields selected for this type, or null if all
+   * aspects are needed.
+   *
+   * @param selectionSet the fields selected on the entity being loaded
+   */
+  @Nullable
+  Set<String> getAspectsToResolve(@Nonnull DataFetchingFieldSelectionSet selectionSet);
+
+  /**
+   * Retrieves a list of entities given a list of keys, loading only the given aspects.
+   *
+   * @param keys to retrieve
+   * @param context the {@link QueryContext} corresponding to the request.
+   * @param aspectNames the aspects to load, or null to load all aspects
+   */
+  List<DataFetcherResult<T>> batchLoad(
+      @Nonnull List<K> keys, @Nonnull QueryContext context, @Nullable Set<String> aspectNames)
+      throws Exception;
+
+  @Override
+  default List<DataFetcherResult<T>> batchLoad(
+      @Nonnull final List<K> keys, @Nonnull final QueryContext context) throws Exception {
+    return batchLoad(keys, context, null);
+  }
+
+  /**
+   * Returns the DataLoader key context for loading an entity of a type from a resolver, which is
+   * the projection of the type for the selected fields, or null if the type loads all aspects.
+   */
+  @Nullable
+  static Set<String> getKeyContext(
+      @Nonnull final LoadableType<?, ?> loadableType,
+      @Nonnull final DataFetchingEnvironment environment) {
+    if (loadableType instanceof AspectProjectingType) {
+      return ((AspectProjectingType<?, ?>) loadableType)
+          .getAspectsToResolve(environment.getSelectionSet());
+    }
+    return null;
+  }
+
+  /**
+   * Merges the key contexts of a batch into the aspects to load for it, or null if any key needs
+   * all aspects.
+   */
+  @Nullable
+  static Set<String> mergeKeyContexts(@Nonnull final List<Object> keyContexts) {
+    final Set<String> aspectNames = new HashSet<>();
+    for (Object keyContext : keyContexts) {
+      if (!(keyContext instanceof Set)) {
+        return null;
+      }
+      for (Object aspectName : (Set<?>) keyContext) {
+        aspectNames.add((String) aspectName);
+      }
+    }
+    return aspectNames;
+  }
+
+  /**
+   * Returns the aspects needed to resolve the fields selected on an object type.
+   *
+   * @param typeName the name of the GraphQL object type, fields selected on other types of an
+   *     interface or union are ignored
+   * @param requiredAspects aspects that are always loaded
+   * @param fieldAspects the aspects each field of the type is mapped from
+   * @return the aspects to load, or null if a selected field is not mapped
+   */
+  @Nullable
+  static Set<String> getAspectsToResolve(
+      @Nonnull final DataFetchingFieldSelectionSet selectionSet,
+      @Nonnull final String typeName,
+      @Nonnull final Set<String> requiredAspects,
+      @Nonnull final Map<String, Set<String>> fieldAspects) {
+    final Set<String> aspectNames = new HashSet<>(requiredAspects);
+    for (SelectedField field : selectionSet.getImmediateFields()) {
+      if (!field.getObjectTypeNames().contains(typeName)) {
+        continue;
+      }
+      final Set<String> aspects = fieldAspects.get(field.getName());
+      if (aspects == null) {
+        return null;
+      }
+      aspectNames.addAll(aspects);
+    }
+    return aspectNames;
+  }
+}
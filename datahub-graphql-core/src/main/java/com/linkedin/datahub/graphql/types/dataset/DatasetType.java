@@ -6,6 +6,7 @@ import static com.linkedin.metadata.Constants.*;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
@@ -25,6 +26,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.BatchMutableType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -45,6 +47,7 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.r2.RemoteInvocationException;
 import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -60,9 +63,10 @@ import javax.annotation.Nullable;
 public class DatasetType
     implements SearchableEntityType<Dataset, String>,
         BrowsableEntityType<Dataset, String>,
+        AspectProjectingType<Dataset, String>,
         BatchMutableType<DatasetUpdateInput, BatchDatasetUpdateInput, Dataset> {
 
-  private static final Set<String> ASPECTS_TO_RESOLVE =
+  static final Set<String> ASPECTS_TO_RESOLVE =
       ImmutableSet.of(
           DATASET_KEY_ASPECT_NAME,
           DATASET_PROPERTIES_ASPECT_NAME,
@@ -91,6 +95,45 @@ public class DatasetType
           FORMS_ASPECT_NAME,
           SUB_TYPES_ASPECT_NAME);
 
+  // Aspects each field of a Dataset is mapped from by the DatasetMapper. Selecting any other field
+  // loads all aspects.
+  private static final Map<String, Set<String>> FIELD_ASPECTS =
+      ImmutableMap.<String, Set<String>>builder()
+          .put("urn", ImmutableSet.of())
+          .put("type", ImmutableSet.of())
+          .put("__typename", ImmutableSet.of())
+          .put("name", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("origin", ImmutableSet.of())
+          .put("platform", ImmutableSet.of())
+          .put("description", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("uri", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("properties", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("editableProperties", ImmutableSet.of(EDITABLE_DATASET_PROPERTIES_ASPECT_NAME))
+          .put(
+              "deprecation",
+              ImmutableSet.of(DATASET_DEPRECATION_ASPECT_NAME, DEPRECATION_ASPECT_NAME))
+          .put("schema", ImmutableSet.of(SCHEMA_METADATA_ASPECT_NAME))
+          .put("editableSchemaMetadata", ImmutableSet.of(EDITABLE_SCHEMA_METADATA_ASPECT_NAME))
+          .put("viewProperties", ImmutableSet.of(VIEW_PROPERTIES_ASPECT_NAME))
+          .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+          .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+          .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+          .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+          .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+          .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+          .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+          .put("siblings", ImmutableSet.of(SIBLINGS_ASPECT_NAME))
+          .put("fineGrainedLineages", ImmutableSet.of(UPSTREAM_LINEAGE_ASPECT_NAME))
+          .put("embed", ImmutableSet.of(EMBED_ASPECT_NAME))
+          .put("browsePathV2", ImmutableSet.of(BROWSE_PATHS_V2_ASPECT_NAME))
+          .put("access", ImmutableSet.of(ACCESS_DATASET_ASPECT_NAME))
+          .put("structuredProperties", ImmutableSet.of(STRUCTURED_PROPERTIES_ASPECT_NAME))
+          .put("forms", ImmutableSet.of(FORMS_ASPECT_NAME))
+          .put("subTypes", ImmutableSet.of(SUB_TYPES_ASPECT_NAME))
+          .build();
+
   private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
   private static final String ENTITY_NAME = "dataset";
 
@@ -125,9 +168,23 @@ public class DatasetType
     return Entity::getUrn;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getAspectsToResolve(
+      @Nonnull final DataFetchingFieldSelectionSet selectionSet) {
+    // The key aspect is always loaded, as entities without any of the loaded aspects are missing
+    return AspectProjectingType.getAspectsToResolve(
+        selectionSet,
+        Dataset.class.getSimpleName(),
+        ImmutableSet.of(DATASET_KEY_ASPECT_NAME),
+        FIELD_ASPECTS);
+  }
+
   @Override
   public List<DataFetcherResult<Dataset>> batchLoad(
-      @Nonnull final List<String> urnStrs, @Nonnull final QueryContext context) {
+      @Nonnull final List<String> urnStrs,
+      @Nonnull final QueryContext context,
+      @Nullable final Set<String> aspectNames) {
     try {
       final List<Urn> urns = urnStrs.stream().map(UrnUtils::getUrn).collect(Collectors.toList());
 
@@ -136,7 +193,7 @@ public class DatasetType
               context.getOperationContext(),
               Constants.DATASET_ENTITY_NAME,
               new HashSet<>(urns),
-              ASPECTS_TO_RESOLVE);
+              aspectNames == null ? ASPECTS_TO_RESOLVE : aspectNames);
 
       final List<EntityResponse> gmsResults = new ArrayList<>(urnStrs.size());
       for (Urn urn : urns) {
@@ -5,6 +5,8 @@ import static org.testng.Assert.*;
 
 import com.datahub.authentication.Authentication;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.assertion.AssertionResult;
 import com.linkedin.assertion.AssertionResultType;
 import com.linkedin.assertion.AssertionRunEvent;
@@ -47,9 +49,9 @@ public class AssertionRunEventResolverTest {
                     .setUnexpectedCount(2L));
 
     Mockito.when(
-            mockClient.getTimeseriesAspectValues(
+            mockClient.batchGetTimeseriesAspectValues(
                 any(),
-                Mockito.eq(assertionUrn.toString()),
+                Mockito.eq(ImmutableSet.of(assertionUrn.toString())),
                 Mockito.eq(Constants.ASSERTION_ENTITY_NAME),
                 Mockito.eq(Constants.ASSERTION_RUN_EVENT_ASPECT_NAME),
                 Mockito.eq(0L),
@@ -57,12 +59,15 @@ public class AssertionRunEventResolverTest {
                 Mockito.eq(5),
                 Mockito.eq(
                     AssertionRunEventResolver.buildFilter(
-                        null, AssertionRunStatus.COMPLETE.toString(), null))))
+                        null, AssertionRunStatus.COMPLETE.toString(), null)),
+                Mockito.isNull()))
         .thenReturn(
-            ImmutableList.of(
-                new EnvelopedAspect()
-                    .setAspect(GenericRecordUtils.serializeAspect(gmsRunEvent))
-                    .setSystemMetadata(new SystemMetadata().setLastObserved(12L))));
+            ImmutableMap.of(
+                assertionUrn.toString(),
+                ImmutableList.of(
+                    new EnvelopedAspect()
+                        .setAspect(GenericRecordUtils.serializeAspect(gmsRunEvent))
+                        .setSystemMetadata(new SystemMetadata().setLastObserved(12L)))));
 
     AssertionRunEventResolver resolver = new AssertionRunEventResolver(mockClient);
 
@@ -90,15 +95,16 @@ public class AssertionRunEventResolverTest {
     AssertionRunEventsResult result = resolver.get(mockEnv).get();
 
     Mockito.verify(mockClient, Mockito.times(1))
-        .getTimeseriesAspectValues(
+        .batchGetTimeseriesAspectValues(
             any(),
-            Mockito.eq(assertionUrn.toString()),
+            Mockito.eq(ImmutableSet.of(assertionUrn.toString())),
             Mockito.eq(Constants.ASSERTION_ENTITY_NAME),
             Mockito.eq(Constants.ASSERTION_RUN_EVENT_ASPECT_NAME),
             Mockito.eq(0L),
             Mockito.eq(10L),
             Mockito.eq(5),
-            Mockito.any(Filter.class));
+            Mockito.any(Filter.class),
+            Mockito.isNull());
 
     // Assert that GraphQL assertion run event matches expectations
     assertEquals(result.getTotal(), 1);
@@ -0,0 +1,174 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.TimeseriesAspectKey;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.query.filter.SortOrder;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.r2.RemoteInvocationException;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.dataloader.Try;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TimeseriesAspectLoaderTest {
+  private static final String URN_1 = "urn:li:dataset:(urn:li:dataPlatform:hive,test1,PROD)";
+  private static final String URN_2 = "urn:li:dataset:(urn:li:dataPlatform:hive,test2,PROD)";
+  private static final String URN_3 = "urn:li:dataset:(urn:li:dataPlatform:hive,test3,PROD)";
+
+  private EntityClient _entityClient;
+  private QueryContext _context;
+
+  @BeforeMethod
+  public void setupTest() {
+    _entityClient = mock(EntityClient.class);
+    _context = mock(QueryContext.class);
+    when(_context.getOperationContext()).thenReturn(mock(OperationContext.class));
+  }
+
+  @Test
+  public void testBatchLoadGroupsKeysByQuery() throws Exception {
+    final SortCriterion sort =
+        new SortCriterion().setField("timestampMillis").setOrder(SortOrder.DESCENDING);
+    final EnvelopedAspect profile1 = profile(1L);
+    final EnvelopedAspect profile3 = profile(3L);
+    final EnvelopedAspect latestProfile2 = profile(2L);
+    when(_entityClient.batchGetTimeseriesAspectValues(
+            any(),
+            eq(ImmutableSet.of(URN_1, URN_2, URN_3)),
+            eq(Constants.DATASET_ENTITY_NAME),
+            eq(Constants.DATASET_PROFILE_ASPECT_NAME),
+            isNull(),
+            isNull(),
+            eq(10),
+            isNull(),
+            isNull()))
+        .thenReturn(
+            ImmutableMap.of(
+                URN_1, ImmutableList.of(profile1),
+                URN_2, Collections.emptyList(),
+                URN_3, ImmutableList.of(profile3)));
+    when(_entityClient.batchGetTimeseriesAspectValues(
+            any(),
+            eq(ImmutableSet.of(URN_2)),
+            eq(Constants.DATASET_ENTITY_NAME),
+            eq(Constants.DATASET_PROFILE_ASPECT_NAME),
+            isNull(),
+            isNull(),
+            eq(1),
+            isNull(),
+            eq(sort)))
+        .thenReturn(ImmutableMap.of(URN_2, ImmutableList.of(latestProfile2)));
+
+    final List<Try<List<EnvelopedAspect>>> result =
+        TimeseriesAspectLoader.batchLoad(
+            _entityClient,
+            _context,
+            ImmutableList.of(
+                profileKey(URN_3, 10, null),
+                profileKey(URN_2, 1, sort),
+                profileKey(URN_1, 10, null),
+                profileKey(URN_2, 10, null)));
+
+    verify(_entityClient, times(2))
+        .batchGetTimeseriesAspectValues(
+            any(), any(), any(), any(), any(), any(), any(), any(), any());
+    assertTrue(result.stream().allMatch(Try::isSuccess));
+    assertEquals(
+        result.stream().map(Try::get).collect(Collectors.toList()),
+        ImmutableList.of(
+            ImmutableList.of(profile3),
+            ImmutableList.of(latestProfile2),
+            ImmutableList.of(profile1),
+            Collections.emptyList()));
+  }
+
+  @Test
+  public void testBatchLoadFailsOnlyAffectedKeys() throws Exception {
+    final EnvelopedAspect profile1 = profile(1L);
+    when(_entityClient.batchGetTimeseriesAspectValues(
+            any(), any(), any(), any(), any(), any(), eq(10), any(), any()))
+        .thenReturn(ImmutableMap.of(URN_1, ImmutableList.of(profile1)));
+    when(_entityClient.batchGetTimeseriesAspectValues(
+            any(), any(), any(), any(), any(), any(), eq(1), any(), any()))
+        .thenThrow(new RemoteInvocationException("GMS failure"));
+
+    final List<Try<List<EnvelopedAspect>>> result =
+        TimeseriesAspectLoader.batchLoad(
+            _entityClient,
+            _context,
+            ImmutableList.of(
+                profileKey(URN_1, 10, null),
+                profileKey(URN_2, 1, null),
+                profileKey(URN_3, 10, null)));
+
+    // URN_2's request failed and URN_3 is missing from the result of its request
+    assertTrue(result.get(0).isSuccess());
+    assertEquals(result.get(0).get(), ImmutableList.of(profile1));
+    assertTrue(result.get(1).isFailure());
+    assertTrue(result.get(1).getThrowable().getCause() instanceof RemoteInvocationException);
+    assertTrue(result.get(2).isFailure());
+  }
+
+  @Test
+  public void testDataLoaderBatchesLoads() throws Exception {
+    when(_entityClient.batchGetTimeseriesAspectValues(
+            any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(
+            ImmutableMap.of(URN_1, Collections.emptyList(), URN_2, Collections.emptyList()));
+
+    final DataLoader<TimeseriesAspectKey, List<EnvelopedAspect>> loader =
+        TimeseriesAspectLoader.create(_entityClient, _context);
+    final CompletableFuture<List<EnvelopedAspect>> result1 =
+        loader.load(profileKey(URN_1, 10, null));
+    final CompletableFuture<List<EnvelopedAspect>> result2 =
+        loader.load(profileKey(URN_2, 10, null));
+    loader.dispatch().join();
+
+    assertEquals(result1.get(), Collections.emptyList());
+    assertEquals(result2.get(), Collections.emptyList());
+    verify(_entityClient, times(1))
+        .batchGetTimeseriesAspectValues(
+            any(),
+            eq(ImmutableSet.of(URN_1, URN_2)),
+            eq(Constants.DATASET_ENTITY_NAME),
+            eq(Constants.DATASET_PROFILE_ASPECT_NAME),
+            isNull(),
+            isNull(),
+            eq(10),
+            isNull(),
+            isNull());
+  }
+
+  private static EnvelopedAspect profile(long lastObserved) {
+    return new EnvelopedAspect()
+        .setSystemMetadata(new SystemMetadata().setLastObserved(lastObserved));
+  }
+
+  private static TimeseriesAspectKey profileKey(String urn, int limit, SortCriterion sort) {
+    return new TimeseriesAspectKey(
+        urn,
+        Constants.DATASET_ENTITY_NAME,
+        Constants.DATASET_PROFILE_ASPECT_NAME,
+        null,
+        null,
+        limit,
+        null,
+        sort);
+  }
+}
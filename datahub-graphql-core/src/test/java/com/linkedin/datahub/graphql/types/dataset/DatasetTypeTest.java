@@ -0,0 +1,149 @@
+package com.linkedin.datahub.graphql.types.dataset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Dataset;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.key.DatasetKey;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class DatasetTypeTest {
+
+  private static final String TEST_DATASET_URN =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)";
+
+  @Test
+  public void testGetAspectsToResolve() {
+    DatasetType type = new DatasetType(mock(EntityClient.class));
+
+    assertEquals(
+        type.getAspectsToResolve(selectionSet("Dataset", "urn", "name", "platform")),
+        ImmutableSet.of(
+            Constants.DATASET_KEY_ASPECT_NAME, Constants.DATASET_PROPERTIES_ASPECT_NAME));
+    // Fields selected on other types of an interface are ignored
+    assertEquals(
+        type.getAspectsToResolve(selectionSet("Chart", "urn", "lastIngested")),
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME));
+    // Fields that are not mapped from aspects need all aspects
+    assertNull(type.getAspectsToResolve(selectionSet("Dataset", "name", "lastIngested")));
+  }
+
+  @Test
+  public void testMergeKeyContexts() {
+    assertEquals(
+        AspectProjectingType.mergeKeyContexts(
+            Arrays.asList(ImmutableSet.of("a"), ImmutableSet.of("a", "b"))),
+        ImmutableSet.of("a", "b"));
+    // Keys loaded without a projection need all aspects
+    assertNull(AspectProjectingType.mergeKeyContexts(Arrays.asList(ImmutableSet.of("a"), null)));
+  }
+
+  @Test
+  public void testBatchLoadProjection() throws Exception {
+    EntityClient client = mock(EntityClient.class);
+    Urn datasetUrn = Urn.createFromString(TEST_DATASET_URN);
+    Set<String> aspectNames =
+        ImmutableSet.of(
+            Constants.DATASET_KEY_ASPECT_NAME, Constants.DATASET_PROPERTIES_ASPECT_NAME);
+
+    DatasetKey key =
+        new DatasetKey()
+            .setPlatform(new DataPlatformUrn("hive"))
+            .setName("test")
+            .setOrigin(FabricType.PROD);
+    Mockito.when(
+            client.batchGetV2(
+                any(),
+                Mockito.eq(Constants.DATASET_ENTITY_NAME),
+                Mockito.eq(new HashSet<>(ImmutableSet.of(datasetUrn))),
+                Mockito.eq(aspectNames)))
+        .thenReturn(
+            ImmutableMap.of(
+                datasetUrn,
+                new EntityResponse()
+                    .setEntityName(Constants.DATASET_ENTITY_NAME)
+                    .setUrn(datasetUrn)
+                    .setAspects(
+                        new EnvelopedAspectMap(
+                            ImmutableMap.of(
+                                Constants.DATASET_KEY_ASPECT_NAME,
+                                new EnvelopedAspect().setValue(new Aspect(key.data())),
+                                Constants.DATASET_PROPERTIES_ASPECT_NAME,
+                                new EnvelopedAspect()
+                                    .setValue(
+                                        new Aspect(
+                                            new DatasetProperties().setName("Test").data())))))));
+
+    DatasetType type = new DatasetType(client);
+    QueryContext mockContext = mock(QueryContext.class);
+    Mockito.when(mockContext.getAuthentication()).thenReturn(mock(Authentication.class));
+    Mockito.when(mockContext.getOperationContext())
+        .thenReturn(TestOperationContexts.systemContextNoSearchAuthorization());
+
+    List<DataFetcherResult<Dataset>> result =
+        type.batchLoad(ImmutableList.of(TEST_DATASET_URN), mockContext, aspectNames);
+
+    Mockito.verify(client, Mockito.times(1))
+        .batchGetV2(
+            any(),
+            Mockito.eq(Constants.DATASET_ENTITY_NAME),
+            Mockito.eq(ImmutableSet.of(datasetUrn)),
+            Mockito.eq(aspectNames));
+    assertEquals(result.size(), 1);
+    assertEquals(result.get(0).getData().getName(), "Test");
+    assertEquals(result.get(0).getData().getPlatform().getUrn(), "urn:li:dataPlatform:hive");
+
+    // Loading without a projection fetches all aspects
+    type.batchLoad(ImmutableList.of(TEST_DATASET_URN), mockContext);
+    Mockito.verify(client, Mockito.times(1))
+        .batchGetV2(
+            any(),
+            Mockito.eq(Constants.DATASET_ENTITY_NAME),
+            Mockito.eq(ImmutableSet.of(datasetUrn)),
+            Mockito.eq(DatasetType.ASPECTS_TO_RESOLVE));
+  }
+
+  private static DataFetchingFieldSelectionSet selectionSet(
+      String typeName, String... fieldNames) {
+    List<SelectedField> fields =
+        Arrays.stream(fieldNames)
+            .map(
+                fieldName -> {
+                  SelectedField field = mock(SelectedField.class);
+                  Mockito.when(field.getName()).thenReturn(fieldName);
+                  Mockito.when(field.getObjectTypeNames()).thenReturn(ImmutableList.of(typeName));
+                  return field;
+                })
+            .collect(Collectors.toList());
+    DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+    Mockito.when(selectionSet.getImmediateFields()).thenReturn(fields);
+    return selectionSet;
+  }
+}
@@ -33,6 +33,8 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_STARTING_OFFSET = 0;
   private static final int DEFAULT_THREADS = 1;
   private static final boolean DEFAULT_URN_BASED_PAGINATION = false;
+  private static final int DEFAULT_NUM_PARTITIONS = 0;
+  private static final boolean DEFAULT_DIRECT_INDEXING = false;
 
   private final Database _server;
   private final EntityService<?> _entityService;
@@ -56,6 +58,61 @@ public class SendMAEStep implements UpgradeStep {
     }
   }
 
+  /**
+   * Restores a range of the aspects table, walking it in batches with urn based pagination so
+   * that queries don't slow down with the offset.
+   */
+  public class PartitionJob implements Callable<RestoreIndicesResult> {
+    private final UpgradeContext context;
+    private final RestoreIndicesArgs args;
+    private final int partition;
+    private final int partitionRowCount;
+
+    public PartitionJob(
+        UpgradeContext context, RestoreIndicesArgs args, int partition, int partitionRowCount) {
+      this.context = context;
+      this.args = args;
+      this.partition = partition;
+      this.partitionRowCount = partitionRowCount;
+    }
+
+    @Override
+    public RestoreIndicesResult call() {
+      RestoreIndicesResult partitionResult = new RestoreIndicesResult();
+      long startTime = System.currentTimeMillis();
+      RestoreIndicesArgs batchArgs = args.clone();
+      while (true) {
+        List<RestoreIndicesResult> results =
+            _entityService.restoreIndices(context.opContext(), batchArgs, log::debug);
+        if (results.isEmpty()) {
+          break;
+        }
+        RestoreIndicesResult result = results.get(0);
+        addResult(partitionResult, result);
+        reportPartitionStats(context, partition, partitionResult, partitionRowCount, startTime);
+
+        int rowsProcessed = result.rowsMigrated + result.ignored;
+        if (rowsProcessed < batchArgs.batchSize) {
+          break;
+        }
+        if (result.lastUrn.equals(batchArgs.lastUrn)
+            && result.lastAspect.equals(batchArgs.lastAspect)) {
+          // The batch ended on a row that could not be restored, stop rather than loop on it
+          reportLine(
+              context,
+              String.format(
+                  "Partition %d stopped at %s - %s, rows after it were not restored",
+                  partition, result.lastUrn, result.lastAspect));
+          break;
+        }
+        batchArgs = batchArgs.clone();
+        batchArgs.lastUrn = result.lastUrn;
+        batchArgs.lastAspect = result.lastAspect;
+      }
+      return partitionResult;
+    }
+  }
+
   public SendMAEStep(final Database server, final EntityService<?> entityService) {
     _server = server;
     _entityService = entityService;
@@ -98,6 +155,8 @@ public class SendMAEStep implements UpgradeStep {
     result.batchDelayMs = getBatchDelayMs(context.parsedArgs());
     result.start = getStartingOffset(context.parsedArgs());
     result.urnBasedPagination = getUrnBasedPagination(context.parsedArgs());
+    result.directIndexing = getDirectIndexing(context.parsedArgs());
+    context.report().addLine(String.format("directIndexing is %s", result.directIndexing));
     if (containsKey(context.parsedArgs(), RestoreIndices.ASPECT_NAME_ARG_NAME)) {
       result.aspectName = context.parsedArgs().get(RestoreIndices.ASPECT_NAME_ARG_NAME).get();
       context.report().addLine(String.format("aspect is %s", result.aspectName));
@@ -124,22 +183,74 @@ public class SendMAEStep implements UpgradeStep {
     return result;
   }
 
-  private int getRowCount(RestoreIndicesArgs args) {
-    ExpressionList<EbeanAspectV2> countExp =
+  private ExpressionList<EbeanAspectV2> getLatestAspects(RestoreIndicesArgs args, String select) {
+    ExpressionList<EbeanAspectV2> exp =
         _server
             .find(EbeanAspectV2.class)
+            .select(select)
             .where()
             .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
     if (args.aspectName != null) {
-      countExp = countExp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
     }
     if (args.urn != null) {
-      countExp = countExp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
+      exp = exp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
     }
     if (args.urnLike != null) {
-      countExp = countExp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+      exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
     }
-    return countExp.findCount();
+    return exp;
+  }
+
+  private int getRowCount(RestoreIndicesArgs args) {
+    return getLatestAspects(args, EbeanAspectV2.ALL_COLUMNS).findCount();
+  }
+
+  /**
+   * Splits the latest aspects into ranges of about the same number of rows, ordered by urn and
+   * aspect. Each range starts after the last row of the previous one and ends with its own last
+   * row, the last range is unbounded.
+   */
+  private List<RestoreIndicesArgs> getPartitions(
+      RestoreIndicesArgs args, int rowCount, int numPartitions) {
+    List<RestoreIndicesArgs> partitions = new ArrayList<>();
+    String lastUrn = "";
+    String lastAspect = "";
+    for (int partition = 1; partition <= numPartitions; partition++) {
+      RestoreIndicesArgs partitionArgs = args.clone();
+      partitionArgs.urnBasedPagination = true;
+      partitionArgs.limit = args.batchSize;
+      partitionArgs.lastUrn = lastUrn;
+      partitionArgs.lastAspect = lastAspect;
+      if (partition < numPartitions) {
+        // The offset is only paid once per partition, partitions are then walked by key
+        int lastRow = (int) ((long) rowCount * partition / numPartitions) - 1;
+        EbeanAspectV2 boundary =
+            lastRow < 0
+                ? null
+                : getLatestAspects(args, EbeanAspectV2.KEY_ID)
+                    .orderBy()
+                    .asc(EbeanAspectV2.URN_COLUMN)
+                    .orderBy()
+                    .asc(EbeanAspectV2.ASPECT_COLUMN)
+                    .setFirstRow(lastRow)
+                    .setMaxRows(1)
+                    .findOne();
+        if (boundary == null) {
+          continue;
+        }
+        if (boundary.getKey().getUrn().equals(lastUrn)
+            && boundary.getKey().getAspect().equals(lastAspect)) {
+          continue;
+        }
+        partitionArgs.endUrn = boundary.getKey().getUrn();
+        partitionArgs.endAspect = boundary.getKey().getAspect();
+        lastUrn = partitionArgs.endUrn;
+        lastAspect = partitionArgs.endAspect;
+      }
+      partitions.add(partitionArgs);
+    }
+    return partitions;
   }
 
   @Override
@@ -163,7 +274,31 @@ public class SendMAEStep implements UpgradeStep {
 
       List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
       startTime = System.currentTimeMillis();
-      if (args.urnBasedPagination) {
+      int numPartitions = getNumPartitions(context.parsedArgs());
+      if (numPartitions > 0) {
+        List<RestoreIndicesArgs> partitions = getPartitions(args, rowCount, numPartitions);
+        context
+            .report()
+            .addLine(
+                String.format(
+                    "Restoring %d partitions with %d threads", partitions.size(), args.numThreads));
+        for (int partition = 0; partition < partitions.size(); partition++) {
+          futures.add(
+              executor.submit(
+                  new PartitionJob(
+                      context,
+                      partitions.get(partition),
+                      partition,
+                      rowCount / partitions.size())));
+        }
+        while (futures.size() > 0) {
+          List<RestoreIndicesResult> tmpResults = iterateFutures(futures);
+          for (RestoreIndicesResult tmpResult : tmpResults) {
+            addResult(finalJobResult, tmpResult);
+            reportLine(context, String.format("metrics so far %s", finalJobResult));
+          }
+        }
+      } else if (args.urnBasedPagination) {
         RestoreIndicesResult previousResult = null;
         int rowsProcessed = 1;
         while (rowsProcessed > 0) {
@@ -223,12 +358,7 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
-  private static void reportStats(
-      UpgradeContext context,
-      RestoreIndicesResult finalResult,
-      RestoreIndicesResult tmpResult,
-      int rowCount,
-      long startTime) {
+  private static void addResult(RestoreIndicesResult finalResult, RestoreIndicesResult tmpResult) {
     finalResult.ignored += tmpResult.ignored;
     finalResult.rowsMigrated += tmpResult.rowsMigrated;
     finalResult.timeSqlQueryMs += tmpResult.timeSqlQueryMs;
@@ -237,6 +367,49 @@ public class SendMAEStep implements UpgradeStep {
     finalResult.aspectCheckMs += tmpResult.aspectCheckMs;
     finalResult.createRecordMs += tmpResult.createRecordMs;
     finalResult.sendMessageMs += tmpResult.sendMessageMs;
+    finalResult.defaultAspectsCreated += tmpResult.defaultAspectsCreated;
+  }
+
+  // Partitions report from their worker threads
+  private synchronized void reportLine(UpgradeContext context, String line) {
+    context.report().addLine(line);
+  }
+
+  private void reportPartitionStats(
+      UpgradeContext context,
+      int partition,
+      RestoreIndicesResult partitionResult,
+      int partitionRowCount,
+      long startTime) {
+    int rowsProcessed = partitionResult.rowsMigrated + partitionResult.ignored;
+    float secondsSoFar = (float) (System.currentTimeMillis() - startTime) / 1000;
+    float rowsPerSecond = secondsSoFar > 0 ? rowsProcessed / secondsSoFar : 0;
+    float estimatedMinutesComplete =
+        rowsPerSecond > 0
+            ? Math.max(0, partitionRowCount - rowsProcessed) / rowsPerSecond / 60
+            : -1;
+    reportLine(
+        context,
+        String.format(
+            "Partition %d: %d/~%d rows (%d ignored) up to %s - %s. "
+                + "%.2f rows/s, %.2f est. mins to completion.",
+            partition,
+            rowsProcessed,
+            partitionRowCount,
+            partitionResult.ignored,
+            partitionResult.lastUrn,
+            partitionResult.lastAspect,
+            rowsPerSecond,
+            estimatedMinutesComplete));
+  }
+
+  private static void reportStats(
+      UpgradeContext context,
+      RestoreIndicesResult finalResult,
+      RestoreIndicesResult tmpResult,
+      int rowCount,
+      long startTime) {
+    addResult(finalResult, tmpResult);
     context.report().addLine(String.format("metrics so far %s", finalResult));
 
     long currentTime = System.currentTimeMillis();
@@ -296,6 +469,19 @@ public class SendMAEStep implements UpgradeStep {
     return urnBasedPagination;
   }
 
+  private int getNumPartitions(final Map<String, Optional<String>> parsedArgs) {
+    return getInt(parsedArgs, DEFAULT_NUM_PARTITIONS, RestoreIndices.NUM_PARTITIONS_ARG_NAME);
+  }
+
+  private boolean getDirectIndexing(final Map<String, Optional<String>> parsedArgs) {
+    boolean directIndexing = DEFAULT_DIRECT_INDEXING;
+    if (containsKey(parsedArgs, RestoreIndices.DIRECT_INDEXING_ARG_NAME)) {
+      directIndexing =
+          Boolean.parseBoolean(parsedArgs.get(RestoreIndices.DIRECT_INDEXING_ARG_NAME).get());
+    }
+    return directIndexing;
+  }
+
   private int getInt(
       final Map<String, Optional<String>> parsedArgs, int defaultVal, String argKey) {
     int result = defaultVal;
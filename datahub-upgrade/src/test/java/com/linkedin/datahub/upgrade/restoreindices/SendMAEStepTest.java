@@ -0,0 +1,161 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeReport;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import io.datahubproject.metadata.context.OperationContext;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class SendMAEStepTest {
+  private static final List<String> ASPECT_NAMES = List.of("globalTags", "ownership", "status");
+
+  private EbeanAspectDao aspectDao;
+  private Database server;
+  private List<String> latestKeys;
+
+  @BeforeClass
+  public void setup() {
+    server = DatabaseFactory.create(h2Config(SendMAEStepTest.class.getSimpleName()));
+    aspectDao = new EbeanAspectDao(server, EbeanConfiguration.testDefault);
+
+    Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+    List<EntityAspect> aspects = new ArrayList<>();
+    latestKeys = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      // Urns have different numbers of aspects, so that partitions end within an urn
+      for (String aspectName : ASPECT_NAMES.subList(0, 1 + i % ASPECT_NAMES.size())) {
+        String urn = "urn:li:corpuser:sendMAE" + i;
+        latestKeys.add(urn + " " + aspectName);
+        // Only the latest versions are restored
+        for (long version : List.of(0L, 1L)) {
+          aspects.add(
+              new EntityAspect(
+                  urn,
+                  aspectName,
+                  version,
+                  "{}",
+                  "{}",
+                  timestamp,
+                  "urn:li:corpuser:actor",
+                  null));
+        }
+      }
+    }
+    aspectDao.runInTransactionWithRetry(
+        tx -> {
+          aspectDao.saveAspects(tx, aspects, List.of());
+          return null;
+        },
+        0);
+    Collections.sort(latestKeys);
+  }
+
+  @Test
+  public void testPartitionsRestoreEveryRowOnce() {
+    for (int numPartitions : List.of(1, 2, 3, 7, latestKeys.size(), latestKeys.size() + 5)) {
+      for (int batchSize : List.of(1, 2, 100)) {
+        List<String> restoredKeys = Collections.synchronizedList(new ArrayList<>());
+        SendMAEStep step = new SendMAEStep(server, recordingEntityService(restoredKeys));
+
+        UpgradeStepResult result =
+            step.executable()
+                .apply(
+                    upgradeContext(
+                        Map.of(
+                            RestoreIndices.NUM_PARTITIONS_ARG_NAME,
+                            Optional.of(String.valueOf(numPartitions)),
+                            RestoreIndices.NUM_THREADS_ARG_NAME,
+                            Optional.of("4"),
+                            RestoreIndices.BATCH_SIZE_ARG_NAME,
+                            Optional.of(String.valueOf(batchSize)))));
+
+        assertEquals(result.result(), UpgradeStepResult.Result.SUCCEEDED);
+        List<String> sortedKeys = new ArrayList<>(restoredKeys);
+        Collections.sort(sortedKeys);
+        assertEquals(
+            sortedKeys,
+            latestKeys,
+            String.format("%d partitions in batches of %d", numPartitions, batchSize));
+      }
+    }
+  }
+
+  /** Restores the rows of the real aspects table, recording every row it sees. */
+  private EntityService<?> recordingEntityService(List<String> restoredKeys) {
+    EntityService<?> entityService = mock(EntityService.class);
+    when(entityService.restoreIndices(
+            any(OperationContext.class), any(RestoreIndicesArgs.class), any()))
+        .thenAnswer(
+            invocation -> {
+              RestoreIndicesArgs args = invocation.getArgument(1);
+              try (PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
+                return stream
+                    .partition(args.batchSize)
+                    .map(
+                        batch -> {
+                          List<EbeanAspectV2> rows = batch.collect(Collectors.toList());
+                          rows.forEach(
+                              row ->
+                                  restoredKeys.add(
+                                      row.getKey().getUrn() + " " + row.getKey().getAspect()));
+                          RestoreIndicesResult result = new RestoreIndicesResult();
+                          result.rowsMigrated = rows.size();
+                          result.lastUrn = rows.get(rows.size() - 1).getKey().getUrn();
+                          result.lastAspect = rows.get(rows.size() - 1).getKey().getAspect();
+                          return result;
+                        })
+                    .collect(Collectors.toList());
+              }
+            });
+    return entityService;
+  }
+
+  private static UpgradeContext upgradeContext(Map<String, Optional<String>> parsedArgs) {
+    UpgradeContext context = mock(UpgradeContext.class);
+    when(context.parsedArgs()).thenReturn(parsedArgs);
+    when(context.report()).thenReturn(new DefaultUpgradeReport());
+    when(context.opContext()).thenReturn(mock(OperationContext.class));
+    return context;
+  }
+
+  private static DatabaseConfig h2Config(String instanceId) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(
+        String.format("jdbc:h2:mem:%s;IGNORECASE=TRUE;mode=mysql;", instanceId));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    DatabaseConfig serverConfig = new DatabaseConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return serverConfig;
+  }
+}
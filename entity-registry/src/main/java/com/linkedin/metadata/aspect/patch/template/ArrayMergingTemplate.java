@@ -7,8 +7,14 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template<T> {
 
@@ -116,4 +122,121 @@ public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template
       return mergingArray;
     }
   }
+
+  /**
+   * Array fields merged by key for patching, when merging them is all {@link #transformFields} and
+   * {@link #rebaseFields} do. Declaring them lets {@link DataMapPatcher} patch the aspect.
+   *
+   * @return the key fields of the elements of each array field, empty for arrays of strings, or
+   *     null if the aspect must be patched as JSON
+   */
+  @Nullable
+  default Map<String, List<String>> getMergedArrayFields() {
+    return null;
+  }
+
+  @Override
+  default boolean supportsDataMapPatch() {
+    return getMergedArrayFields() != null;
+  }
+
+  @Override
+  default void transformData(@Nonnull Map<String, Object> data) {
+    getMergedArrayFields().forEach((field, keyFields) -> arrayFieldToMap(data, field, keyFields));
+  }
+
+  @Override
+  default void rebaseData(@Nonnull Map<String, Object> patched) {
+    getMergedArrayFields()
+        .forEach((field, keyFields) -> transformedMapToArray(patched, field, keyFields));
+  }
+
+  /**
+   * Counterpart of {@link #arrayFieldToMap(JsonNode, String, List)} for {@link DataMapPatcher},
+   * replaces the array field of the data in place with a map of its elements by key
+   *
+   * @param data the data to be transformed
+   * @param arrayFieldName name of the array field to be transformed
+   * @param keyFields subfields of the array object to be used as keys, empty implies the list is
+   *     just strings to be merged
+   */
+  @SuppressWarnings("unchecked")
+  default void arrayFieldToMap(
+      @Nonnull Map<String, Object> data, String arrayFieldName, List<String> keyFields) {
+    Object array = data.get(arrayFieldName);
+    Map<String, Object> map = new LinkedHashMap<>();
+    if (array instanceof List) {
+      for (Object element : (List<Object>) array) {
+        if (keyFields.isEmpty()) {
+          // No key fields, assume String array
+          map.put((String) element, element);
+          continue;
+        }
+        Map<String, Object> elementMap = (Map<String, Object>) element;
+        Map<String, Object> keyValue = map;
+        for (String keyField : keyFields.subList(0, keyFields.size() - 1)) {
+          keyValue =
+              (Map<String, Object>)
+                  keyValue.computeIfAbsent(
+                      keyText(elementMap, keyField), key -> new LinkedHashMap<>());
+        }
+        String key = keyText(elementMap, keyFields.get(keyFields.size() - 1));
+        Object existing = keyValue.get(key);
+        if (existing == null) {
+          keyValue.put(key, elementMap);
+        } else {
+          ((Map<String, Object>) existing).putAll(elementMap);
+        }
+      }
+    }
+    data.put(arrayFieldName, map);
+  }
+
+  /**
+   * Counterpart of {@link #transformedMapToArray(JsonNode, String, List)} for {@link
+   * DataMapPatcher}, replaces the map field of the patched data in place with an array
+   *
+   * @param patched the patched data
+   * @param arrayFieldName name of the array field to be transformed
+   * @param keyFields subfields of the array object to be used as keys, empty implies the list is
+   *     just strings to be merged
+   */
+  default void transformedMapToArray(
+      @Nonnull Map<String, Object> patched, String arrayFieldName, List<String> keyFields) {
+    Object field = patched.get(arrayFieldName);
+    if (field == null || field instanceof List) {
+      // Removed, or already an array because it was replaced by the patch
+      return;
+    }
+    List<Object> array = new ArrayList<>();
+    mergeToList(field, keyFields.isEmpty() ? 1 : keyFields.size(), array);
+    patched.put(arrayFieldName, DataMapPatcher.toData(array));
+  }
+
+  private static void mergeToList(Object node, int depth, List<Object> array) {
+    if (depth == 0) {
+      array.add(node);
+      return;
+    }
+    Collection<?> children =
+        node instanceof Map
+            ? ((Map<?, ?>) node).values()
+            : node instanceof List ? (List<?>) node : Collections.emptyList();
+    for (Object child : children) {
+      mergeToList(child, depth - 1, array);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String keyText(Map<String, Object> element, String keyField) {
+    Object key;
+    // if the keyField has a unit separator, we are working with a nested key
+    if (keyField.contains(UNIT_SEPARATOR_DELIMITER)) {
+      String[] keyParts = keyField.split(UNIT_SEPARATOR_DELIMITER);
+      key = ((Map<String, Object>) element.get(keyParts[0])).get(keyParts[1]);
+    } else {
+      key = element.get(keyField);
+    }
+    return key.toString();
+  }
 }
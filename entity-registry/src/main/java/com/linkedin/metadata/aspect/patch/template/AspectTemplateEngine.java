@@ -71,7 +71,9 @@ public class AspectTemplateEngine {
   }
 
   /**
-   * Applies a json patch to a record, optionally merging array fields as necessary
+   * Applies a json patch to a record, optionally merging array fields as necessary. Patches are
+   * applied on the data of the record by {@link DataMapPatcher} when the template supports it,
+   * falling back to the template's JSON patching otherwise.
    *
    * @param recordTemplate original template to be updated
    * @param jsonPatch patch to apply
@@ -84,6 +86,12 @@ public class AspectTemplateEngine {
       RecordTemplate recordTemplate, JsonPatch jsonPatch, AspectSpec aspectSpec)
       throws JsonProcessingException {
     Template<T> template = getTemplate(aspectSpec);
+    if (template.supportsDataMapPatch()) {
+      T patched = DataMapPatcher.applyPatch(template, recordTemplate, jsonPatch);
+      if (patched != null) {
+        return patched;
+      }
+    }
     return template.applyPatch(recordTemplate, jsonPatch);
   }
 
@@ -0,0 +1,284 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.patch.PatchOperationType;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Applies JSON patches to the {@link DataMap} of an aspect, without the JSON serialization round
+ * trips of {@link Template#applyPatch}. Follows the same steps on a copy of the data: {@link
+ * Template#transformData} merges array fields into maps, missing parent keys are populated as by
+ * {@link TemplateUtil#populateTopLevelKeys}, the operations are applied in order and {@link
+ * Template#rebaseData} turns the maps back into arrays.
+ *
+ * <p>Merged maps are {@link LinkedHashMap}s so that arrays are rebased in the same order as from
+ * the JSON objects of the JSON path. Only add and remove operations are supported, patches that
+ * can't be applied here, such as ones indexing into arrays past their end, are left to the JSON
+ * path so that they fail or succeed exactly as before.
+ */
+public class DataMapPatcher {
+
+  private static final String APPEND_INDEX = "-";
+
+  private DataMapPatcher() {}
+
+  /**
+   * Applies a patch to the data of a record.
+   *
+   * @param template template of the aspect
+   * @param recordTemplate record to be patched, left unmodified
+   * @param jsonPatch patch to apply
+   * @return the patched record, or null if the patch must be applied as JSON
+   */
+  @Nullable
+  public static <T extends RecordTemplate> T applyPatch(
+      @Nonnull Template<T> template,
+      @Nonnull RecordTemplate recordTemplate,
+      @Nonnull JsonPatch jsonPatch) {
+    if (!template.supportsDataMapPatch()) {
+      return null;
+    }
+    final List<Operation> operations = parseOperations(jsonPatch);
+    if (operations == null) {
+      return null;
+    }
+
+    final Map<String, Object> data;
+    try {
+      data = new HashMap<>(template.getSubtype(recordTemplate).data().copy());
+    } catch (CloneNotSupportedException e) {
+      return null;
+    }
+    template.transformData(data);
+
+    for (Operation operation : operations) {
+      if (!populateParentKeys(data, operation)) {
+        return null;
+      }
+    }
+    for (Operation operation : operations) {
+      if (!operation.apply(data)) {
+        return null;
+      }
+    }
+
+    template.rebaseData(data);
+    return RecordUtils.toRecordTemplate(template.getTemplateType(), (DataMap) toData(data));
+  }
+
+  /**
+   * Converts a value of a patched map to Pegasus data, maps and lists that aren't data yet are
+   * copied into {@link DataMap}s and {@link DataList}s.
+   */
+  @SuppressWarnings("unchecked")
+  public static Object toData(@Nonnull Object value) {
+    if (value instanceof DataMap || value instanceof DataList) {
+      return value;
+    }
+    if (value instanceof Map) {
+      final DataMap dataMap = new DataMap();
+      ((Map<String, Object>) value).forEach((key, child) -> dataMap.put(key, toData(child)));
+      return dataMap;
+    }
+    if (value instanceof List) {
+      final DataList dataList = new DataList();
+      ((List<Object>) value).forEach(element -> dataList.add(toData(element)));
+      return dataList;
+    }
+    return value;
+  }
+
+  @Nullable
+  private static List<Operation> parseOperations(@Nonnull JsonPatch jsonPatch) {
+    final JsonArray patchArray = jsonPatch.toJsonArray();
+    final List<Operation> operations = new ArrayList<>(patchArray.size());
+    for (JsonValue patchValue : patchArray) {
+      final JsonObject operation = patchValue.asJsonObject();
+      final PatchOperationType type;
+      try {
+        type = PatchOperationType.valueOf(operation.getString("op").toUpperCase());
+      } catch (RuntimeException e) {
+        return null;
+      }
+      final String path = operation.getString("path", "");
+      // The root can't be patched in place and an empty trailing key is dropped by the split
+      if (!path.startsWith("/") || path.endsWith("/")) {
+        return null;
+      }
+      final JsonValue value = operation.get("value");
+      if (PatchOperationType.ADD.equals(type) && value == null) {
+        return null;
+      }
+      operations.add(new Operation(type, path.split("/"), value));
+    }
+    return operations;
+  }
+
+  /**
+   * Creates missing parent keys of an operation the way {@link TemplateUtil#populateTopLevelKeys}
+   * does on the JSON tree, including its lookup of the encoded key. Paths that fail there are left
+   * to the JSON path.
+   */
+  @SuppressWarnings("unchecked")
+  private static boolean populateParentKeys(
+      @Nonnull Map<String, Object> data, @Nonnull Operation operation) {
+    final String[] keys = operation.keys;
+    final int endIdx =
+        PatchOperationType.REMOVE.equals(operation.type) ? keys.length : keys.length - 1;
+    Object parent = data;
+    for (int i = 1; i < endIdx; i++) {
+      if (!(parent instanceof Map)) {
+        return false;
+      }
+      final Map<String, Object> parentMap = (Map<String, Object>) parent;
+      if (parentMap.get(keys[i]) == null) {
+        parentMap.put(decodeKey(keys[i]), newMap(parentMap));
+      }
+      parent = parentMap.get(keys[i]);
+    }
+    return true;
+  }
+
+  private static Map<String, Object> newMap(@Nonnull Object parent) {
+    return parent instanceof DataMap ? new DataMap() : new LinkedHashMap<>();
+  }
+
+  private static String decodeKey(@Nonnull String key) {
+    return key.replace("~1", "/").replace("~0", "~");
+  }
+
+  /** Converts a JSON value to the objects it is read into by the Pegasus JSON codec. */
+  private static Object fromJson(@Nonnull JsonValue value) {
+    switch (value.getValueType()) {
+      case OBJECT:
+        final Map<String, Object> map = new LinkedHashMap<>();
+        value.asJsonObject().forEach((key, child) -> map.put(key, fromJson(child)));
+        return map;
+      case ARRAY:
+        final List<Object> list = new ArrayList<>();
+        value.asJsonArray().forEach(element -> list.add(fromJson(element)));
+        return list;
+      case STRING:
+        return ((JsonString) value).getString();
+      case NUMBER:
+        final JsonNumber number = (JsonNumber) value;
+        if (number.isIntegral()) {
+          final long longValue = number.longValue();
+          if ((int) longValue == longValue) {
+            return (int) longValue;
+          }
+          return longValue;
+        }
+        return number.doubleValue();
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      default:
+        return Data.NULL;
+    }
+  }
+
+  private static class Operation {
+    private final PatchOperationType type;
+    private final String[] keys;
+    @Nullable private final JsonValue value;
+
+    private Operation(
+        @Nonnull PatchOperationType type, @Nonnull String[] keys, @Nullable JsonValue value) {
+      this.type = type;
+      this.keys = keys;
+      this.value = value;
+    }
+
+    /** Applies the operation as by RFC 6902, returns false if it must be applied as JSON. */
+    @SuppressWarnings("unchecked")
+    private boolean apply(@Nonnull Map<String, Object> data) {
+      Object parent = data;
+      for (int i = 1; i < keys.length - 1; i++) {
+        parent = child(parent, decodeKey(keys[i]));
+        if (parent == null) {
+          return false;
+        }
+      }
+      final String key = decodeKey(keys[keys.length - 1]);
+
+      if (parent instanceof Map) {
+        final Map<String, Object> parentMap = (Map<String, Object>) parent;
+        if (PatchOperationType.ADD.equals(type)) {
+          parentMap.put(key, valueFor(parentMap));
+          return true;
+        }
+        return parentMap.remove(key) != null;
+      }
+      if (parent instanceof List) {
+        final List<Object> parentList = (List<Object>) parent;
+        if (PatchOperationType.ADD.equals(type)) {
+          final int index = APPEND_INDEX.equals(key) ? parentList.size() : index(key);
+          if (index < 0 || index > parentList.size()) {
+            return false;
+          }
+          parentList.add(index, valueFor(parentList));
+          return true;
+        }
+        final int index = index(key);
+        if (index < 0 || index >= parentList.size()) {
+          return false;
+        }
+        parentList.remove(index);
+        return true;
+      }
+      return false;
+    }
+
+    private Object valueFor(@Nonnull Object parent) {
+      final Object converted = fromJson(value);
+      return parent instanceof DataMap || parent instanceof DataList
+          ? toData(converted)
+          : converted;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static Object child(@Nonnull Object parent, @Nonnull String key) {
+      if (parent instanceof Map) {
+        return ((Map<String, Object>) parent).get(key);
+      }
+      if (parent instanceof List) {
+        final List<Object> list = (List<Object>) parent;
+        final int index = index(key);
+        return index >= 0 && index < list.size() ? list.get(index) : null;
+      }
+      return null;
+    }
+
+    /** Parses an array index of a JSON pointer, -1 if the key isn't one. */
+    private static int index(@Nonnull String key) {
+      if (key.isEmpty() || key.length() > 9 || (key.length() > 1 && key.charAt(0) == '0')) {
+        return -1;
+      }
+      for (int i = 0; i < key.length(); i++) {
+        if (key.charAt(i) < '0' || key.charAt(i) > '9') {
+          return -1;
+        }
+      }
+      return Integer.parseInt(key);
+    }
+  }
+}
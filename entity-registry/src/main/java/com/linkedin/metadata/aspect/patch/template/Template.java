@@ -11,6 +11,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPatch;
 import java.io.StringReader;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public interface Template<T extends RecordTemplate> {
@@ -103,4 +104,31 @@ public interface Template<T extends RecordTemplate> {
    */
   @Nonnull
   JsonNode rebaseFields(JsonNode patched);
+
+  /**
+   * Whether patches to this aspect can be applied directly on its {@link
+   * com.linkedin.data.DataMap} by {@link DataMapPatcher}, through {@link #transformData} and {@link
+   * #rebaseData}
+   */
+  default boolean supportsDataMapPatch() {
+    return false;
+  }
+
+  /**
+   * Counterpart of {@link #transformFields} for {@link DataMapPatcher}, transforms a copy of the
+   * data of the aspect in place. Only called when {@link #supportsDataMapPatch} is true, the data
+   * is left as is by default.
+   *
+   * @param data mutable copy of the aspect data, values set on it may be plain maps and lists
+   */
+  default void transformData(@Nonnull Map<String, Object> data) {}
+
+  /**
+   * Counterpart of {@link #rebaseFields} for {@link DataMapPatcher}, rebases the patched data in
+   * place. Only called when {@link #supportsDataMapPatch} is true, the data is left as is by
+   * default.
+   *
+   * @param patched the patched data in custom format per aspect spec
+   */
+  default void rebaseData(@Nonnull Map<String, Object> patched) {}
 }
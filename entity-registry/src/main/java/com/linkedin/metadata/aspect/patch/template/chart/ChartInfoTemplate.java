@@ -3,6 +3,7 @@ package com.linkedin.metadata.aspect.patch.template.chart;
 import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.chart.ChartDataSourceTypeArray;
 import com.linkedin.chart.ChartInfo;
 import com.linkedin.common.AuditStamp;
@@ -12,6 +13,8 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
@@ -79,4 +82,13 @@ public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
 
     return rebasedNode;
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(
+        INPUT_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        INPUTS_FIELD_NAME,
+        Collections.emptyList());
+  }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.GenericJsonPatch;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -52,7 +53,16 @@ public class GenericPatchTemplate<T extends RecordTemplate> extends CompoundKeyT
     return transformedNode;
   }
 
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return genericJsonPatch.getArrayPrimaryKeys();
+  }
+
   public T applyPatch(RecordTemplate recordTemplate) throws IOException {
+    T patched = DataMapPatcher.applyPatch(this, recordTemplate, genericJsonPatch.getJsonPatch());
+    if (patched != null) {
+      return patched;
+    }
     return super.applyPatch(recordTemplate, genericJsonPatch.getJsonPatch());
   }
 }
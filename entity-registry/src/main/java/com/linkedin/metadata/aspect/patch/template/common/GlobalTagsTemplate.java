@@ -1,11 +1,14 @@
 package com.linkedin.metadata.aspect.patch.template.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
@@ -47,4 +50,9 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
     return transformedMapToArray(
         patched, TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
+  }
 }
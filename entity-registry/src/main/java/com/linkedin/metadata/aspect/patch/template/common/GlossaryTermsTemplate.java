@@ -5,13 +5,17 @@ import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.GlossaryTermAssociationArray;
 import com.linkedin.common.GlossaryTerms;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class GlossaryTermsTemplate implements ArrayMergingTemplate<GlossaryTerms> {
@@ -73,4 +77,31 @@ public class GlossaryTermsTemplate implements ArrayMergingTemplate<GlossaryTerms
     return transformedMapToArray(
         patched, TERMS_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(TERMS_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
+  }
+
+  @Override
+  public void transformData(@Nonnull Map<String, Object> data) {
+    setDefaultAuditStamp(data);
+    ArrayMergingTemplate.super.transformData(data);
+  }
+
+  @Override
+  public void rebaseData(@Nonnull Map<String, Object> patched) {
+    setDefaultAuditStamp(patched);
+    ArrayMergingTemplate.super.rebaseData(patched);
+  }
+
+  // Set required deprecated field
+  private static void setDefaultAuditStamp(@Nonnull Map<String, Object> data) {
+    if (data.get(AUDIT_STAMP_FIELD) == null) {
+      DataMap auditStamp = new DataMap();
+      auditStamp.put(ACTOR_FIELD, SYSTEM_ACTOR);
+      auditStamp.put(TIME_FIELD, System.currentTimeMillis());
+      data.put(AUDIT_STAMP_FIELD, auditStamp);
+    }
+  }
 }
@@ -3,6 +3,7 @@ package com.linkedin.metadata.aspect.patch.template.common;
 import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.OwnerArray;
 import com.linkedin.common.Ownership;
@@ -10,6 +11,8 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
@@ -57,4 +60,9 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
     return transformedMapToArray(
         patched, OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME));
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME));
+  }
 }
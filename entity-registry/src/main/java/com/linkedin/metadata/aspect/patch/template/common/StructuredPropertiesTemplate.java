@@ -1,11 +1,14 @@
 package com.linkedin.metadata.aspect.patch.template.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import com.linkedin.structured.StructuredProperties;
 import com.linkedin.structured.StructuredPropertyValueAssignmentArray;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class StructuredPropertiesTemplate implements ArrayMergingTemplate<StructuredProperties> {
@@ -53,4 +56,9 @@ public class StructuredPropertiesTemplate implements ArrayMergingTemplate<Struct
     return transformedMapToArray(
         patched, PROPERTIES_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(PROPERTIES_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
+  }
 }
@@ -3,6 +3,7 @@ package com.linkedin.metadata.aspect.patch.template.dashboard;
 import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.ChangeAuditStamps;
 import com.linkedin.common.ChartUrnArray;
@@ -13,6 +14,8 @@ import com.linkedin.dashboard.DashboardInfo;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo> {
@@ -102,4 +105,17 @@ public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo
 
     return rebasedNode;
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(
+        CHART_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        DATASET_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        DATASETS_FIELD_NAME,
+        Collections.emptyList(),
+        CHARTS_FIELD_NAME,
+        Collections.emptyList());
+  }
 }
@@ -42,4 +42,9 @@ public class DataFlowInfoTemplate implements Template<DataFlowInfo> {
   public JsonNode rebaseFields(JsonNode patched) {
     return patched;
   }
+
+  @Override
+  public boolean supportsDataMapPatch() {
+    return true;
+  }
 }
@@ -42,4 +42,9 @@ public class DataJobInfoTemplate implements Template<DataJobInfo> {
   public JsonNode rebaseFields(JsonNode patched) {
     return patched;
   }
+
+  @Override
+  public boolean supportsDataMapPatch() {
+    return true;
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.aspect.patch.template.datajob;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.DataJobUrnArray;
 import com.linkedin.common.DatasetUrnArray;
 import com.linkedin.common.EdgeArray;
@@ -10,6 +11,8 @@ import com.linkedin.datajob.DataJobInputOutput;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobInputOutput> {
@@ -114,4 +117,19 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
 
     return rebasedNode;
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(
+        INPUT_DATA_JOB_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        INPUT_DATASET_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        OUTPUT_DATASET_EDGES_FIELD_NAME,
+        Collections.singletonList(DESTINATION_URN_FIELD_NAME),
+        INPUT_DATASET_FIELDS_FIELD_NAME,
+        Collections.emptyList(),
+        OUTPUT_DATASET_FIELDS_FIELD_NAME,
+        Collections.emptyList());
+  }
 }
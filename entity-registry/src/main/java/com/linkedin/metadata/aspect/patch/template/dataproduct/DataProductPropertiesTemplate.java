@@ -1,11 +1,14 @@
 package com.linkedin.metadata.aspect.patch.template.dataproduct;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataproduct.DataProductAssociationArray;
 import com.linkedin.dataproduct.DataProductProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataProductProperties> {
@@ -46,4 +49,9 @@ public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataP
     return transformedMapToArray(
         patched, ASSETS_FIELD_NAME, Collections.singletonList(KEY_FIELD_NAME));
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(ASSETS_FIELD_NAME, Collections.singletonList(KEY_FIELD_NAME));
+  }
 }
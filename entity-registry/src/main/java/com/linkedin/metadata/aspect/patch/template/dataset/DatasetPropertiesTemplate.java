@@ -1,12 +1,15 @@
 package com.linkedin.metadata.aspect.patch.template.dataset;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetProperties> {
@@ -47,4 +50,9 @@ public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetPr
   public JsonNode rebaseFields(JsonNode patched) {
     return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.emptyList());
   }
+
+  @Override
+  public Map<String, List<String>> getMergedArrayFields() {
+    return ImmutableMap.of(TAGS_FIELD_NAME, Collections.emptyList());
+  }
 }
@@ -9,12 +9,18 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.dataset.UpstreamArray;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -91,6 +97,28 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     return rebasedNode;
   }
 
+  @Override
+  public boolean supportsDataMapPatch() {
+    return true;
+  }
+
+  @Override
+  public void transformData(@Nonnull Map<String, Object> data) {
+    arrayFieldToMap(data, UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME));
+    data.put(
+        FINE_GRAINED_LINEAGES_FIELD_NAME,
+        combineAndTransformFineGrainedLineages(data.get(FINE_GRAINED_LINEAGES_FIELD_NAME)));
+  }
+
+  @Override
+  public void rebaseData(@Nonnull Map<String, Object> patched) {
+    transformedMapToArray(
+        patched, UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME));
+    patched.put(
+        FINE_GRAINED_LINEAGES_FIELD_NAME,
+        reconstructFineGrainedLineages(patched.get(FINE_GRAINED_LINEAGES_FIELD_NAME)));
+  }
+
   /**
    * Combines fine grained lineage array into a map using upstream and downstream types as keys,
    * defaulting when not present. Due to this construction, patches will look like: path:
@@ -340,4 +368,179 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     }
     upstreams.add(instance.textNode(upstream));
   }
+
+  /**
+   * Counterpart of {@link #combineAndTransformFineGrainedLineages(JsonNode)} on the data of the
+   * aspect, producing the same maps.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> combineAndTransformFineGrainedLineages(
+      @Nullable Object fineGrainedLineages) {
+    Map<String, Object> mapNode = new LinkedHashMap<>();
+    if (!(fineGrainedLineages instanceof List) || ((List<?>) fineGrainedLineages).isEmpty()) {
+      return mapNode;
+    }
+
+    for (Object element : (List<Object>) fineGrainedLineages) {
+      Map<String, Object> node = (Map<String, Object>) element;
+      String transformationOperation =
+          node.containsKey(FINE_GRAINED_TRANSFORMATION_OPERATION)
+              ? node.get(FINE_GRAINED_TRANSFORMATION_OPERATION).toString()
+              : NONE_TRANSFORMATION_TYPE;
+      Map<String, Object> transformationOperationNode =
+          (Map<String, Object>)
+              mapNode.computeIfAbsent(transformationOperation, key -> new LinkedHashMap<>());
+
+      List<Object> downstreams = (List<Object>) node.get(FINE_GRAINED_DOWNSTREAMS);
+      if (downstreams == null || downstreams.size() != 1) {
+        throw new UnsupportedOperationException(
+            "Patching not supported on fine grained lineages with not exactly one downstream."
+                + " Current fine grained lineage implementation is downstream derived and "
+                + "patches are keyed on the root of this derivation.");
+      }
+
+      Float confidenceScore =
+          node.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)
+              ? ((Number) node.get(FINE_GRAINED_CONFIDENCE_SCORE)).floatValue()
+              : DEFAULT_CONFIDENCE_SCORE;
+      String upstreamType =
+          node.containsKey(FINE_GRAINED_UPSTREAM_TYPE)
+              ? node.get(FINE_GRAINED_UPSTREAM_TYPE).toString()
+              : null;
+      String downstreamType =
+          node.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)
+              ? node.get(FINE_GRAINED_DOWNSTREAM_TYPE).toString()
+              : null;
+      List<Object> upstreams = (List<Object>) node.get(FINE_GRAINED_UPSTREAMS);
+      String queryId =
+          node.containsKey(FINE_GRAINED_QUERY_ID)
+              ? node.get(FINE_GRAINED_QUERY_ID).toString()
+              : DEFAULT_QUERY_ID;
+
+      if (upstreamType == null) {
+        // Determine default type
+        Urn upstreamUrn =
+            upstreams != null ? UrnUtils.getUrn(upstreams.get(0).toString()) : null;
+        if (upstreamUrn != null && DATASET_ENTITY_NAME.equals(upstreamUrn.getEntityType())) {
+          upstreamType = FINE_GRAINED_LINEAGE_DATASET_TYPE;
+        } else {
+          upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+        }
+      }
+      if (downstreamType == null) {
+        // Always use FIELD type, only support patches for single field downstream
+        downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+      }
+
+      Map<String, Object> downstreamRootNode =
+          (Map<String, Object>)
+              transformationOperationNode.computeIfAbsent(
+                  downstreams.get(0).toString(), key -> new LinkedHashMap<>());
+      Map<String, Object> queryNode =
+          (Map<String, Object>)
+              downstreamRootNode.computeIfAbsent(queryId, key -> new LinkedHashMap<>());
+      if (upstreams != null) {
+        final String lineageUpstreamType = upstreamType;
+        final String lineageDownstreamType = downstreamType;
+        // Same iteration order as the JSON fields set by addUrnsToParent
+        queryNode.putAll(
+            upstreams.stream()
+                .map(Object::toString)
+                .distinct()
+                .collect(
+                    Collectors.toMap(
+                        urn -> urn,
+                        urn ->
+                            mapToLineageValue(
+                                confidenceScore, lineageUpstreamType, lineageDownstreamType))));
+      }
+    }
+    return mapNode;
+  }
+
+  private Map<String, Object> mapToLineageValue(
+      Float confidenceScore, String upstreamType, String downstreamType) {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put(FINE_GRAINED_CONFIDENCE_SCORE, confidenceScore);
+    value.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+    value.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+    return value;
+  }
+
+  /**
+   * Counterpart of {@link #reconstructFineGrainedLineages(JsonNode)} on the patched data of the
+   * aspect.
+   */
+  @SuppressWarnings("unchecked")
+  private DataList reconstructFineGrainedLineages(Object transformedFineGrainedLineages) {
+    if (transformedFineGrainedLineages instanceof List) {
+      // We already have an array, no need to transform. This happens during `replace` operations
+      return (DataList) DataMapPatcher.toData(transformedFineGrainedLineages);
+    }
+    DataList fineGrainedLineages = new DataList();
+    ((Map<String, Object>) transformedFineGrainedLineages)
+        .forEach(
+            (transformationOperation, transformationOperationNode) ->
+                ((Map<String, Object>) transformationOperationNode)
+                    .forEach(
+                        (downstreamName, downstreamNode) ->
+                            ((Map<String, Object>) downstreamNode)
+                                .forEach(
+                                    (queryId, queryNode) ->
+                                        buildFineGrainedLineage(
+                                            downstreamName,
+                                            (Map<String, Object>) queryNode,
+                                            queryId,
+                                            transformationOperation,
+                                            fineGrainedLineages))));
+    return fineGrainedLineages;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void buildFineGrainedLineage(
+      final String downstreamName,
+      final Map<String, Object> queryNode,
+      final String queryId,
+      final String transformationOperation,
+      final DataList fineGrainedLineages) {
+    if (queryNode.isEmpty()) {
+      // Short circuit if no upstreams left
+      return;
+    }
+    // Set defaults, if found in sub nodes override, for confidenceScore take lowest
+    float minimumConfidenceScore = DEFAULT_CONFIDENCE_SCORE;
+    String upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+    String downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+    DataList upstreams = new DataList();
+    for (Map.Entry<String, Object> upstream : queryNode.entrySet()) {
+      final Map<String, Object> upstreamNode = (Map<String, Object>) upstream.getValue();
+      if (upstreamNode.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)) {
+        float scoreValue = ((Number) upstreamNode.get(FINE_GRAINED_CONFIDENCE_SCORE)).floatValue();
+        if (scoreValue <= minimumConfidenceScore) {
+          minimumConfidenceScore = scoreValue;
+        }
+      }
+      // Set types to last encountered, should never change, but this at least tries to support
+      // other types being specified.
+      if (upstreamNode.containsKey(FINE_GRAINED_UPSTREAM_TYPE)) {
+        upstreamType = upstreamNode.get(FINE_GRAINED_UPSTREAM_TYPE).toString();
+      }
+      if (upstreamNode.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)) {
+        downstreamType = upstreamNode.get(FINE_GRAINED_DOWNSTREAM_TYPE).toString();
+      }
+      upstreams.add(upstream.getKey());
+    }
+
+    final DataMap fineGrainedLineage = new DataMap();
+    fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAMS, new DataList(List.of(downstreamName)));
+    fineGrainedLineage.put(FINE_GRAINED_UPSTREAMS, upstreams);
+    if (StringUtils.isNotBlank(queryId) && !DEFAULT_QUERY_ID.equals(queryId)) {
+      fineGrainedLineage.put(FINE_GRAINED_QUERY_ID, queryId);
+    }
+    fineGrainedLineage.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+    fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+    fineGrainedLineage.put(FINE_GRAINED_CONFIDENCE_SCORE, minimumConfidenceScore);
+    fineGrainedLineage.put(FINE_GRAINED_TRANSFORMATION_OPERATION, transformationOperation);
+    fineGrainedLineages.add(fineGrainedLineage);
+  }
 }
@@ -4,6 +4,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
+import com.linkedin.metadata.models.extractor.FieldSpecAccessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,26 @@ public class AspectSpec {
   private final Map<String, TimeseriesFieldCollectionSpec> _timeseriesFieldCollectionSpecs;
   private final Map<String, SearchableRefFieldSpec> _searchableRefFieldSpecs;
 
+  // Field specs compiled for extraction when the spec is loaded
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<SearchableFieldSpec> _searchableFieldAccessor;
+
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<SearchScoreFieldSpec> _searchScoreFieldAccessor;
+
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<RelationshipFieldSpec> _relationshipFieldAccessor;
+
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<TimeseriesFieldSpec> _timeseriesFieldAccessor;
+
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<TimeseriesFieldCollectionSpec>
+      _timeseriesFieldCollectionAccessor;
+
+  @EqualsAndHashCode.Exclude
+  private final FieldSpecAccessor<SearchableRefFieldSpec> _searchableRefFieldAccessor;
+
   // Classpath & Pegasus-specific: Temporary.
   private final RecordDataSchema _schema;
   private final Class<RecordTemplate> _aspectClass;
@@ -76,6 +97,13 @@ public class AspectSpec {
                     spec -> spec.getTimeseriesFieldCollectionAnnotation().getCollectionName(),
                     spec -> spec,
                     (val1, val2) -> val1));
+    _searchableFieldAccessor = FieldSpecAccessor.compile(_searchableFieldSpecs.values());
+    _searchScoreFieldAccessor = FieldSpecAccessor.compile(_searchScoreFieldSpecs.values());
+    _relationshipFieldAccessor = FieldSpecAccessor.compile(_relationshipFieldSpecs.values());
+    _timeseriesFieldAccessor = FieldSpecAccessor.compile(_timeseriesFieldSpecs.values());
+    _timeseriesFieldCollectionAccessor =
+        FieldSpecAccessor.compile(_timeseriesFieldCollectionSpecs.values());
+    _searchableRefFieldAccessor = FieldSpecAccessor.compile(_searchableRefFieldSpecs.values());
     _schema = schema;
     _aspectClass = aspectClass;
   }
@@ -140,6 +168,30 @@ public class AspectSpec {
     return new ArrayList<>(_timeseriesFieldCollectionSpecs.values());
   }
 
+  public FieldSpecAccessor<SearchableFieldSpec> getSearchableFieldAccessor() {
+    return _searchableFieldAccessor;
+  }
+
+  public FieldSpecAccessor<SearchableRefFieldSpec> getSearchableRefFieldAccessor() {
+    return _searchableRefFieldAccessor;
+  }
+
+  public FieldSpecAccessor<SearchScoreFieldSpec> getSearchScoreFieldAccessor() {
+    return _searchScoreFieldAccessor;
+  }
+
+  public FieldSpecAccessor<RelationshipFieldSpec> getRelationshipFieldAccessor() {
+    return _relationshipFieldAccessor;
+  }
+
+  public FieldSpecAccessor<TimeseriesFieldSpec> getTimeseriesFieldAccessor() {
+    return _timeseriesFieldAccessor;
+  }
+
+  public FieldSpecAccessor<TimeseriesFieldCollectionSpec> getTimeseriesFieldCollectionAccessor() {
+    return _timeseriesFieldCollectionAccessor;
+  }
+
   public RecordDataSchema getPegasusSchema() {
     return _schema;
   }
@@ -1,17 +1,15 @@
 package com.linkedin.metadata.models.extractor;
 
-import com.datahub.util.RecordUtils;
-import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.util.Pair;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -19,15 +17,10 @@ import javax.annotation.Nonnull;
 /** Extracts fields from a RecordTemplate based on the appropriate {@link FieldSpec}. */
 public class FieldExtractor {
 
-  private static final String ARRAY_WILDCARD = "*";
   private static final int MAX_VALUE_LENGTH = 200;
 
   private FieldExtractor() {}
 
-  private static long getNumArrayWildcards(PathSpec pathSpec) {
-    return pathSpec.getPathComponents().stream().filter(ARRAY_WILDCARD::equals).count();
-  }
-
   // Extract the value of each field in the field specs from the input record
   public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
       @Nonnull RecordTemplate record, List<T> fieldSpecs) {
@@ -36,41 +29,54 @@ public class FieldExtractor {
 
   public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
       @Nonnull RecordTemplate record, List<T> fieldSpecs, int maxValueLength) {
+    return extractFields(record, FieldSpecAccessor.compile(fieldSpecs), maxValueLength);
+  }
+
+  // Extract the value of each field in the field specs of a precompiled accessor from the record
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nonnull RecordTemplate record, @Nonnull FieldSpecAccessor<T> accessor) {
+    return extractFields(record, accessor, MAX_VALUE_LENGTH);
+  }
+
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nonnull RecordTemplate record, @Nonnull FieldSpecAccessor<T> accessor, int maxValueLength) {
+    final List<T> fieldSpecs = accessor.getFieldSpecs();
+    final Object[] values = accessor.getValues(record);
     final Map<T, List<Object>> extractedFields = new HashMap<>();
-    for (T fieldSpec : fieldSpecs) {
-      Optional<Object> value = RecordUtils.getFieldValue(record, fieldSpec.getPath());
-      if (!value.isPresent()) {
+    for (int i = 0; i < fieldSpecs.size(); i++) {
+      final T fieldSpec = fieldSpecs.get(i);
+      final Object value = values[i];
+      final int numArrayWildcards = accessor.getNumArrayWildcards(i);
+      if (value == null) {
         extractedFields.put(fieldSpec, Collections.emptyList());
-      } else {
-        long numArrayWildcards = getNumArrayWildcards(fieldSpec.getPath());
+      } else if (numArrayWildcards == 0) {
         // Not an array field
-        if (numArrayWildcards == 0) {
-          // For maps, convert it into a list of the form key=value (Filter out long values)
-          if (value.get() instanceof Map) {
-            extractedFields.put(
-                fieldSpec,
-                ((Map<?, ?>) value.get())
-                    .entrySet().stream()
-                        .map(
-                            entry ->
-                                new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
-                        .filter(entry -> entry.getValue().length() < maxValueLength)
-                        .map(entry -> entry.getKey() + "=" + entry.getValue())
-                        .collect(Collectors.toList()));
-          } else {
-            extractedFields.put(fieldSpec, Collections.singletonList(value.get()));
-          }
+        // For maps, convert it into a list of the form key=value (Filter out long values)
+        if (value instanceof Map) {
+          extractedFields.put(
+              fieldSpec,
+              ((Map<?, ?>) value)
+                  .entrySet().stream()
+                      .map(
+                          entry ->
+                              new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
+                      .filter(entry -> entry.getValue().length() < maxValueLength)
+                      .map(entry -> entry.getKey() + "=" + entry.getValue())
+                      .collect(Collectors.toList()));
         } else {
-          List<Object> valueList = (List<Object>) value.get();
-          // If the field is a nested list of values, flatten it
-          for (long i = 0; i < numArrayWildcards - 1; i++) {
-            valueList =
-                valueList.stream()
-                    .flatMap(v -> ((List<Object>) v).stream())
-                    .collect(Collectors.toList());
+          extractedFields.put(fieldSpec, Collections.singletonList(value));
+        }
+      } else {
+        List<Object> valueList = (List<Object>) value;
+        // If the field is a nested list of values, flatten it
+        for (int depth = 1; depth < numArrayWildcards; depth++) {
+          final List<Object> flattened = new ArrayList<>();
+          for (Object nested : valueList) {
+            flattened.addAll((List<Object>) nested);
           }
-          extractedFields.put(fieldSpec, valueList);
+          valueList = flattened;
         }
+        extractedFields.put(fieldSpec, valueList);
       }
     }
     return extractedFields;
@@ -0,0 +1,209 @@
+package com.linkedin.metadata.models.extractor;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.template.AbstractArrayTemplate;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.UnionTemplate;
+import com.linkedin.metadata.models.FieldSpec;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The paths of a list of {@link FieldSpec}s compiled into a tree of field lookups, so that the
+ * values of all the specs are read from a record in a single traversal.
+ *
+ * <p>Values are read as by {@link RecordUtils#getFieldValue(Object, PathSpec)}: record fields
+ * through their getters, union members from their data and arrays by reading the rest of the path
+ * from each of their elements, into a list of the values present.
+ */
+public class FieldSpecAccessor<T extends FieldSpec> {
+
+  private static final String ARRAY_WILDCARD = "*";
+
+  private final List<T> fieldSpecs;
+  private final int[] numArrayWildcards;
+  private final Node root;
+
+  private FieldSpecAccessor(@Nonnull List<T> fieldSpecs) {
+    this.fieldSpecs = Collections.unmodifiableList(fieldSpecs);
+    this.numArrayWildcards = new int[fieldSpecs.size()];
+    this.root = new Node(null);
+    for (int i = 0; i < fieldSpecs.size(); i++) {
+      Node node = root;
+      for (String part : fieldSpecs.get(i).getPath().getPathComponents()) {
+        if (ARRAY_WILDCARD.equals(part)) {
+          numArrayWildcards[i]++;
+        } else {
+          node = node.child(part);
+        }
+      }
+      node.specIndices.add(i);
+    }
+    root.compile();
+  }
+
+  @Nonnull
+  public static <T extends FieldSpec> FieldSpecAccessor<T> compile(
+      @Nonnull Collection<T> fieldSpecs) {
+    return new FieldSpecAccessor<>(new ArrayList<>(fieldSpecs));
+  }
+
+  @Nonnull
+  public List<T> getFieldSpecs() {
+    return fieldSpecs;
+  }
+
+  /** Returns the number of array wildcards in the path of the field spec at an index. */
+  public int getNumArrayWildcards(int index) {
+    return numArrayWildcards[index];
+  }
+
+  /**
+   * Reads the value of each field spec from a record.
+   *
+   * @return the values indexed like {@link #getFieldSpecs()}, null for fields without a value.
+   *     Fields under arrays have a list of the values present in the elements of the array, nested
+   *     for each array on the path.
+   */
+  @Nonnull
+  public Object[] getValues(@Nonnull RecordTemplate record) {
+    final Object[] values = new Object[fieldSpecs.size()];
+    root.read(record, values);
+    return values;
+  }
+
+  /** A field on the paths of the specs, with the fields read from its value. */
+  private static class Node {
+    @Nullable private final String fieldName;
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private final List<Integer> specIndices = new ArrayList<>();
+
+    // Compiled form of the above
+    private Node[] childNodes;
+    private int[] ownSpecs;
+    private int[] childSpecs;
+
+    // The getter of the field for the last record class it was read from
+    @Nullable private volatile Getter getter;
+
+    private Node(@Nullable String fieldName) {
+      this.fieldName = fieldName;
+    }
+
+    private Node child(@Nonnull String part) {
+      return children.computeIfAbsent(part, Node::new);
+    }
+
+    private void compile() {
+      childNodes = children.values().toArray(new Node[0]);
+      ownSpecs = specIndices.stream().mapToInt(Integer::intValue).toArray();
+      for (Node child : childNodes) {
+        child.compile();
+      }
+      // Specs read from the elements when the value of the field is an array
+      childSpecs = Arrays.stream(childNodes).flatMapToInt(Node::subtreeSpecs).toArray();
+    }
+
+    private IntStream subtreeSpecs() {
+      return IntStream.concat(IntStream.of(ownSpecs), IntStream.of(childSpecs));
+    }
+
+    /** Sets the value of the field for the specs ending here and reads the fields below it. */
+    private void read(@Nonnull Object reference, @Nonnull Object[] values) {
+      for (int index : ownSpecs) {
+        values[index] = reference;
+      }
+      if (childNodes.length > 0) {
+        readChildren(reference, values);
+      }
+    }
+
+    private void readChildren(@Nonnull Object reference, @Nonnull Object[] values) {
+      if (reference instanceof AbstractArrayTemplate) {
+        readElements((AbstractArrayTemplate<?>) reference, values);
+        return;
+      }
+      for (Node child : childNodes) {
+        final Object value = child.get(reference);
+        if (value != null) {
+          child.read(value, values);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readElements(@Nonnull AbstractArrayTemplate<?> array, @Nonnull Object[] values) {
+      for (int index : childSpecs) {
+        values[index] = new ArrayList<>(array.size());
+      }
+      final Object[] elementValues = new Object[values.length];
+      for (Object element : array) {
+        readChildren(element, elementValues);
+        for (int index : childSpecs) {
+          if (elementValues[index] != null) {
+            ((List<Object>) values[index]).add(elementValues[index]);
+            elementValues[index] = null;
+          }
+        }
+      }
+    }
+
+    @Nullable
+    private Object get(@Nonnull Object reference) {
+      if (reference instanceof RecordTemplate) {
+        return invokeGetter((RecordTemplate) reference);
+      }
+      if (reference instanceof UnionTemplate) {
+        if (((UnionTemplate) reference).data() instanceof DataMap) {
+          return ((DataMap) ((UnionTemplate) reference).data()).get(fieldName);
+        }
+        throw new RuntimeException(
+            String.format(
+                "Failed to extract member from union [%s], member [%s]",
+                reference.getClass().getCanonicalName(), fieldName));
+      }
+      throw new UnsupportedOperationException(
+          String.format("Failed at extracting %s from %s", fieldName, reference));
+    }
+
+    @Nullable
+    private Object invokeGetter(@Nonnull RecordTemplate record) {
+      Getter cached = getter;
+      if (cached == null || cached.recordClass != record.getClass()) {
+        cached = new Getter(record.getClass(), RecordUtils.getFieldGetter(record, fieldName));
+        getter = cached;
+      }
+      try {
+        return cached.method.invoke(record);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new RuntimeException(
+            String.format(
+                "Failed to execute method for class [%s], field [%s]",
+                record.getClass().getCanonicalName(), fieldName),
+            e);
+      }
+    }
+  }
+
+  private static class Getter {
+    private final Class<?> recordClass;
+    private final Method method;
+
+    private Getter(@Nonnull Class<?> recordClass, @Nonnull Method method) {
+      this.recordClass = recordClass;
+      this.method = method;
+    }
+  }
+}
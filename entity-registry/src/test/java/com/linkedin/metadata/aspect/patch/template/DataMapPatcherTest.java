@@ -0,0 +1,287 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.linkedin.metadata.Constants.GLOBAL_TAGS_ASPECT_NAME;
+import static com.linkedin.metadata.utils.GenericRecordUtils.JSON;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+import com.datahub.util.RecordUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Owner;
+import com.linkedin.common.OwnerArray;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.OwnershipType;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.aspect.patch.template.common.OwnershipTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.DatasetPropertiesTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.EditableSchemaMetadataTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.testng.annotations.Test;
+
+@Slf4j
+public class DataMapPatcherTest {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String UPSTREAM_DATASET =
+      "urn:li:dataset:(urn:li:dataPlatform:bigquery,upstream_table_1,PROD)";
+  private static final String DOWNSTREAM_FIELD =
+      "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:bigquery,downstream_table,PROD),c1)";
+  private static final String UPSTREAM_FIELD =
+      "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:bigquery,upstream_table_1,PROD),c1)";
+  private static final String ESCAPED_UPSTREAM_FIELD =
+      "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:bigquery,upstream_table_1,PROD),slash~1column)";
+
+  @Test
+  public void testPatchGlobalTags() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    GlobalTags globalTags =
+        new GlobalTags()
+            .setTags(
+                new TagAssociationArray(
+                    new TagAssociation().setTag(new TagUrn("a")),
+                    new TagAssociation().setTag(new TagUrn("b"))));
+    JsonPatch patch =
+        Json.createPatchBuilder()
+            .add(
+                "/tags/urn:li:tag:c",
+                Json.createObjectBuilder().add("tag", "urn:li:tag:c").build())
+            .remove("/tags/urn:li:tag:a")
+            .add("/tags/urn:li:tag:b/context", "updated")
+            .build();
+
+    GlobalTags result = assertSamePatch(template, globalTags, patch);
+    assertEquals(result.getTags().size(), 2);
+    assertEquals(result.getTags().get(0).getTag(), new TagUrn("b"));
+    assertEquals(result.getTags().get(0).getContext(), "updated");
+    assertEquals(result.getTags().get(1).getTag(), new TagUrn("c"));
+    // The patched record is left unmodified
+    assertEquals(globalTags.getTags().size(), 2);
+    assertNull(globalTags.getTags().get(1).getContext());
+  }
+
+  @Test
+  public void testPatchCompoundKeys() throws Exception {
+    OwnershipTemplate template = new OwnershipTemplate();
+    Ownership ownership = template.getDefault();
+    ownership.setOwners(
+        new OwnerArray(
+            owner("urn:li:corpuser:a", OwnershipType.TECHNICAL_OWNER),
+            owner("urn:li:corpuser:b", OwnershipType.TECHNICAL_OWNER),
+            owner("urn:li:corpuser:a", OwnershipType.BUSINESS_OWNER)));
+    JsonPatch patch =
+        Json.createPatchBuilder()
+            .add(
+                "/owners/urn:li:corpuser:c/DATAOWNER",
+                Json.createObjectBuilder()
+                    .add("owner", "urn:li:corpuser:c")
+                    .add("type", "DATAOWNER")
+                    .build())
+            .remove("/owners/urn:li:corpuser:b/TECHNICAL_OWNER")
+            .build();
+
+    Ownership result = assertSamePatch(template, ownership, patch);
+    // Owners are grouped by their first key, as by the JSON patch
+    assertEquals(
+        result.getOwners(),
+        new OwnerArray(
+            owner("urn:li:corpuser:a", OwnershipType.TECHNICAL_OWNER),
+            owner("urn:li:corpuser:a", OwnershipType.BUSINESS_OWNER),
+            owner("urn:li:corpuser:c", OwnershipType.DATAOWNER)));
+  }
+
+  @Test
+  public void testPatchStringArray() throws Exception {
+    DatasetPropertiesTemplate template = new DatasetPropertiesTemplate();
+    DatasetProperties datasetProperties =
+        template.getDefault().setTags(new StringArray("first", "second"));
+    JsonPatch patch =
+        Json.createPatchBuilder()
+            .add("/tags/third", "third")
+            .remove("/tags/first")
+            .add("/customProperties/key", "value")
+            .build();
+
+    DatasetProperties result = assertSamePatch(template, datasetProperties, patch);
+    assertEquals(result.getTags(), new StringArray("second", "third"));
+    assertEquals(result.getCustomProperties().get("key"), "value");
+  }
+
+  @Test
+  public void testPatchUpstreamLineage() throws Exception {
+    UpstreamLineageTemplate template = new UpstreamLineageTemplate();
+    JsonPatch patch =
+        Json.createPatchBuilder()
+            .add(
+                "/upstreams/" + UPSTREAM_DATASET,
+                Json.createObjectBuilder()
+                    .add("dataset", UPSTREAM_DATASET)
+                    .add("type", "TRANSFORMED")
+                    .add(
+                        "auditStamp",
+                        Json.createObjectBuilder()
+                            .add("time", 0)
+                            .add("actor", "urn:li:corpuser:unknown"))
+                    .build())
+            .add(
+                "/fineGrainedLineages/TRANSFORM/" + DOWNSTREAM_FIELD + "/NONE/" + UPSTREAM_FIELD,
+                Json.createObjectBuilder().add("confidenceScore", 0.5).build())
+            .add(
+                "/fineGrainedLineages/TRANSFORM/"
+                    + DOWNSTREAM_FIELD
+                    + "/urn:li:query:someQuery/"
+                    + ESCAPED_UPSTREAM_FIELD,
+                Json.createObjectBuilder().add("confidenceScore", 1.0).build())
+            .build();
+
+    UpstreamLineage result = assertSamePatch(template, template.getDefault(), patch);
+    assertEquals(result.getUpstreams().size(), 1);
+    assertEquals(result.getFineGrainedLineages().size(), 2);
+    assertEquals(result.getFineGrainedLineages().get(0).getConfidenceScore(), Float.valueOf(0.5f));
+    assertEquals(
+        result.getFineGrainedLineages().get(1).getUpstreams().get(0).toString(),
+        ESCAPED_UPSTREAM_FIELD.replace("~1", "/"));
+
+    JsonPatch removePatch =
+        Json.createPatchBuilder()
+            .remove("/upstreams/" + UPSTREAM_DATASET)
+            .remove(
+                "/fineGrainedLineages/TRANSFORM/" + DOWNSTREAM_FIELD + "/NONE/" + UPSTREAM_FIELD)
+            .build();
+    UpstreamLineage removed = assertSamePatch(template, result, removePatch);
+    assertEquals(removed.getUpstreams().size(), 0);
+    assertEquals(removed.getFineGrainedLineages().size(), 1);
+  }
+
+  @Test
+  public void testUnsupportedPatchFallsBack() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    JsonPatch replacePatch =
+        Json.createPatchBuilder().replace("/tags", Json.createArrayBuilder().build()).build();
+    assertNull(DataMapPatcher.applyPatch(template, template.getDefault(), replacePatch));
+
+    // The engine falls back to the JSON patch, which rejects the operation as before
+    AspectSpec aspectSpec = mock(AspectSpec.class);
+    when(aspectSpec.getName()).thenReturn(GLOBAL_TAGS_ASPECT_NAME);
+    AspectTemplateEngine engine =
+        new AspectTemplateEngine(Map.of(GLOBAL_TAGS_ASPECT_NAME, template));
+    assertThrows(
+        RuntimeException.class,
+        () -> engine.applyPatch(template.getDefault(), replacePatch, aspectSpec));
+
+    JsonPatch addPatch =
+        Json.createPatchBuilder()
+            .add(
+                "/tags/urn:li:tag:a",
+                Json.createObjectBuilder().add("tag", "urn:li:tag:a").build())
+            .build();
+    GlobalTags result =
+        (GlobalTags) engine.applyPatch(template.getDefault(), addPatch, aspectSpec);
+    assertEquals(result.getTags().get(0).getTag(), new TagUrn("a"));
+  }
+
+  @Test
+  public void testUnsupportedTemplateFallsBack() {
+    EditableSchemaMetadataTemplate template = new EditableSchemaMetadataTemplate();
+    JsonPatch removePatch = Json.createPatchBuilder().remove("/created").build();
+    assertNull(DataMapPatcher.applyPatch(template, template.getDefault(), removePatch));
+  }
+
+  /** Checks a large lineage patch and logs the time taken by both patch paths. */
+  @Test
+  public void testLargePatchBenchmark() throws Exception {
+    String patchStr =
+        OBJECT_MAPPER
+            .readTree(
+                new GzipCompressorInputStream(
+                    this.getClass()
+                        .getResourceAsStream("/patch/large_upstream_lineage_mcp.json.gz")))
+            .get("aspect")
+            .get("com.linkedin.pegasus2avro.mxe.GenericAspect")
+            .get("value")
+            .asText();
+    JsonPatchBuilder patchBuilder =
+        Json.createPatchBuilder(Json.createReader(new StringReader(patchStr)).readArray());
+    patchBuilder.remove(
+        "/upstreams/urn:li:dataset:(urn:li:dataPlatform:snowflake,road_curated_nrt.db_3134_dbo.lineitem,PROD)");
+    JsonPatch jsonPatch = patchBuilder.build();
+
+    String aspectStr =
+        OBJECT_MAPPER
+            .readTree(
+                new GzipCompressorInputStream(
+                    this.getClass()
+                        .getResourceAsStream("/patch/large_upstream_lineage_aspect.json.gz")))
+            .get("select")
+            .get(0)
+            .get("metadata")
+            .asText();
+    UpstreamLineage upstreamLineage =
+        GenericRecordUtils.deserializeAspect(
+            ByteString.copyString(aspectStr, StandardCharsets.UTF_8), JSON, UpstreamLineage.class);
+    UpstreamLineageTemplate template = new UpstreamLineageTemplate();
+
+    // Warm up both paths before timing them
+    UpstreamLineage result = assertSamePatch(template, upstreamLineage, jsonPatch);
+    assertEquals(result.getUpstreams().size(), 187);
+    assertEquals(result.getFineGrainedLineages().size(), 607);
+
+    int iterations = 3;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      template.applyPatch(upstreamLineage, jsonPatch);
+    }
+    long jsonNanos = (System.nanoTime() - start) / iterations;
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      DataMapPatcher.applyPatch(template, upstreamLineage, jsonPatch);
+    }
+    long dataMapNanos = (System.nanoTime() - start) / iterations;
+
+    // Logged rather than asserted, relative timings are not reliable on shared build machines
+    log.info(
+        "Large lineage patch: JSON {} ms, DataMap {} ms",
+        jsonNanos / 1_000_000,
+        dataMapNanos / 1_000_000);
+  }
+
+  /** Asserts that the DataMap patch gives the same aspect as the JSON patch. */
+  private static <T extends RecordTemplate> T assertSamePatch(
+      Template<T> template, RecordTemplate recordTemplate, JsonPatch jsonPatch) throws Exception {
+    T expected = template.applyPatch(recordTemplate, jsonPatch);
+    T actual = DataMapPatcher.applyPatch(template, recordTemplate, jsonPatch);
+    assertNotNull(actual);
+    // Compared as JSON, numbers read back from the JSON path are doubles and ints
+    assertEquals(
+        OBJECT_MAPPER.readTree(RecordUtils.toJsonString(actual)),
+        OBJECT_MAPPER.readTree(RecordUtils.toJsonString(expected)));
+    return actual;
+  }
+
+  private static Owner owner(String urn, OwnershipType type) {
+    return new Owner().setOwner(UrnUtils.getUrn(urn)).setType(type);
+  }
+}
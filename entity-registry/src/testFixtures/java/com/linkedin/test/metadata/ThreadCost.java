@@ -0,0 +1,35 @@
+package com.linkedin.test.metadata;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import lombok.Value;
+
+/**
+ * The average time and bytes allocated by a round of a code path on the current thread, for tests
+ * that log the cost of an implementation next to the one it replaces.
+ */
+@Value
+public class ThreadCost {
+  long nanos;
+  long bytes;
+
+  // Keeps the results of the rounds reachable, so that they aren't optimized away
+  private static volatile Object sink;
+
+  /** Runs a code path a number of rounds and measures the average cost of a round. */
+  @Nonnull
+  public static ThreadCost measure(int rounds, @Nonnull Supplier<?> codePath) {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      sink = codePath.get();
+    }
+    long nanos = System.nanoTime() - startNanos;
+    long bytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+    return new ThreadCost(nanos / rounds, bytes / rounds);
+  }
+}
@@ -480,10 +480,9 @@ public class RecordUtils {
    */
   @Nullable
   private static Object invokeMethod(@Nonnull RecordTemplate record, @Nonnull String fieldName) {
-    METHOD_CACHE.putIfAbsent(record.getClass(), getMethodsFromRecordTemplate(record));
     try {
-      return METHOD_CACHE.get(record.getClass()).get(fieldName).invoke(record);
-    } catch (NullPointerException | IllegalAccessException | InvocationTargetException e) {
+      return getFieldGetter(record, fieldName).invoke(record);
+    } catch (IllegalAccessException | InvocationTargetException e) {
       throw new RuntimeException(
           String.format(
               "Failed to execute method for class [%s], field [%s]",
@@ -492,6 +491,29 @@ public class RecordUtils {
     }
   }
 
+  /**
+   * Returns the get/is method of a field of a {@link RecordTemplate}, finding and caching the
+   * methods for all schema fields of the record the first time one of its fields is referenced.
+   *
+   * @param record {@link RecordTemplate} whose field has to be referenced
+   * @param fieldName field name of the record that has to be referenced
+   * @return the get/is method of the field
+   */
+  @Nonnull
+  public static Method getFieldGetter(@Nonnull RecordTemplate record, @Nonnull String fieldName) {
+    final Method method =
+        METHOD_CACHE
+            .computeIfAbsent(record.getClass(), k -> getMethodsFromRecordTemplate(record))
+            .get(fieldName);
+    if (method == null) {
+      throw new RuntimeException(
+          String.format(
+              "Failed to execute method for class [%s], field [%s]",
+              record.getClass().getCanonicalName(), fieldName));
+    }
+    return method;
+  }
+
   @Nullable
   private static Object getUnionMember(@Nonnull UnionTemplate union, @Nonnull String memberName) {
     if (union.data() instanceof DataMap) {
@@ -17,7 +17,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
@@ -93,6 +98,10 @@ public class EventUtils {
   private static final Schema RENAMED_DUHE_AVRO_SCHEMA =
       com.linkedin.pegasus2avro.mxe.DataHubUpgradeHistoryEvent.SCHEMA$;
 
+  private static final Map<String, Schema> RENAMED_AVRO_SCHEMAS =
+      Stream.of(RENAMED_MCL_AVRO_SCHEMA, RENAMED_MCP_AVRO_SCHEMA, RENAMED_PE_AVRO_SCHEMA)
+          .collect(Collectors.toMap(Schema::getFullName, Function.identity()));
+
   private EventUtils() {
     // Util class
   }
@@ -119,7 +128,7 @@ public class EventUtils {
       throws IOException {
     return new MetadataAuditEvent(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MAE_AVRO_SCHEMA, ORIGINAL_MAE_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_MAE_AVRO_SCHEMA, ORIGINAL_MAE_AVRO_SCHEMA),
             MAE_PEGASUS_SCHEMA,
             ORIGINAL_MAE_AVRO_SCHEMA));
   }
@@ -136,7 +145,7 @@ public class EventUtils {
       throws IOException {
     return new MetadataChangeEvent(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCE_AVRO_SCHEMA, ORIGINAL_MCE_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_MCE_AVRO_SCHEMA, ORIGINAL_MCE_AVRO_SCHEMA),
             MCE_PEGASUS_SCHEMA,
             ORIGINAL_MCE_AVRO_SCHEMA));
   }
@@ -153,7 +162,7 @@ public class EventUtils {
       throws IOException {
     return new MetadataChangeLog(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCL_AVRO_SCHEMA, ORIGINAL_MCL_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_MCL_AVRO_SCHEMA, ORIGINAL_MCL_AVRO_SCHEMA),
             MCL_PEGASUS_SCHEMA,
             ORIGINAL_MCL_AVRO_SCHEMA));
   }
@@ -170,7 +179,7 @@ public class EventUtils {
       throws IOException {
     return new MetadataChangeProposal(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCP_AVRO_SCHEMA, ORIGINAL_MCP_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_MCP_AVRO_SCHEMA, ORIGINAL_MCP_AVRO_SCHEMA),
             MCP_PEGASUS_SCHEMA,
             ORIGINAL_MCP_AVRO_SCHEMA));
   }
@@ -186,7 +195,7 @@ public class EventUtils {
   public static PlatformEvent avroToPegasusPE(@Nonnull GenericRecord record) throws IOException {
     return new PlatformEvent(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_PE_AVRO_SCHEMA, ORIGINAL_PE_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_PE_AVRO_SCHEMA, ORIGINAL_PE_AVRO_SCHEMA),
             PE_PEGASUS_SCHEMA,
             ORIGINAL_PE_AVRO_SCHEMA));
   }
@@ -203,7 +212,7 @@ public class EventUtils {
       throws IOException {
     return new DataHubUpgradeHistoryEvent(
         DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_DUHE_AVRO_SCHEMA, ORIGINAL_DUHE_AVRO_SCHEMA),
+            toRenamedSchema(record, RENAMED_DUHE_AVRO_SCHEMA, ORIGINAL_DUHE_AVRO_SCHEMA),
             DUHE_PEGASUS_SCHEMA,
             ORIGINAL_DUHE_AVRO_SCHEMA));
   }
@@ -359,6 +368,33 @@ public class EventUtils {
     return renameSchemaNamespace(original, RENAMED_DUHE_AVRO_SCHEMA);
   }
 
+  /**
+   * Gets the renamed namespace schema records written with the given schema are read with, for
+   * records to be deserialized straight into it so that they are not re-encoded by the
+   * avroToPegasus methods.
+   *
+   * @param writerSchemaFullName full name of the writer schema of the records
+   * @return the com.linkedin.pegasus2avro schema of the MCL, MCP or PE, null for other schemas
+   */
+  @Nullable
+  public static Schema getRenamedAvroSchema(@Nonnull String writerSchemaFullName) {
+    return RENAMED_AVRO_SCHEMAS.get(writerSchemaFullName);
+  }
+
+  /**
+   * Reads a record with the renamed namespace schema, unless it was already read with it, in which
+   * case renaming it would only re-encode the same data.
+   */
+  @Nonnull
+  private static GenericRecord toRenamedSchema(
+      @Nonnull GenericRecord record, @Nonnull Schema renamedSchema, @Nonnull Schema originalSchema)
+      throws IOException {
+    if (record.getSchema() == renamedSchema) {
+      return record;
+    }
+    return renameSchemaNamespace(record, renamedSchema, originalSchema);
+  }
+
   /**
    * Converts original MXE into a renamed namespace Does a double convert that should not be
    * necessary since we're already converting prior to calling this method in most spots
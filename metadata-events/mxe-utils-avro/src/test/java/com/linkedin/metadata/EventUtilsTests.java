@@ -5,10 +5,13 @@ import static org.testng.Assert.*;
 
 import com.datahub.util.RecordUtils;
 import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.mxe.FailedMetadataChangeEvent;
 import com.linkedin.mxe.MetadataAuditEvent;
 import com.linkedin.mxe.MetadataChangeEvent;
+import com.linkedin.mxe.MetadataChangeLog;
 import java.io.IOException;
 import java.io.InputStream;
 import org.apache.avro.Schema;
@@ -97,6 +100,26 @@ public class EventUtilsTests {
     assertNotNull(record.get("metadataChangeEvent"));
   }
 
+  @Test
+  public void testAvroToPegasusMCLRenamedSchema() throws IOException {
+    MetadataChangeLog event =
+        new MetadataChangeLog()
+            .setEntityType("dataset")
+            .setEntityUrn(
+                UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)"))
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName("status");
+
+    GenericRecord record = EventUtils.pegasusToAvroMCL(event);
+
+    assertSame(
+        EventUtils.getRenamedAvroSchema(record.getSchema().getFullName()), record.getSchema());
+    assertEquals(EventUtils.avroToPegasusMCL(record), event);
+    assertNull(
+        EventUtils.getRenamedAvroSchema(
+            com.linkedin.pegasus2avro.mxe.MetadataChangeEvent.SCHEMA$.getFullName()));
+  }
+
   private GenericRecord genericRecordFromResource(String resourcePath, Schema schema)
       throws IOException {
     InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
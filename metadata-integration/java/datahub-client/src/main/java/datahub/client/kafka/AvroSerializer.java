@@ -42,7 +42,7 @@ class AvroSerializer {
     GenericRecord genericRecord = new GenericData.Record(this._recordSchema);
     genericRecord.put("entityUrn", mcp.getEntityUrn().toString());
     GenericRecord genericAspect = new GenericData.Record(this._genericAspectSchema);
-    genericAspect.put("contentType", "application/json");
+    genericAspect.put("contentType", mcp.getAspect().getContentType());
     genericAspect.put("value", mcp.getAspect().getValue().asByteBuffer());
     genericRecord.put("aspect", genericAspect);
     genericRecord.put("aspectName", mcp.getAspectName());
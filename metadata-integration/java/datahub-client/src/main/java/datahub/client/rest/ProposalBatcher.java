@@ -0,0 +1,234 @@
+package datahub.client.rest;
+
+import datahub.client.Callback;
+import datahub.client.MetadataWriteResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces serialized proposals into batch ingestion requests. A batch is sent once it holds the
+ * maximum number of proposals or bytes, or once the linger time has passed since its first
+ * proposal. At most a maximum number of batches are in flight, adding a proposal that fills a batch
+ * blocks until one completes.
+ *
+ * <p>Each proposal gets its own future and callback, completed with the response to its batch.
+ */
+@ThreadSafe
+@Slf4j
+class ProposalBatcher implements Closeable {
+
+  /** Sends a batch ingestion request, calling back with its response. */
+  @FunctionalInterface
+  interface BatchSender {
+    void send(@Nonnull String payload, @Nonnull Callback callback) throws IOException;
+  }
+
+  private static final String PAYLOAD_PREFIX = "{\"proposals\":[";
+  private static final String PAYLOAD_SUFFIX = "]}";
+
+  private final int maxItems;
+  private final int maxBytes;
+  private final long lingerMs;
+  private final int maxInFlight;
+  private final BatchSender sender;
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService scheduler;
+
+  private final Object lock = new Object();
+  private List<PendingProposal> pending = new ArrayList<>();
+  private int pendingBytes = 0;
+  private ScheduledFuture<?> lingerFlush;
+  private boolean closed = false;
+
+  ProposalBatcher(
+      int maxItems, int maxBytes, long lingerMs, int maxInFlight, @Nonnull BatchSender sender) {
+    this.maxItems = Math.max(1, maxItems);
+    this.maxBytes = Math.max(1, maxBytes);
+    this.lingerMs = Math.max(0, lingerMs);
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.sender = sender;
+    this.inFlight = new Semaphore(this.maxInFlight);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "datahub-rest-emitter-batcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Adds a proposal to the current batch.
+   *
+   * @param serializedProposal the proposal serialized as JSON
+   * @param callback if not null, is called from the IO thread once the batch completes
+   * @return a future completed with the response to the batch of the proposal
+   */
+  Future<MetadataWriteResponse> add(@Nonnull String serializedProposal, @Nullable Callback callback)
+      throws IOException {
+    PendingProposal proposal = new PendingProposal(serializedProposal, callback);
+    List<List<PendingProposal>> batches = new ArrayList<>(2);
+    synchronized (lock) {
+      if (closed) {
+        throw new IOException("Emitter is closed");
+      }
+      // A proposal that does not fit in the current batch starts the next one
+      if (!pending.isEmpty() && pendingBytes + proposal.bytes > maxBytes) {
+        batches.add(takePending());
+      }
+      pending.add(proposal);
+      pendingBytes += proposal.bytes;
+      if (pending.size() >= maxItems || pendingBytes >= maxBytes) {
+        batches.add(takePending());
+      } else if (lingerFlush == null) {
+        lingerFlush = scheduler.schedule(this::lingerFlush, lingerMs, TimeUnit.MILLISECONDS);
+      }
+    }
+    for (List<PendingProposal> batch : batches) {
+      send(batch);
+    }
+    return proposal.future;
+  }
+
+  /** Sends the current batch, whatever its size. */
+  void flush() {
+    List<PendingProposal> batch;
+    synchronized (lock) {
+      batch = takePending();
+    }
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  /** Sends the current batch and waits for all batches in flight to complete. */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+    }
+    flush();
+    try {
+      inFlight.acquire(maxInFlight);
+      inFlight.release(maxInFlight);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for batches in flight to complete.");
+    }
+    scheduler.shutdownNow();
+  }
+
+  private void lingerFlush() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Error sending batch after linger time.", e);
+    }
+  }
+
+  // Must be called with the lock held
+  private List<PendingProposal> takePending() {
+    List<PendingProposal> batch = pending;
+    pending = new ArrayList<>();
+    pendingBytes = 0;
+    if (lingerFlush != null) {
+      lingerFlush.cancel(false);
+      lingerFlush = null;
+    }
+    return batch;
+  }
+
+  private void send(List<PendingProposal> batch) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      fail(batch, e);
+      return;
+    }
+
+    StringBuilder payload = new StringBuilder(PAYLOAD_PREFIX);
+    for (int i = 0; i < batch.size(); i++) {
+      if (i > 0) {
+        payload.append(',');
+      }
+      payload.append(batch.get(i).serializedProposal);
+    }
+    payload.append(PAYLOAD_SUFFIX);
+
+    log.debug("Sending batch of {} proposals", batch.size());
+    try {
+      sender.send(
+          payload.toString(),
+          new Callback() {
+            @Override
+            public void onCompletion(@Nullable MetadataWriteResponse response) {
+              inFlight.release();
+              batch.forEach(proposal -> proposal.complete(response));
+            }
+
+            @Override
+            public void onFailure(Throwable exception) {
+              inFlight.release();
+              fail(batch, exception);
+            }
+          });
+    } catch (IOException | RuntimeException e) {
+      inFlight.release();
+      fail(batch, e);
+    }
+  }
+
+  private static void fail(List<PendingProposal> batch, Throwable exception) {
+    batch.forEach(proposal -> proposal.fail(exception));
+  }
+
+  private static class PendingProposal {
+    private final String serializedProposal;
+    private final int bytes;
+    @Nullable private final Callback callback;
+    private final CompletableFuture<MetadataWriteResponse> future = new CompletableFuture<>();
+
+    private PendingProposal(@Nonnull String serializedProposal, @Nullable Callback callback) {
+      this.serializedProposal = serializedProposal;
+      this.bytes = serializedProposal.getBytes(StandardCharsets.UTF_8).length;
+      this.callback = callback;
+    }
+
+    private void complete(@Nullable MetadataWriteResponse response) {
+      future.complete(response);
+      if (callback != null) {
+        try {
+          callback.onCompletion(response);
+        } catch (Exception e) {
+          log.error("Error executing user callback on completion.", e);
+        }
+      }
+    }
+
+    private void fail(Throwable exception) {
+      future.completeExceptionally(exception);
+      if (callback != null) {
+        try {
+          callback.onFailure(exception);
+        } catch (Exception e) {
+          log.error("Error executing user callback on failure.", e);
+        }
+      }
+    }
+  }
+}
@@ -70,6 +70,7 @@ public class RestEmitter implements Emitter {
 
   private final RestEmitterConfig config;
   private final String ingestProposalUrl;
+  private final String ingestProposalBatchUrl;
   private final String ingestOpenApiUrl;
   private final String configUrl;
 
@@ -77,6 +78,7 @@ public class RestEmitter implements Emitter {
   private final JacksonDataTemplateCodec dataTemplateCodec;
   private final CloseableHttpAsyncClient httpClient;
   private final EventFormatter eventFormatter;
+  private final ProposalBatcher batcher;
 
   /**
    * The default constructor, prefer using the `create` factory method.
@@ -139,9 +141,20 @@ public class RestEmitter implements Emitter {
     this.httpClient = httpClientBuilder.build();
     this.httpClient.start();
     this.ingestProposalUrl = this.config.getServer() + "/aspects?action=ingestProposal";
+    this.ingestProposalBatchUrl = this.config.getServer() + "/aspects?action=ingestProposalBatch";
     this.ingestOpenApiUrl = config.getServer() + "/openapi/entities/v1/";
     this.configUrl = this.config.getServer() + "/config";
     this.eventFormatter = this.config.getEventFormatter();
+    this.batcher =
+        config.isBatchingEnabled()
+            ? new ProposalBatcher(
+                config.getBatchMaxItems(),
+                config.getBatchMaxBytes(),
+                config.getBatchLingerMs(),
+                config.getBatchMaxInFlight(),
+                (payload, callback) ->
+                    this.postGeneric(this.ingestProposalBatchUrl, payload, null, callback))
+            : null;
   }
 
   private static MetadataWriteResponse mapResponse(SimpleHttpResponse response) {
@@ -205,6 +218,11 @@ public class RestEmitter implements Emitter {
   @Override
   public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback callback)
       throws IOException {
+    if (batcher != null) {
+      String serializedMCP = dataTemplateCodec.mapToString(mcp.data());
+      log.debug("Emit: batching payload: {}\n", serializedMCP);
+      return batcher.add(serializedMCP, callback);
+    }
     DataMap map = new DataMap();
     map.put("proposal", mcp.data());
     String serializedMCP = dataTemplateCodec.mapToString(map);
@@ -294,8 +312,19 @@ public class RestEmitter implements Emitter {
     return this.getGeneric(this.configUrl).get().isSuccess();
   }
 
+  /** Sends the proposals batched so far, if batching is enabled. */
+  public void flush() {
+    if (batcher != null) {
+      batcher.flush();
+    }
+  }
+
   @Override
   public void close() throws IOException {
+    // Batched proposals are sent and completed before the client is closed
+    if (batcher != null) {
+      batcher.close();
+    }
     this.httpClient.close();
   }
 
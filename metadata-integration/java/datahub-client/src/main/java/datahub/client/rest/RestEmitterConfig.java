@@ -24,6 +24,10 @@ public class RestEmitterConfig {
   public static final int DEFAULT_READ_TIMEOUT_SEC = 10;
   public static final String DEFAULT_AUTH_TOKEN = null;
   public static final String CLIENT_VERSION_PROPERTY = "clientVersion";
+  public static final int DEFAULT_BATCH_MAX_ITEMS = 100;
+  public static final int DEFAULT_BATCH_MAX_BYTES = 1024 * 1024;
+  public static final long DEFAULT_BATCH_LINGER_MS = 100;
+  public static final int DEFAULT_BATCH_MAX_IN_FLIGHT = 4;
 
   @Builder.Default String server = "http://localhost:8080";
 
@@ -43,6 +47,21 @@ public class RestEmitterConfig {
 
   HttpAsyncClientBuilder asyncHttpClientBuilder;
 
+  /**
+   * Coalesce emitted proposals into batch ingestion requests, sent once a batch reaches {@link
+   * #batchMaxItems} proposals or {@link #batchMaxBytes} bytes, or {@link #batchLingerMs} after its
+   * first proposal. At most {@link #batchMaxInFlight} batches are sent at a time.
+   */
+  @Builder.Default boolean batchingEnabled = false;
+
+  @Builder.Default int batchMaxItems = DEFAULT_BATCH_MAX_ITEMS;
+
+  @Builder.Default int batchMaxBytes = DEFAULT_BATCH_MAX_BYTES;
+
+  @Builder.Default long batchLingerMs = DEFAULT_BATCH_LINGER_MS;
+
+  @Builder.Default int batchMaxInFlight = DEFAULT_BATCH_MAX_IN_FLIGHT;
+
   public static class RestEmitterConfigBuilder {
 
     private String getVersion() {
@@ -419,6 +419,121 @@ public class RestEmitterTest {
     Assert.assertEquals(callbackResponse.get(), future.get());
   }
 
+  @Test
+  public void testBatching() throws Exception {
+    TestDataHubServer testDataHubServer = new TestDataHubServer();
+    Integer port = testDataHubServer.getMockServer().getPort();
+    testDataHubServer
+        .getMockServer()
+        .when(
+            request()
+                .withMethod("POST")
+                .withPath("/aspects")
+                .withQueryStringParameter("action", "ingestProposalBatch"),
+            Times.unlimited())
+        .respond(org.mockserver.model.HttpResponse.response().withStatusCode(200));
+    RestEmitter emitter =
+        RestEmitter.create(
+            b ->
+                b.server("http://localhost:" + port)
+                    .batchingEnabled(true)
+                    .batchMaxItems(2)
+                    .batchLingerMs(60000));
+
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(
+          emitter.emit(
+              getMetadataChangeProposalWrapper(
+                  "Test Dataset " + i,
+                  "urn:li:dataset:(urn:li:dataPlatform:hive,foo.bar" + i + ",PROD)"),
+              null));
+    }
+    // The first two proposals fill a batch, the third is sent on close
+    Assert.assertTrue(futures.get(0).get(10, TimeUnit.SECONDS).isSuccess());
+    Assert.assertTrue(futures.get(1).get(10, TimeUnit.SECONDS).isSuccess());
+    Assert.assertFalse(futures.get(2).isDone());
+    emitter.close();
+    Assert.assertTrue(futures.get(2).get(10, TimeUnit.SECONDS).isSuccess());
+
+    testDataHubServer
+        .getMockServer()
+        .verify(
+            request()
+                .withPath("/aspects")
+                .withQueryStringParameter("action", "ingestProposalBatch"),
+            VerificationTimes.exactly(2));
+    testDataHubServer
+        .getMockServer()
+        .verify(
+            request().withQueryStringParameter("action", "ingestProposal"),
+            VerificationTimes.exactly(0));
+    String expectedContent =
+        "{\"proposals\":[{\"aspectName\":\"datasetProperties\","
+            + "\"entityUrn\":\"urn:li:dataset:(urn:li:dataPlatform:hive,foo.bar2,PROD)\","
+            + "\"entityType\":\"dataset\",\"changeType\":\"UPSERT\","
+            + "\"aspect\":{\"contentType\":\"application/json\""
+            + ",\"value\":\"{\\\"description\\\":\\\"Test Dataset 2\\\"}\"}}]}";
+    testDataHubServer
+        .getMockServer()
+        .verify(request().withBody(expectedContent), VerificationTimes.exactly(1));
+  }
+
+  @Test
+  public void testBatchingLingerAndCallbacks() throws Exception {
+    TestDataHubServer testDataHubServer = new TestDataHubServer();
+    Integer port = testDataHubServer.getMockServer().getPort();
+    testDataHubServer
+        .getMockServer()
+        .when(
+            request()
+                .withMethod("POST")
+                .withPath("/aspects")
+                .withQueryStringParameter("action", "ingestProposalBatch"),
+            Times.unlimited())
+        .respond(
+            org.mockserver.model.HttpResponse.response().withStatusCode(500).withBody("exception"));
+    RestEmitter emitter =
+        RestEmitter.create(
+            b ->
+                b.server("http://localhost:" + port)
+                    .batchingEnabled(true)
+                    .batchMaxItems(100)
+                    .batchLingerMs(100));
+
+    CountDownLatch latch = new CountDownLatch(2);
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      futures.add(
+          emitter.emit(
+              getMetadataChangeProposalWrapper("Test Dataset", "urn:li:dataset:foo" + i),
+              new Callback() {
+                @Override
+                public void onCompletion(MetadataWriteResponse response) {
+                  Assert.assertFalse(response.isSuccess());
+                  latch.countDown();
+                }
+
+                @Override
+                public void onFailure(Throwable exception) {
+                  Assert.fail("Should not be called");
+                }
+              }));
+    }
+
+    // The batch is sent after the linger time without a flush
+    Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    for (Future<MetadataWriteResponse> future : futures) {
+      Assert.assertFalse(future.get().isSuccess());
+    }
+    testDataHubServer
+        .getMockServer()
+        .verify(
+            request().withQueryStringParameter("action", "ingestProposalBatch"),
+            VerificationTimes.exactly(1));
+    emitter.close();
+  }
+
   @Test
   public void testTimeoutOnGet() {
     TestDataHubServer testDataHubServer = new TestDataHubServer();
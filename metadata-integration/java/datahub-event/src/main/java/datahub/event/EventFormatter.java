@@ -7,12 +7,18 @@ import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.PsonDataCodec;
 import com.linkedin.data.template.JacksonDataTemplateCodec;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeProposal;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import lombok.SneakyThrows;
 
 /** A class that helps to format Metadata events for transport */
@@ -21,6 +27,7 @@ public class EventFormatter {
   private final ObjectMapper objectMapper;
 
   private final JacksonDataTemplateCodec dataTemplateCodec;
+  private final PsonDataCodec psonDataCodec = new PsonDataCodec();
   private final Format serializationFormat;
 
   public EventFormatter(Format serializationFormat) {
@@ -43,8 +50,6 @@ public class EventFormatter {
   @SneakyThrows(URISyntaxException.class)
   public MetadataChangeProposal convert(MetadataChangeProposalWrapper mcpw) throws IOException {
 
-    String serializedAspect =
-        StringEscapeUtils.escapeJava(dataTemplateCodec.dataTemplateToString(mcpw.getAspect()));
     MetadataChangeProposal mcp =
         new MetadataChangeProposal()
             .setEntityType(mcpw.getEntityType())
@@ -55,6 +60,9 @@ public class EventFormatter {
     switch (this.serializationFormat) {
       case PEGASUS_JSON:
         {
+          String serializedAspect =
+              StringEscapeUtils.escapeJava(
+                  dataTemplateCodec.dataTemplateToString(mcpw.getAspect()));
           mcp.setAspect(
               new GenericAspect()
                   .setContentType("application/json")
@@ -62,6 +70,18 @@ public class EventFormatter {
                       ByteString.unsafeWrap(serializedAspect.getBytes(StandardCharsets.UTF_8))));
         }
         break;
+      case PEGASUS_PSON:
+        mcp.setAspect(
+            new GenericAspect()
+                .setContentType("application/x-pson")
+                .setValue(ByteString.unsafeWrap(toPson(mcpw, false))));
+        break;
+      case PEGASUS_PSON_DEFLATE:
+        mcp.setAspect(
+            new GenericAspect()
+                .setContentType("application/x-pson+deflate")
+                .setValue(ByteString.unsafeWrap(toPson(mcpw, true))));
+        break;
       default:
         throw new EventValidationException(
             "Cannot handle serialization format " + this.serializationFormat);
@@ -69,7 +89,22 @@ public class EventFormatter {
     return mcp;
   }
 
+  private byte[] toPson(MetadataChangeProposalWrapper mcpw, boolean deflate) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out =
+        deflate ? new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED)) : bytes) {
+      psonDataCodec.writeMap((DataMap) mcpw.getAspect().data(), out);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Serialization formats of the aspects of proposals. The binary PSON formats are smaller and
+   * cheaper to encode and decode than JSON, but require a DataHub version that supports them.
+   */
   public enum Format {
     PEGASUS_JSON,
+    PEGASUS_PSON,
+    PEGASUS_PSON_DEFLATE,
   }
 }
@@ -1,10 +1,12 @@
 package datahub.event;
 
+import com.linkedin.data.codec.PsonDataCodec;
 import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.mxe.MetadataChangeProposal;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
 import org.junit.Test;
 import org.testng.Assert;
 
@@ -50,4 +52,29 @@ public class EventFormatterTest {
             + "\\u02DA\\u00AC\\u2026\\u00E6\\u03A9\\u2248\\u00E7\\u221A\\u222B\\u02DC\\u02DC\\u2264\\u2265\\u00E7\"}";
     Assert.assertEquals(content, expectedContent);
   }
+
+  @Test
+  public void testPsonFormats() throws URISyntaxException, IOException {
+    DatasetProperties aspect = new DatasetProperties().setDescription("A test dataset");
+    MetadataChangeProposalWrapper mcpw =
+        MetadataChangeProposalWrapper.builder()
+            .entityType("dataset")
+            .entityUrn("urn:li:foo")
+            .upsert()
+            .aspect(aspect)
+            .build();
+
+    MetadataChangeProposal mcp =
+        new EventFormatter(EventFormatter.Format.PEGASUS_PSON).convert(mcpw);
+    Assert.assertEquals(mcp.getAspect().getContentType(), "application/x-pson");
+    Assert.assertEquals(
+        new PsonDataCodec().readMap(mcp.getAspect().getValue().asInputStream()), aspect.data());
+
+    mcp = new EventFormatter(EventFormatter.Format.PEGASUS_PSON_DEFLATE).convert(mcpw);
+    Assert.assertEquals(mcp.getAspect().getContentType(), "application/x-pson+deflate");
+    Assert.assertEquals(
+        new PsonDataCodec()
+            .readMap(new InflaterInputStream(mcp.getAspect().getValue().asInputStream())),
+        aspect.data());
+  }
 }
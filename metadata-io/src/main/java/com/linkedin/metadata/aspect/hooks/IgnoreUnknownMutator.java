@@ -42,8 +42,8 @@ public class IgnoreUnknownMutator extends MutationHook {
                     item.getAspectSpec().getName());
                 return false;
               }
-              if (!"application/json"
-                  .equals(item.getMetadataChangeProposal().getAspect().getContentType())) {
+              if (!GenericRecordUtils.SUPPORTED_CONTENT_TYPES.contains(
+                  item.getMetadataChangeProposal().getAspect().getContentType())) {
                 log.warn(
                     "Dropping unknown content type {} for aspect {} on entity {}",
                     item.getMetadataChangeProposal().getAspect().getContentType(),
@@ -70,7 +70,9 @@ public class IgnoreUnknownMutator extends MutationHook {
                       item.getEntitySpec().getName());
                   RestUtils.trimRecordTemplate(recordTemplate, new MaskTree(), false);
                   item.getMetadataChangeProposal()
-                      .setAspect(GenericRecordUtils.serializeAspect(recordTemplate));
+                      .setAspect(
+                          GenericRecordUtils.serializeAspect(
+                              recordTemplate, aspect.getContentType()));
                 }
               } catch (Exception e) {
                 throw new RuntimeException(e);
@@ -748,6 +748,39 @@ public class JavaEntityClient implements EntityClient {
     return response.getValues();
   }
 
+  @SneakyThrows
+  @Override
+  public Map<String, List<EnvelopedAspect>> batchGetTimeseriesAspectValues(
+      @Nonnull OperationContext opContext,
+      @Nonnull Set<String> urns,
+      @Nonnull String entity,
+      @Nonnull String aspect,
+      @Nullable Long startTimeMillis,
+      @Nullable Long endTimeMillis,
+      @Nullable Integer limit,
+      @Nullable Filter filter,
+      @Nullable SortCriterion sort)
+      throws RemoteInvocationException {
+    final Map<Urn, String> urnStrings = new HashMap<>();
+    for (String urn : urns) {
+      urnStrings.put(Urn.createFromString(urn), urn);
+    }
+    final Map<String, List<EnvelopedAspect>> results = new HashMap<>();
+    timeseriesAspectService
+        .getAspectValues(
+            opContext,
+            urnStrings.keySet(),
+            entity,
+            aspect,
+            startTimeMillis,
+            endTimeMillis,
+            limit,
+            filter,
+            sort)
+        .forEach((urn, values) -> results.put(urnStrings.get(urn), values));
+    return results;
+  }
+
   @Override
   @Nonnull
   public List<String> batchIngestProposals(
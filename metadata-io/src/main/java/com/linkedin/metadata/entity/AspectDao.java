@@ -77,6 +77,24 @@ public interface AspectDao {
   void saveAspect(
       @Nullable Transaction tx, @Nonnull final EntityAspect aspect, final boolean insert);
 
+  /**
+   * Write a batch of aspect rows. All inserts are applied before the updates and each list is
+   * applied in order, so an update may target a row inserted earlier in the same batch.
+   * Implementations are expected to group the writes into as few round trips as the storage layer
+   * allows.
+   *
+   * @param tx the transaction to write within
+   * @param inserts new rows to insert
+   * @param updates existing rows to update
+   */
+  default void saveAspects(
+      @Nullable Transaction tx,
+      @Nonnull final List<EntityAspect> inserts,
+      @Nonnull final List<EntityAspect> updates) {
+    inserts.forEach(aspect -> saveAspect(tx, aspect, true));
+    updates.forEach(aspect -> saveAspect(tx, aspect, false));
+  }
+
   long saveLatestAspect(
       @Nullable Transaction tx,
       @Nonnull final String urn,
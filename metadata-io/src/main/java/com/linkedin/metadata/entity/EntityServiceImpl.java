@@ -90,6 +90,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -160,6 +161,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
   private final Integer ebeanMaxTransactionRetry;
   private final boolean enableBrowseV2;
+  private String mclAspectContentType = GenericRecordUtils.JSON;
 
   public EntityServiceImpl(
       @Nonnull final AspectDao aspectDao,
@@ -196,6 +198,19 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     this.updateIndicesService = updateIndicesService;
   }
 
+  /**
+   * Sets the content type aspects of produced MCLs are serialized with, one of {@link
+   * GenericRecordUtils#SUPPORTED_CONTENT_TYPES}. Defaults to JSON, binary content types must only
+   * be used when every MCL consumer can deserialize them.
+   */
+  public void setMclAspectContentType(@Nonnull String mclAspectContentType) {
+    if (!GenericRecordUtils.SUPPORTED_CONTENT_TYPES.contains(mclAspectContentType)) {
+      throw new IllegalArgumentException(
+          String.format("%s content type is not supported", mclAspectContentType));
+    }
+    this.mclAspectContentType = mclAspectContentType;
+  }
+
   @Override
   public RecordTemplate getLatestAspect(
       @Nonnull OperationContext opContext, @Nonnull Urn urn, @Nonnull String aspectName) {
@@ -932,6 +947,9 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                   AspectsBatch.toAbbreviatedString(changeMCPs, 2048));
               Timer.Context ingestToLocalDBTimer =
                   MetricUtils.timer(this.getClass(), "ingestAspectsToLocalDB").time();
+              // Rows are collected and written with a single batched call below
+              final List<EntityAspect> aspectInserts = new ArrayList<>();
+              final List<EntityAspect> aspectUpdates = new ArrayList<>();
               List<UpdateAspectResult> upsertResults =
                   changeMCPs.stream()
                       .map(
@@ -943,7 +961,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                             if (overwrite || latest == null) {
                               result =
                                   ingestAspectToLocalDB(
-                                          tx,
+                                          aspectInserts,
+                                          aspectUpdates,
                                           item.getUrn(),
                                           item.getAspectName(),
                                           item.getRecordTemplate(),
@@ -976,6 +995,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                           })
                       .collect(Collectors.toList());
 
+              aspectDao.saveAspects(tx, aspectInserts, aspectUpdates);
+
               // commit upserts prior to retention or kafka send, if supported by impl
               if (tx != null) {
                 tx.commitAndContinue();
@@ -1421,7 +1442,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                     EntityUtils.toSystemAspectFromEbeanAspects(
                         opContext.getRetrieverContext().get(), batch.collect(Collectors.toList()));
 
-                RestoreIndicesResult result = restoreIndices(opContext, systemAspects, logger);
+                RestoreIndicesResult result =
+                    restoreIndices(opContext, systemAspects, args.directIndexing, logger);
                 result.timeSqlQueryMs = timeSqlQueryMs;
 
                 logger.accept("Batch completed.");
@@ -1467,7 +1489,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                 getLatestAspect(opContext, entityBatch.getValue(), aspectNames).values());
         long timeSqlQueryMs = System.currentTimeMillis() - startTime;
 
-        RestoreIndicesResult result = restoreIndices(opContext, systemAspects, s -> {});
+        RestoreIndicesResult result = restoreIndices(opContext, systemAspects, false, s -> {});
         result.timeSqlQueryMs = timeSqlQueryMs;
         results.add(result);
       }
@@ -1480,13 +1502,18 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
    * Interface designed to maintain backwards compatibility
    *
    * @param systemAspects
+   * @param directIndexing update the indices in place rather than producing MCLs
    * @param logger
    * @return
    */
   private RestoreIndicesResult restoreIndices(
       @Nonnull OperationContext opContext,
       List<SystemAspect> systemAspects,
+      boolean directIndexing,
       @Nonnull Consumer<String> logger) {
+    if (directIndexing && updateIndicesService == null) {
+      throw new IllegalStateException("Direct indexing requires an update indices service");
+    }
     RestoreIndicesResult result = new RestoreIndicesResult();
     long startTime = System.currentTimeMillis();
     int ignored = 0;
@@ -1494,6 +1521,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     long defaultAspectsCreated = 0;
 
     LinkedList<Future<?>> futures = new LinkedList<>();
+    // Key aspects of the entities in the batch, ensured to exist with a single ingestion
+    Map<Urn, MCPItem> keyAspects = new LinkedHashMap<>();
 
     for (SystemAspect aspect : systemAspects) {
       // 1. Extract an Entity type from the entity Urn
@@ -1570,48 +1599,71 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       properties.put(FORCE_INDEXING_KEY, Boolean.TRUE.toString());
       latestSystemMetadata.setProperties(properties);
 
-      // 5. Produce MAE events for the aspect record
+      // 5. Produce MAE events for the aspect record, or index it directly
       AuditStamp auditStamp = AuditStampUtils.createDefaultAuditStamp();
-      futures.add(
-          alwaysProduceMCLAsync(
-                  opContext,
-                  urn,
-                  entityName,
-                  aspectName,
-                  aspectSpec,
-                  null,
-                  aspectRecord,
-                  null,
-                  latestSystemMetadata,
-                  auditStamp,
-                  ChangeType.RESTATE)
-              .getFirst());
-
-      // 6. Ensure default aspects are in existence in SQL
-      List<MCPItem> keyAspect =
-          List.of(
-              ChangeItemImpl.builder()
-                  .urn(urn)
-                  .aspectName(entitySpec.getKeyAspectName())
-                  .changeType(ChangeType.UPSERT)
-                  .entitySpec(entitySpec)
-                  .aspectSpec(entitySpec.getKeyAspectSpec())
-                  .auditStamp(auditStamp)
-                  .systemMetadata(latestSystemMetadata)
-                  .recordTemplate(EntityApiUtils.buildKeyAspect(opContext.getEntityRegistry(), urn))
-                  .build(opContext.getAspectRetrieverOpt().get()));
+      if (directIndexing) {
+        updateIndicesService.handleChangeEvent(
+            opContext,
+            constructMCL(
+                null,
+                entityName,
+                urn,
+                ChangeType.RESTATE,
+                aspectName,
+                auditStamp,
+                aspectRecord,
+                latestSystemMetadata,
+                null,
+                null));
+      } else {
+        futures.add(
+            alwaysProduceMCLAsync(
+                    opContext,
+                    urn,
+                    entityName,
+                    aspectName,
+                    aspectSpec,
+                    null,
+                    aspectRecord,
+                    null,
+                    latestSystemMetadata,
+                    auditStamp,
+                    ChangeType.RESTATE)
+                .getFirst());
+      }
+
+      // 6. Collect the default aspects to ensure they are in existence in SQL
+      if (!keyAspects.containsKey(urn)) {
+        keyAspects.put(
+            urn,
+            ChangeItemImpl.builder()
+                .urn(urn)
+                .aspectName(entitySpec.getKeyAspectName())
+                .changeType(ChangeType.UPSERT)
+                .entitySpec(entitySpec)
+                .aspectSpec(entitySpec.getKeyAspectSpec())
+                .auditStamp(auditStamp)
+                .systemMetadata(latestSystemMetadata)
+                .recordTemplate(EntityApiUtils.buildKeyAspect(opContext.getEntityRegistry(), urn))
+                .build(opContext.getAspectRetrieverOpt().get()));
+      }
+
+      result.sendMessageMs += System.currentTimeMillis() - startTime;
+
+      rowsMigrated++;
+    }
+
+    if (!keyAspects.isEmpty()) {
+      startTime = System.currentTimeMillis();
       Stream<IngestResult> defaultAspectsResult =
           ingestProposalSync(
               opContext,
               AspectsBatchImpl.builder()
                   .retrieverContext(opContext.getRetrieverContext().get())
-                  .items(keyAspect)
+                  .items(new ArrayList<>(keyAspects.values()))
                   .build());
       defaultAspectsCreated += defaultAspectsResult.count();
-
       result.sendMessageMs += System.currentTimeMillis() - startTime;
-
-      rowsMigrated++;
     }
     futures.stream()
         .filter(Objects::nonNull)
@@ -1749,7 +1801,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
             newAspectValue,
             newSystemMetadata,
             oldAspectValue,
-            oldSystemMetadata);
+            oldSystemMetadata,
+            mclAspectContentType);
     return alwaysProduceMCLAsync(opContext, urn, aspectSpec, metadataChangeLog);
   }
 
@@ -1778,7 +1831,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
               newAspect,
               newSystemMetadata,
               oldAspect,
-              oldSystemMetadata);
+              oldSystemMetadata,
+              mclAspectContentType);
 
       log.debug("Serialized MCL event: {}", metadataChangeLog);
       Pair<Future<?>, Boolean> emissionStatus =
@@ -2468,9 +2522,14 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                     ((EntityAspect.EntitySystemAspect) systemAspect).toEnvelopedAspects()));
   }
 
+  /**
+   * Computes the result of writing a single aspect. The rows to persist are appended to {@code
+   * inserts} and {@code updates} so the caller can write the whole batch at once.
+   */
   @Nonnull
   private UpdateAspectResult ingestAspectToLocalDB(
-      @Nullable Transaction tx,
+      @Nonnull final List<EntityAspect> inserts,
+      @Nonnull final List<EntityAspect> updates,
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       @Nonnull final RecordTemplate newValue,
@@ -2499,7 +2558,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       latest.getEntityAspect().setSystemMetadata(RecordUtils.toJsonString(latestSystemMetadata));
 
       log.info("Ingesting aspect with name {}, urn {}", aspectName, urn);
-      aspectDao.saveAspect(tx, latest.getEntityAspect(), false);
+      updates.add(latest.getEntityAspect());
 
       // metrics
       aspectDao.incrementWriteMetrics(
@@ -2520,22 +2579,38 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     // 4. Save the newValue as the latest version
     log.debug("Ingesting aspect with name {}, urn {}", aspectName, urn);
     String newValueStr = EntityApiUtils.toJsonAspect(newValue);
-    long versionOfOld =
-        aspectDao.saveLatestAspect(
-            tx,
+    long versionOfOld = ASPECT_LATEST_VERSION;
+    if (latest != null && latest.getCreatedOn() != null) {
+      // Save the old value as the largest version + 1
+      versionOfOld = nextVersion;
+      inserts.add(
+          new EntityAspect(
+              urn.toString(),
+              aspectName,
+              versionOfOld,
+              EntityApiUtils.toJsonAspect(oldValue),
+              latest.getSystemMetadataRaw(),
+              latest.getCreatedOn(),
+              latest.getCreatedBy(),
+              latest.getEntityAspect().getCreatedFor()));
+    }
+
+    // Save the new value as the latest version (v0)
+    final EntityAspect newAspect =
+        new EntityAspect(
             urn.toString(),
             aspectName,
-            latest == null ? null : EntityApiUtils.toJsonAspect(oldValue),
-            latest == null ? null : latest.getCreatedBy(),
-            latest == null ? null : latest.getEntityAspect().getCreatedFor(),
-            latest == null ? null : latest.getCreatedOn(),
-            latest == null ? null : latest.getSystemMetadataRaw(),
+            ASPECT_LATEST_VERSION,
             newValueStr,
-            auditStamp.getActor().toString(),
-            auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
-            new Timestamp(auditStamp.getTime()),
             EntityApiUtils.toJsonAspect(providedSystemMetadata),
-            nextVersion);
+            new Timestamp(auditStamp.getTime()),
+            auditStamp.getActor().toString(),
+            auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null);
+    if (latest == null) {
+      inserts.add(newAspect);
+    } else {
+      updates.add(newAspect);
+    }
 
     // metrics
     aspectDao.incrementWriteMetrics(
@@ -7,8 +7,10 @@ import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -35,15 +37,23 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
+import com.linkedin.util.Pair;
 import io.ebean.Transaction;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,7 +64,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  // Maximum number of concurrent queries of a batch read
+  private static final int MAX_CONCURRENT_READS = 32;
+
   private final CqlSession _cqlSession;
+  private volatile PreparedStatement _getAspectsStatement;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
 
@@ -89,20 +103,16 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public Map<String, Map<String, EntityAspect>> getLatestAspects(
       Map<String, Set<String>> urnAspects) {
-    return urnAspects.entrySet().stream()
-        .map(
-            entry ->
-                Map.entry(
-                    entry.getKey(),
-                    entry.getValue().stream()
-                        .map(
-                            aspectName -> {
-                              EntityAspect aspect = getLatestAspect(entry.getKey(), aspectName);
-                              return aspect != null ? Map.entry(aspectName, aspect) : null;
-                            })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    validateConnection();
+    final Map<Pair<String, Long>, Set<String>> aspectNames = new HashMap<>();
+    urnAspects.forEach(
+        (urn, aspects) -> aspectNames.put(Pair.of(urn, ASPECT_LATEST_VERSION), aspects));
+    final Map<String, Map<String, EntityAspect>> result = new HashMap<>();
+    urnAspects.keySet().forEach(urn -> result.put(urn, new HashMap<>()));
+    for (EntityAspect aspect : getAspects(aspectNames)) {
+      result.get(aspect.getUrn()).put(aspect.getAspect(), aspect);
+    }
+    return result;
   }
 
   @Override
@@ -191,19 +201,133 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     _cqlSession.execute(statement);
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  @Override
+  public void saveAspects(
+      @Nullable Transaction tx,
+      @Nonnull final List<EntityAspect> inserts,
+      @Nonnull final List<EntityAspect> updates) {
+    validateConnection();
+    if (!_canWrite) {
+      return;
+    }
+    saveAspectBatches(inserts, true);
+    saveAspectBatches(updates, false);
+  }
+
+  /**
+   * Writes the rows with an UNLOGGED batch per urn, as batches of conditional statements can't span
+   * partitions. The conditions of a batch are evaluated before any of its writes, so a row written
+   * again starts a new batch for its urn once the previous one is executed.
+   */
+  private void saveAspectBatches(@Nonnull final List<EntityAspect> aspects, final boolean insert) {
+    final Map<String, BatchStatement> batches = new HashMap<>();
+    final Map<String, Set<EntityAspectIdentifier>> batchKeys = new HashMap<>();
+    for (EntityAspect aspect : aspects) {
+      final String urn = aspect.getUrn();
+      final EntityAspectIdentifier key = EntityAspectIdentifier.fromEntityAspect(aspect);
+      final Set<EntityAspectIdentifier> keys = batchKeys.computeIfAbsent(urn, k -> new HashSet<>());
+      if (!keys.add(key)) {
+        _cqlSession.execute(batches.remove(urn));
+        keys.clear();
+        keys.add(key);
+      }
+      batches.put(
+          urn,
+          batches
+              .getOrDefault(urn, BatchStatement.newInstance(BatchType.UNLOGGED))
+              .add(generateSaveStatement(aspect, insert)));
+    }
+    batches.values().forEach(_cqlSession::execute);
+  }
+
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(
       @Nonnull final Set<EntityAspectIdentifier> keys) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
+    final Map<Pair<String, Long>, Set<String>> aspectNames = new HashMap<>();
+    for (EntityAspectIdentifier key : keys) {
+      aspectNames
+          .computeIfAbsent(Pair.of(key.getUrn(), key.getVersion()), k -> new HashSet<>())
+          .add(key.getAspect());
+    }
+    return getAspects(aspectNames).stream()
         .collect(Collectors.toMap(EntityAspectIdentifier::fromEntityAspect, aspect -> aspect));
   }
 
+  /**
+   * Reads the given versions of aspects. The aspects of a version of an urn are read with a single
+   * query, as the urn is the partition key, and the queries are run concurrently.
+   *
+   * @param aspectNames the names of the aspects to read for each urn and version
+   * @return the aspects found
+   */
+  @Nonnull
+  private List<EntityAspect> getAspects(
+      @Nonnull final Map<Pair<String, Long>, Set<String>> aspectNames) {
+    final PreparedStatement statement = getAspectsStatement();
+    final Queue<EntityAspect> aspects = new ConcurrentLinkedQueue<>();
+    final Semaphore permits = new Semaphore(MAX_CONCURRENT_READS);
+    final List<CompletableFuture<Void>> reads = new ArrayList<>(aspectNames.size());
+    try {
+      for (Map.Entry<Pair<String, Long>, Set<String>> entry : aspectNames.entrySet()) {
+        if (entry.getValue().isEmpty()) {
+          continue;
+        }
+        permits.acquire();
+        reads.add(
+            _cqlSession
+                .executeAsync(
+                    statement.bind(
+                        entry.getKey().getFirst(),
+                        new ArrayList<>(entry.getValue()),
+                        entry.getKey().getSecond()))
+                .thenCompose(resultSet -> collectAspects(resultSet, aspects))
+                .whenComplete((ignored, e) -> permits.release())
+                .toCompletableFuture());
+      }
+      CompletableFuture.allOf(reads.toArray(new CompletableFuture[0])).join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while reading aspects", e);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return new ArrayList<>(aspects);
+  }
+
+  private static CompletionStage<Void> collectAspects(
+      @Nonnull final AsyncResultSet resultSet, @Nonnull final Queue<EntityAspect> aspects) {
+    for (Row row : resultSet.currentPage()) {
+      aspects.add(CassandraAspect.rowToEntityAspect(row));
+    }
+    if (resultSet.hasMorePages()) {
+      return resultSet.fetchNextPage().thenCompose(next -> collectAspects(next, aspects));
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Nonnull
+  private PreparedStatement getAspectsStatement() {
+    if (_getAspectsStatement == null) {
+      _getAspectsStatement =
+          _cqlSession.prepare(
+              selectFrom(CassandraAspect.TABLE_NAME)
+                  .all()
+                  .whereColumn(CassandraAspect.URN_COLUMN)
+                  .isEqualTo(bindMarker())
+                  .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                  .in(bindMarker())
+                  .whereColumn(CassandraAspect.VERSION_COLUMN)
+                  .isEqualTo(bindMarker())
+                  .build());
+    }
+    return _getAspectsStatement;
+  }
+
   @Override
   @Nullable
   public EntityAspect getAspect(@Nonnull EntityAspectIdentifier key) {
@@ -3,11 +3,13 @@ package com.linkedin.metadata.entity.ebean;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.RetrieverContext;
@@ -52,12 +54,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -83,6 +90,26 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // more testing.
   private int _queryKeysCount = 375; // 0 means no pagination on keys
 
+  // Max rows per JDBC batch for saveAspects, 0 keeps the transaction's default batch size
+  private final int _batchWriteSize;
+
+  /** Strategies for building the batchGet sub queries */
+  public enum BatchGetMethod {
+    /** One SELECT per key, UNION ALL'd together */
+    UNION_ALL,
+    /** A single SELECT with a (urn, aspect, version) IN ((...), ...) row value predicate */
+    ROW_VALUE_IN
+  }
+
+  private final BatchGetMethod _batchGetMethod;
+
+  // Bounded pool for running batchGet pages concurrently, null when pages run serially
+  @Nullable private final ExecutorService _batchGetExecutor;
+
+  // Row value IN statements keyed by the padded key count, so the SQL text (and therefore the
+  // driver's prepared statement) is reused across calls
+  private final Map<Integer, RawSql> _rowValueInSql = new ConcurrentHashMap<>();
+
   /**
    * Used to control write concurrency when an entity key aspect is present. If a batch contains an
    * entity key aspect, only allow a single execution per URN
@@ -91,6 +118,24 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
   public EbeanAspectDao(@Nonnull final Database server, EbeanConfiguration ebeanConfiguration) {
     _server = server;
+    _batchWriteSize = ebeanConfiguration.getBatchWriteSize();
+    EbeanConfiguration.BatchGetConfiguration batchGetConfig = ebeanConfiguration.getBatchGet();
+    if (batchGetConfig != null && batchGetConfig.getMethod() != null) {
+      _batchGetMethod = BatchGetMethod.valueOf(batchGetConfig.getMethod().toUpperCase());
+    } else {
+      _batchGetMethod = BatchGetMethod.UNION_ALL;
+    }
+    if (batchGetConfig != null && batchGetConfig.getParallelism() > 1) {
+      _batchGetExecutor =
+          Executors.newFixedThreadPool(
+              batchGetConfig.getParallelism(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("ebean-batch-get-%d")
+                  .setDaemon(true)
+                  .build());
+    } else {
+      _batchGetExecutor = null;
+    }
     if (ebeanConfiguration.getLocking().isEnabled()) {
       this.locks =
           CacheBuilder.newBuilder()
@@ -240,6 +285,58 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     }
   }
 
+  @Override
+  public void saveAspects(
+      @Nullable Transaction tx,
+      @Nonnull final List<EntityAspect> inserts,
+      @Nonnull final List<EntityAspect> updates) {
+    validateConnection();
+    if (!_canWrite) {
+      return;
+    }
+    saveEbeanAspects(tx, inserts, true);
+    saveEbeanAspects(tx, updates, false);
+  }
+
+  /**
+   * Writes the aspects as JDBC batches of at most {@link #_batchWriteSize} rows and flushes them
+   * before returning, so the timer covers the statements actually sent to the database. With
+   * `rewriteBatchedStatements=true` (MySQL) or `reWriteBatchedInserts=true` (Postgres) on the JDBC
+   * url the driver turns each insert batch into a single multi-row INSERT.
+   */
+  private void saveEbeanAspects(
+      @Nullable Transaction tx, @Nonnull final List<EntityAspect> aspects, final boolean insert) {
+    if (aspects.isEmpty()) {
+      return;
+    }
+
+    final List<EbeanAspectV2> ebeanAspects =
+        aspects.stream().map(EbeanAspectV2::fromEntityAspect).collect(Collectors.toList());
+    final String metricName = insert ? "saveAspectsInsert" : "saveAspectsUpdate";
+
+    MetricUtils.counter(this.getClass(), metricName + "Rows").inc(ebeanAspects.size());
+    // The transaction belongs to the caller, its batch size is restored once the rows are flushed
+    final boolean setBatchSize = tx != null && _batchWriteSize > 0;
+    final int previousBatchSize = setBatchSize ? tx.getBatchSize() : 0;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), metricName).time()) {
+      if (setBatchSize) {
+        tx.setBatchSize(_batchWriteSize);
+      }
+      if (insert) {
+        _server.insertAll(ebeanAspects, tx);
+      } else {
+        _server.updateAll(ebeanAspects, tx);
+      }
+      if (tx != null) {
+        tx.flush();
+      }
+    } finally {
+      if (setBatchSize) {
+        tx.setBatchSize(previousBatchSize);
+      }
+    }
+  }
+
   @Override
   public Map<String, Map<String, EntityAspect>> getLatestAspects(
       @Nonnull Map<String, Set<String>> urnAspects) {
@@ -341,8 +438,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   }
 
   /**
-   * BatchGet that allows pagination on keys to avoid large queries. TODO: can further improve by
-   * running the sub queries in parallel
+   * BatchGet that allows pagination on keys to avoid large queries. When a batch get executor is
+   * configured the pages are queried concurrently, unless a transaction is active on the calling
+   * thread: the pool threads would not see its uncommitted writes.
    *
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
@@ -352,20 +450,50 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       @Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
     validateConnection();
 
-    int position = 0;
-
+    final List<EbeanAspectV2.PrimaryKey> keyList = new ArrayList<>(keys);
     final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult =
-        batchGetUnion(new ArrayList<>(keys), keysCount, position);
+    final List<Integer> positions =
+        IntStream.range(0, totalPageCount)
+            .mapToObj(page -> page * keysCount)
+            .collect(Collectors.toList());
 
-    while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
-      position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult =
-          batchGetUnion(new ArrayList<>(keys), keysCount, position);
-      finalResult.addAll(oneStatementResult);
+    if (_batchGetExecutor == null
+        || positions.size() <= 1
+        || _server.currentTransaction() != null) {
+      final List<EbeanAspectV2> finalResult = new ArrayList<>();
+      for (int position : positions) {
+        finalResult.addAll(batchGetPage(keyList, keysCount, position));
+      }
+      return finalResult;
     }
 
-    return finalResult;
+    final List<CompletableFuture<List<EbeanAspectV2>>> futures =
+        positions.stream()
+            .map(
+                position ->
+                    CompletableFuture.supplyAsync(
+                        () -> batchGetPage(keyList, keysCount, position), _batchGetExecutor))
+            .collect(Collectors.toList());
+    return futures.stream()
+        .map(CompletableFuture::join)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+  }
+
+  @Nonnull
+  private List<EbeanAspectV2> batchGetPage(
+      @Nonnull final List<EbeanAspectV2.PrimaryKey> keys, final int keysCount, final int position) {
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), "batchGet_" + _batchGetMethod.name().toLowerCase())
+            .time()) {
+      switch (_batchGetMethod) {
+        case ROW_VALUE_IN:
+          return batchGetRowValueIn(keys, keysCount, position);
+        case UNION_ALL:
+        default:
+          return batchGetUnion(keys, keysCount, position);
+      }
+    }
   }
 
   /**
@@ -444,6 +572,61 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return query.findList();
   }
 
+  @Nonnull
+  private List<EbeanAspectV2> batchGetRowValueIn(
+      @Nonnull final List<EbeanAspectV2.PrimaryKey> keys, final int keysCount, final int position) {
+    validateConnection();
+
+    // Our query will look like:
+    //   SELECT * FROM metadata_aspect_v2 WHERE (urn, aspect, version) IN ((:urn0, ...), ...)
+    // The number of tuples is padded up to a bucket size by repeating the last key, which keeps
+    // the number of distinct statements small. Repeated tuples do not produce duplicate rows.
+    final int end = Math.min(keys.size(), position + keysCount);
+    final int bucketSize = rowValueInBucketSize(end - position, keysCount);
+
+    final Query<EbeanAspectV2> query =
+        _server
+            .find(EbeanAspectV2.class)
+            .setRawSql(_rowValueInSql.computeIfAbsent(bucketSize, this::buildRowValueInSql));
+
+    for (int index = 0; index < bucketSize; index++) {
+      final EbeanAspectV2.PrimaryKey key = keys.get(Math.min(position + index, end - 1));
+      query.setParameter("urn" + index, key.getUrn());
+      query.setParameter("aspect" + index, key.getAspect());
+      query.setParameter("version" + index, key.getVersion());
+    }
+
+    return query.findList();
+  }
+
+  /** Rounds the key count up to the next power of two, capped at the page size. */
+  private static int rowValueInBucketSize(final int count, final int keysCount) {
+    if (count <= 1) {
+      return 1;
+    }
+    return Math.min(Integer.highestOneBit(count - 1) << 1, keysCount);
+  }
+
+  @Nonnull
+  private RawSql buildRowValueInSql(final int bucketSize) {
+    final String tuples =
+        IntStream.range(0, bucketSize)
+            .mapToObj(
+                index -> String.format("(:urn%d, :aspect%d, :version%d)", index, index, index))
+            .collect(Collectors.joining(", "));
+    final String sql =
+        String.format(
+            "SELECT urn, aspect, version, metadata, systemMetadata, createdOn, createdBy, "
+                + "createdFor FROM %s WHERE (urn, aspect, version) IN (%s)",
+            EbeanAspectV2.class.getAnnotation(Table.class).name(), tuples);
+
+    return RawSqlBuilder.parse(sql)
+        .columnMapping(EbeanAspectV2.URN_COLUMN, "key.urn")
+        .columnMapping(EbeanAspectV2.ASPECT_COLUMN, "key.aspect")
+        .columnMapping(EbeanAspectV2.VERSION_COLUMN, "key.version")
+        .create();
+  }
+
   @Override
   @Nonnull
   public ListResult<String> listUrns(
@@ -531,6 +714,17 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     int start = args.start;
     if (args.urnBasedPagination) {
       start = 0;
+      // Walk a range of the table up to and including the end urn and aspect
+      if (args.endUrn != null && !args.endUrn.isEmpty()) {
+        exp = exp.le(EbeanAspectV2.URN_COLUMN, args.endUrn);
+        if (args.endAspect != null && !args.endAspect.isEmpty()) {
+          exp =
+              exp.or()
+                  .ne(EbeanAspectV2.URN_COLUMN, args.endUrn)
+                  .le(EbeanAspectV2.ASPECT_COLUMN, args.endAspect)
+                  .endOr();
+        }
+      }
       if (args.lastUrn != null && !args.lastUrn.isEmpty()) {
         exp = exp.where().ge(EbeanAspectV2.URN_COLUMN, args.lastUrn);
 
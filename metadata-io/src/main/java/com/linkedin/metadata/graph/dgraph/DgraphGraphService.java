@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -258,6 +259,74 @@ public class DgraphGraphService implements GraphService {
     _dgraph.executeFunction(client -> client.newTransaction().doRequest(request));
   }
 
+  @Override
+  public void applyEdgeBatch(
+      @Nonnull final List<Edge> adds,
+      @Nonnull final List<Edge> removes,
+      @Nonnull final List<Edge> upserts) {
+    if (!removes.isEmpty()) {
+      throw new UnsupportedOperationException(
+          "Remove edge not supported by DgraphGraphService at this time.");
+    }
+    if (!upserts.isEmpty()) {
+      throw new UnsupportedOperationException(
+          "Upsert edge not supported by DgraphGraphService at this time.");
+    }
+    if (adds.isEmpty()) {
+      return;
+    }
+
+    // same as addEdge, but all edges are added with a single upsert request where each distinct
+    // node is looked up once by its own query variable
+    final Map<Urn, String> nodeVars = new LinkedHashMap<>();
+    for (Edge edge : adds) {
+      get_schema()
+          .ensureField(
+              getDgraphType(edge.getSource()),
+              edge.getRelationshipType(),
+              URN_RELATIONSHIP_TYPE,
+              TYPE_RELATIONSHIP_TYPE,
+              KEY_RELATIONSHIP_TYPE);
+      nodeVars.computeIfAbsent(edge.getSource(), urn -> "node" + nodeVars.size());
+      nodeVars.computeIfAbsent(edge.getDestination(), urn -> "node" + nodeVars.size());
+    }
+
+    // TODO: add escape for string values
+    StringJoiner query = new StringJoiner("\n", "query {\n", "\n}");
+    StringJoiner mutations = new StringJoiner("\n");
+    nodeVars.forEach(
+        (urn, var) -> {
+          query.add(String.format(" %s as var(func: eq(urn, \"%s\"))", var, urn));
+          String uid = String.format("uid(%s)", var);
+          mutations.add(String.format("%s <dgraph.type> \"%s\" .", uid, getDgraphType(urn)));
+          mutations.add(String.format("%s <urn> \"%s\" .", uid, urn));
+          mutations.add(String.format("%s <type> \"%s\" .", uid, urn.getEntityType()));
+          mutations.add(String.format("%s <key> \"%s\" .", uid, urn.getEntityKey()));
+        });
+    adds.forEach(
+        edge ->
+            mutations.add(
+                String.format(
+                    "uid(%s) <%s> uid(%s) .",
+                    nodeVars.get(edge.getSource()),
+                    edge.getRelationshipType(),
+                    nodeVars.get(edge.getDestination()))));
+
+    log.debug("Query: " + query);
+    log.debug("Mutations: " + mutations);
+
+    Mutation mutation =
+        Mutation.newBuilder().setSetNquads(ByteString.copyFromUtf8(mutations.toString())).build();
+    Request request =
+        Request.newBuilder()
+            .setQuery(query.toString())
+            .addMutations(mutation)
+            .setCommitNow(true)
+            .build();
+
+    _dgraph.executeFunction(client -> client.newTransaction().doRequest(request));
+  }
+
   private static @Nonnull String getDgraphType(@Nonnull Urn urn) {
     return urn.getNamespace() + ":" + urn.getEntityType();
   }
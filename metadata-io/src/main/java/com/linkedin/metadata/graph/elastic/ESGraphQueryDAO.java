@@ -8,6 +8,7 @@ import com.datahub.util.exception.ESQueryException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.UrnArrayMap;
@@ -39,19 +40,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -79,7 +82,6 @@ import org.opensearch.search.sort.SortOrder;
 
 /** A search DAO for Elasticsearch backend. */
 @Slf4j
-@RequiredArgsConstructor
 public class ESGraphQueryDAO {
 
   private final RestHighLevelClient client;
@@ -88,6 +90,9 @@ public class ESGraphQueryDAO {
 
   private final GraphQueryConfiguration graphQueryConfiguration;
 
+  // Runs the batched one hop queries of a lineage walk
+  private final ExecutorService lineageExecutor;
+
   static final String SOURCE = "source";
   static final String DESTINATION = "destination";
   static final String RELATIONSHIP_TYPE = "relationshipType";
@@ -105,6 +110,24 @@ public class ESGraphQueryDAO {
   static final String GROUP_BY_DESTINATION_AGG = "group_by_destination";
   static final String TOP_DOCUMENTS_AGG = "top_documents";
 
+  public ESGraphQueryDAO(
+      RestHighLevelClient client,
+      LineageRegistry lineageRegistry,
+      IndexConvention indexConvention,
+      GraphQueryConfiguration graphQueryConfiguration) {
+    this.client = client;
+    this.lineageRegistry = lineageRegistry;
+    this.indexConvention = indexConvention;
+    this.graphQueryConfiguration = graphQueryConfiguration;
+    this.lineageExecutor =
+        Executors.newFixedThreadPool(
+            Math.max(1, graphQueryConfiguration.getQueryConcurrency()),
+            new ThreadFactoryBuilder()
+                .setNameFormat("es-graph-lineage-%d")
+                .setDaemon(true)
+                .build());
+  }
+
   @Nonnull
   public static void addFilterToQueryBuilder(
       @Nonnull Filter filter, @Nullable String node, BoolQueryBuilder rootQuery) {
@@ -364,18 +387,20 @@ public class ESGraphQueryDAO {
     boolean exploreMultiplePaths = graphQueryConfiguration.isEnableMultiPathSearch();
     long timeoutTime = currentTime + remainingTime;
 
-    // Do a Level-order BFS
+    // Do a Level-order BFS. The frontier maps the degree of the relationships found by expanding a
+    // set of entities to those entities. Entities ignored as hops are expanded at their own degree,
+    // so a level is only done once no entity of its degree is left in the frontier.
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
     visitedEntities.add(entityUrn);
     Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
-    Map<Urn, UrnArrayArray> existingPaths = new HashMap<>();
-    List<Urn> currentLevel = ImmutableList.of(entityUrn);
-
-    for (int i = 0; i < maxHops; i++) {
-      if (currentLevel.isEmpty()) {
-        break;
-      }
+    LineagePathTable existingPaths = new LineagePathTable();
+    TreeMap<Integer, List<Urn>> frontier = new TreeMap<>();
+    if (maxHops > 0) {
+      frontier.put(1, ImmutableList.of(entityUrn));
+    }
+    int rounds = 0;
 
+    while (!frontier.isEmpty()) {
       if (remainingTime < 0) {
         log.info(
             "Timed out while fetching lineage for {} with direction {}, maxHops {}. Returning results so far",
@@ -385,10 +410,10 @@ public class ESGraphQueryDAO {
         break;
       }
 
-      // Do one hop on the lineage graph
-      Stream<Urn> intermediateStream =
-          processOneHopLineage(
-              currentLevel,
+      // Expand the lowest degree of the frontier on the lineage graph
+      frontier =
+          processLineageFrontier(
+              frontier,
               remainingTime,
               direction,
               maxHops,
@@ -398,12 +423,13 @@ public class ESGraphQueryDAO {
               existingPaths,
               exploreMultiplePaths,
               result,
-              lineageFlags,
-              i);
-      currentLevel = intermediateStream.collect(Collectors.toList());
+              lineageFlags);
+      rounds++;
       currentTime = System.currentTimeMillis();
       remainingTime = timeoutTime - currentTime;
     }
+    MetricUtils.histogram(this.getClass(), "getLineage_rounds").update(rounds);
+
     List<LineageRelationship> resultList = new ArrayList<>(result.values());
     LineageResponse response = new LineageResponse(resultList.size(), resultList);
 
@@ -417,39 +443,57 @@ public class ESGraphQueryDAO {
               .subList(offset, Math.min(offset + count, response.getTotal()));
     }
 
+    // Paths are only materialized for the returned relationships. Relationships to via entities
+    // already hold the paths derived when the via entity was found.
+    for (LineageRelationship relationship : subList) {
+      relationship.getPaths().addAll(existingPaths.getPaths(relationship.getEntity()));
+    }
+
     return new LineageResponse(response.getTotal(), subList);
   }
 
-  private Stream<Urn> processOneHopLineage(
-      List<Urn> currentLevel,
-      Long remainingTime,
+  /**
+   * Expands the entities of the lowest degree in the frontier by one hop and merges the
+   * relationships found into the result. Degrees are expanded one after another, lowest first, so
+   * an entity is always claimed as visited at its lowest degree and edges are added to the paths
+   * level by level.
+   *
+   * @return the next frontier, keyed by the degree of the relationships its entities will lead to
+   */
+  private TreeMap<Integer, List<Urn>> processLineageFrontier(
+      TreeMap<Integer, List<Urn>> frontier,
+      long remainingTime,
       LineageDirection direction,
       int maxHops,
       GraphFilters graphFilters,
       Set<Urn> visitedEntities,
       Set<Urn> viaEntities,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       boolean exploreMultiplePaths,
       Map<Urn, LineageRelationship> result,
-      LineageFlags lineageFlags,
-      int i) {
+      @Nullable LineageFlags lineageFlags) {
 
-    // Do one hop on the lineage graph
-    int numHops = i + 1; // Zero indexed for loop counter, one indexed count
-    int remainingHops = maxHops - numHops;
+    Map.Entry<Integer, List<Urn>> lowestDegree = frontier.firstEntry();
+    int numHops = lowestDegree.getKey();
     List<LineageRelationship> oneHopRelationships =
         getLineageRelationshipsInBatches(
-            currentLevel,
+            lowestDegree.getValue(),
             direction,
             graphFilters,
             visitedEntities,
             viaEntities,
             numHops,
-            remainingHops,
+            maxHops - numHops,
             remainingTime,
             existingPaths,
             exploreMultiplePaths,
             lineageFlags);
+
+    // Entities found more than once are only expanded at their lowest degree
+    Map<Urn, Integer> nextDegrees = new LinkedHashMap<>();
+    frontier
+        .tailMap(numHops, false)
+        .forEach((degree, urns) -> urns.forEach(urn -> nextDegrees.merge(urn, degree, Math::min)));
     for (LineageRelationship oneHopRelnship : oneHopRelationships) {
       if (result.containsKey(oneHopRelnship.getEntity())) {
         log.debug("Urn encountered again during graph walk {}", oneHopRelnship.getEntity());
@@ -459,60 +503,37 @@ public class ESGraphQueryDAO {
       } else {
         result.put(oneHopRelnship.getEntity(), oneHopRelnship);
       }
-    }
-    Stream<Urn> intermediateStream =
-        oneHopRelationships.stream().map(LineageRelationship::getEntity);
-    if (lineageFlags != null) {
-
-      // Recursively increase the size of the list and append
-      if (lineageFlags.getIgnoreAsHops() != null) {
-        List<Urn> additionalCurrentLevel = new ArrayList<>();
-        UrnArrayMap ignoreAsHops = lineageFlags.getIgnoreAsHops();
-        oneHopRelationships.stream()
-            .filter(
-                lineageRelationship ->
-                    lineageFlags.getIgnoreAsHops().keySet().stream()
-                        .anyMatch(
-                            entityType ->
-                                entityType.equals(lineageRelationship.getEntity().getEntityType())
-                                    && (CollectionUtils.isEmpty(ignoreAsHops.get(entityType))
-                                        || platformMatches(
-                                            lineageRelationship.getEntity(),
-                                            ignoreAsHops.get(entityType)))))
-            .forEach(
-                lineageRelationship -> {
-                  additionalCurrentLevel.add(lineageRelationship.getEntity());
-                  lineageRelationship.setIgnoredAsHop(true);
-                });
-        if (!additionalCurrentLevel.isEmpty()) {
-          Stream<Urn> ignoreAsHopUrns =
-              processOneHopLineage(
-                  additionalCurrentLevel,
-                  remainingTime,
-                  direction,
-                  maxHops,
-                  graphFilters,
-                  visitedEntities,
-                  viaEntities,
-                  existingPaths,
-                  exploreMultiplePaths,
-                  result,
-                  lineageFlags,
-                  i);
-          intermediateStream = Stream.concat(intermediateStream, ignoreAsHopUrns);
-        }
+
+      // Relationships to entities ignored as hops lead to relationships of the same degree
+      int nextDegree = oneHopRelnship.getDegree() + 1;
+      if (lineageFlags != null && isIgnoredAsHop(oneHopRelnship.getEntity(), lineageFlags)) {
+        result.get(oneHopRelnship.getEntity()).setIgnoredAsHop(true);
+        nextDegree = oneHopRelnship.getDegree();
       }
 
-      if (remainingHops > 0) {
-        // If there are hops remaining, we expect to explore everything getting passed back to the
-        // loop, barring a timeout
-        List<Urn> entitiesToExplore = intermediateStream.collect(Collectors.toList());
-        entitiesToExplore.forEach(urn -> result.get(urn).setExplored(true));
-        // reassign the stream after consuming it
-        intermediateStream = entitiesToExplore.stream();
+      if (nextDegree <= maxHops) {
+        // If there are hops remaining, we expect to explore the entity in the next round, barring
+        // a timeout
+        nextDegrees.merge(oneHopRelnship.getEntity(), nextDegree, Math::min);
+        if (lineageFlags != null) {
+          result.get(oneHopRelnship.getEntity()).setExplored(true);
+        }
       }
     }
-    return intermediateStream;
+
+    TreeMap<Integer, List<Urn>> nextFrontier = new TreeMap<>();
+    nextDegrees.forEach(
+        (urn, degree) -> nextFrontier.computeIfAbsent(degree, d -> new ArrayList<>()).add(urn));
+    return nextFrontier;
+  }
+
+  private boolean isIgnoredAsHop(@Nonnull Urn urn, @Nonnull LineageFlags lineageFlags) {
+    UrnArrayMap ignoreAsHops = lineageFlags.getIgnoreAsHops();
+    if (ignoreAsHops == null || !ignoreAsHops.containsKey(urn.getEntityType())) {
+      return false;
+    }
+    return CollectionUtils.isEmpty(ignoreAsHops.get(urn.getEntityType()))
+        || platformMatches(urn, ignoreAsHops.get(urn.getEntityType()));
   }
 
   private boolean platformMatches(Urn urn, UrnArray platforms) {
@@ -568,31 +589,31 @@ public class ESGraphQueryDAO {
       int numHops,
       int remainingHops,
       long remainingTime,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       boolean exploreMultiplePaths,
       @Nullable LineageFlags lineageFlags) {
-    List<List<Urn>> batches = Lists.partition(entityUrns, graphQueryConfiguration.getBatchSize());
-    return ConcurrencyUtils.getAllCompleted(
-            batches.stream()
-                .map(
-                    batchUrns ->
-                        CompletableFuture.supplyAsync(
-                            () ->
-                                getLineageRelationships(
-                                    batchUrns,
-                                    direction,
-                                    graphFilters,
-                                    visitedEntities,
-                                    viaEntities,
-                                    numHops,
-                                    remainingHops,
-                                    existingPaths,
-                                    exploreMultiplePaths,
-                                    lineageFlags)))
-                .collect(Collectors.toList()),
-            remainingTime,
-            TimeUnit.MILLISECONDS)
-        .stream()
+    List<CompletableFuture<List<LineageRelationship>>> futures =
+        Lists.partition(entityUrns, graphQueryConfiguration.getBatchSize()).stream()
+            .map(
+                batchUrns ->
+                    CompletableFuture.supplyAsync(
+                        () ->
+                            getLineageRelationships(
+                                batchUrns,
+                                direction,
+                                graphFilters,
+                                visitedEntities,
+                                viaEntities,
+                                numHops,
+                                remainingHops,
+                                existingPaths,
+                                exploreMultiplePaths,
+                                lineageFlags),
+                        lineageExecutor))
+            .collect(Collectors.toList());
+    MetricUtils.histogram(this.getClass(), "getLineageRelationshipsInBatches_batches")
+        .update(futures.size());
+    return ConcurrencyUtils.getAllCompleted(futures, remainingTime, TimeUnit.MILLISECONDS).stream()
         .flatMap(List::stream)
         .collect(Collectors.toList());
   }
@@ -607,7 +628,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       boolean exploreMultiplePaths,
       @Nullable LineageFlags lineageFlags) {
     Map<String, List<Urn>> urnsPerEntityType =
@@ -742,98 +763,6 @@ public class ESGraphQueryDAO {
     sourceBuilder.addRescorer(queryRescorerBuilder);
   }
 
-  /**
-   * Adds an individual relationship edge to a running set of unique paths to each node in the
-   * graph.
-   *
-   * <p>Specifically, this method updates 'existingPaths', which is a map of an entity urn
-   * representing a node in the lineage graph to the full paths that can be traversed to reach it
-   * from a the origin node for which lineage was requested.
-   *
-   * <p>This method strictly assumes that edges are being added IN ORDER, level-by-level working
-   * outwards from the originally requested source node. If edges are added to the path set in an
-   * out of order manner, then the paths to a given node may be partial / incomplete.
-   *
-   * <p>Note that calling this method twice with the same edge is not safe. It will result in
-   * duplicate paths being appended into the list of paths to the provided child urn.
-   *
-   * @param existingPaths a running set of unique, uni-directional paths to each node in the graph
-   *     starting from the original root node for which lineage was requested.
-   * @param parentUrn the "parent" node (or source node) in the edge to add. This is a logical
-   *     source node in a uni-directional path from the source to the destination node. Note that
-   *     this is NOT always the URN corresponding to the "source" field that is physically stored
-   *     inside the Graph Store.
-   * @param childUrn the "child" node (or dest node) in the edge to add. This is a logical dest node
-   *     in a uni-directional path from the source to the destination node. Note that this is NOT
-   *     always the URN corresponding to the "destination" field that is physically stored inside
-   *     the Graph Store.
-   */
-  @VisibleForTesting
-  public static void addEdgeToPaths(
-      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
-      @Nonnull final Urn parentUrn,
-      @Nonnull final Urn childUrn) {
-    addEdgeToPaths(existingPaths, parentUrn, null, childUrn);
-  }
-
-  private static boolean containsCycle(final UrnArray path) {
-    Set<Urn> urnSet = path.stream().collect(Collectors.toUnmodifiableSet());
-    // path contains a cycle if any urn is repeated twice
-    return (path.size() != urnSet.size());
-  }
-
-  public static boolean addEdgeToPaths(
-      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
-      @Nonnull final Urn parentUrn,
-      final Urn viaUrn,
-      @Nonnull final Urn childUrn) {
-    boolean edgeAdded = false;
-    // Collect all full-paths to this child node. This is what will be returned.
-    UrnArrayArray pathsToParent = existingPaths.get(parentUrn);
-    if (pathsToParent != null && !pathsToParent.isEmpty()) {
-      // If there are existing paths to this parent node, then we attempt
-      // to append the child to each of the existing paths (lengthen it).
-      // We then store this as a separate, unique path associated with the child.
-      for (UrnArray pathToParent : pathsToParent) {
-        if (containsCycle(pathToParent)) {
-          log.debug("Skipping extending path {} because it contains a cycle", pathToParent);
-          continue;
-        }
-        UrnArray pathToChild = clonePath(pathToParent);
-        if (viaUrn != null) {
-          pathToChild.add(viaUrn);
-        }
-        pathToChild.add(childUrn);
-        // Save these paths to the global structure for easy access on future iterations.
-        existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-        UrnArrayArray existingPathsToChild = existingPaths.get(childUrn);
-        boolean dupExists = false;
-        for (UrnArray existingPathToChild : existingPathsToChild) {
-          if (existingPathToChild.equals(pathToChild)) {
-            dupExists = true;
-          }
-        }
-        if (!dupExists) {
-          existingPathsToChild.add(pathToChild);
-          edgeAdded = true;
-        }
-      }
-    } else {
-      // No existing paths to this parent urn. Let's create a new path to the child!
-      UrnArray pathToChild = new UrnArray();
-      if (viaUrn == null) {
-        pathToChild.addAll(ImmutableList.of(parentUrn, childUrn));
-      } else {
-        pathToChild.addAll(ImmutableList.of(parentUrn, viaUrn, childUrn));
-      }
-      // Save these paths to the global structure for easy access on future iterations.
-      existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-      existingPaths.get(childUrn).add(pathToChild);
-      edgeAdded = true;
-    }
-    return edgeAdded;
-  }
-
   // Given set of edges and the search response, extract all valid edges that originate from the
   // input entityUrns
   @WithSpan
@@ -845,7 +774,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       boolean exploreMultiplePaths) {
     try {
       Map<Urn, LineageRelationship> lineageRelationshipMap = new HashMap<>();
@@ -885,7 +814,7 @@ public class ESGraphQueryDAO {
       boolean exploreMultiplePaths,
       Set<Urn> visitedEntities,
       Set<Pair<String, EdgeInfo>> validEdges,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       int numHops,
       boolean truncatedChildren,
       Map<Urn, LineageRelationship> lineageRelationshipMap,
@@ -989,7 +918,7 @@ public class ESGraphQueryDAO {
       Urn destinationUrn,
       Set<Pair<String, EdgeInfo>> validEdges,
       String type,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       Urn viaEntity,
       int numHops,
       Long createdOn,
@@ -1017,14 +946,14 @@ public class ESGraphQueryDAO {
           log.debug("Found a second path to the same urn {}", destinationUrn);
         }
         // Append the edge to a set of unique graph paths.
-        if (addEdgeToPaths(existingPaths, sourceUrn, viaEntity, destinationUrn)) {
+        if (existingPaths.addEdge(sourceUrn, viaEntity, destinationUrn)) {
           final LineageRelationship relationship =
               createLineageRelationship(
                   type,
                   destinationUrn,
                   numHops,
-                  existingPaths.getOrDefault(destinationUrn, new UrnArrayArray()),
-                  // Fetch the paths to the next level entity.
+                  // Paths to the entity are materialized once the walk completes
+                  new UrnArrayArray(),
                   createdOn,
                   createdActor,
                   updatedOn,
@@ -1034,7 +963,7 @@ public class ESGraphQueryDAO {
           log.debug("Adding relationship {} to urn {}", relationship, destinationUrn);
           lineageRelationshipMap.put(relationship.getEntity(), relationship);
           if ((viaEntity != null) && (!viaEntities.contains(viaEntity))) {
-            UrnArrayArray viaPaths = getViaPaths(existingPaths, destinationUrn, viaEntity);
+            UrnArrayArray viaPaths = existingPaths.getViaPaths(destinationUrn, viaEntity);
             LineageRelationship viaRelationship =
                 createLineageRelationship(
                     type,
@@ -1065,7 +994,7 @@ public class ESGraphQueryDAO {
       Urn destinationUrn,
       Set<Pair<String, EdgeInfo>> validEdges,
       String type,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       Urn viaEntity,
       int numHops,
       Long createdOn,
@@ -1093,15 +1022,15 @@ public class ESGraphQueryDAO {
         }
         visitedEntities.add(sourceUrn);
         // Append the edge to a set of unique graph paths.
-        if (addEdgeToPaths(existingPaths, destinationUrn, viaEntity, sourceUrn)) {
+        if (existingPaths.addEdge(destinationUrn, viaEntity, sourceUrn)) {
           log.debug("Adding incoming edge: {}, {}, {}", destinationUrn, viaEntity, sourceUrn);
           final LineageRelationship relationship =
               createLineageRelationship(
                   type,
                   sourceUrn,
                   numHops,
-                  existingPaths.getOrDefault(sourceUrn, new UrnArrayArray()),
-                  // Fetch the paths to the next level entity.
+                  // Paths to the entity are materialized once the walk completes
+                  new UrnArrayArray(),
                   createdOn,
                   createdActor,
                   updatedOn,
@@ -1111,7 +1040,7 @@ public class ESGraphQueryDAO {
           log.debug("Adding relationship {} to urn {}", relationship, sourceUrn);
           lineageRelationshipMap.put(relationship.getEntity(), relationship);
           if ((viaEntity != null) && (!viaEntities.contains(viaEntity))) {
-            UrnArrayArray viaPaths = getViaPaths(existingPaths, sourceUrn, viaEntity);
+            UrnArrayArray viaPaths = existingPaths.getViaPaths(sourceUrn, viaEntity);
             viaEntities.add(viaEntity);
             LineageRelationship viaRelationship =
                 createLineageRelationship(
@@ -1133,24 +1062,6 @@ public class ESGraphQueryDAO {
     }
   }
 
-  private static UrnArrayArray getViaPaths(
-      Map<Urn, UrnArrayArray> existingPaths, Urn destinationUrn, Urn viaEntity) {
-    UrnArrayArray destinationPaths =
-        existingPaths.getOrDefault(destinationUrn, new UrnArrayArray());
-    UrnArrayArray viaPaths = new UrnArrayArray();
-    for (UrnArray destPath : destinationPaths) {
-      UrnArray viaPath = new UrnArray();
-      for (Urn urn : destPath) {
-        viaPath.add(urn);
-        if (urn.equals(viaEntity)) {
-          break;
-        }
-      }
-      viaPaths.add(viaPath);
-    }
-    return viaPaths;
-  }
-
   private static LineageRelationship createLineageRelationship(
       @Nonnull final String type,
       @Nonnull final Urn entityUrn,
@@ -1195,7 +1106,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePathTable existingPaths,
       boolean exploreMultiplePaths) {
     try {
       Map<Urn, LineageRelationship> lineageRelationshipMap = new HashMap<>();
@@ -1282,14 +1193,6 @@ public class ESGraphQueryDAO {
     return incomingEdgeQuery;
   }
 
-  private static UrnArray clonePath(final UrnArray basePath) {
-    try {
-      return basePath.clone();
-    } catch (CloneNotSupportedException e) {
-      throw new RuntimeException(String.format("Failed to clone path %s", basePath), e);
-    }
-  }
-
   private static QueryBuilder buildEntityTypesFilter(
       @Nonnull List<String> entityTypes, @Nonnull String prefix) {
     return QueryBuilders.termsQuery(
@@ -3,12 +3,15 @@ package com.linkedin.metadata.graph.elastic;
 import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.buildQuery;
 import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.INDEX_NAME;
 
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -55,6 +58,24 @@ public class ESGraphWriteDAO {
     bulkProcessor.add(deleteRequest);
   }
 
+  /**
+   * Upserts and deletes a set of documents through the bulk processor in order.
+   *
+   * @param documents document ids mapped to the document to upsert, or null to delete it
+   */
+  public void bulkWrite(@Nonnull Map<String, String> documents) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "bulkWrite").time()) {
+      documents.forEach(
+          (docId, document) -> {
+            if (document == null) {
+              deleteDocument(docId);
+            } else {
+              upsertDocument(docId, document);
+            }
+          });
+    }
+  }
+
   public BulkByScrollResponse deleteByQuery(
       @Nullable final String sourceType,
       @Nonnull final Filter sourceEntityFilter,
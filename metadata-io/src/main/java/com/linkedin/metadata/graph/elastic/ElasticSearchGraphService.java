@@ -42,6 +42,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -141,6 +142,20 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     _graphWriteDAO.deleteDocument(docId);
   }
 
+  @Override
+  public void applyEdgeBatch(
+      @Nonnull final List<Edge> adds,
+      @Nonnull final List<Edge> removes,
+      @Nonnull final List<Edge> upserts) {
+    // Keyed by document id so that only the last write per edge document is sent, a removal
+    // followed by an addition of the same edge collapses into the addition
+    final Map<String, String> documents = new LinkedHashMap<>();
+    removes.forEach(edge -> documents.put(edge.toDocId(), null));
+    adds.forEach(edge -> documents.put(edge.toDocId(), toDocument(edge)));
+    upserts.forEach(edge -> documents.put(edge.toDocId(), toDocument(edge)));
+    _graphWriteDAO.bulkWrite(documents);
+  }
+
   @Nonnull
   public RelatedEntitiesResult findRelatedEntities(
       @Nullable final List<String> sourceTypes,
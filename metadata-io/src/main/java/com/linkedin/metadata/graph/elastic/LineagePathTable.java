@@ -0,0 +1,167 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The unique paths from the root of a lineage walk to each node reached so far, stored as parent
+ * pointers. Extending the paths of a node by an edge allocates one node per path that points at
+ * the path it extends rather than copying it, and paths are only materialized as {@link UrnArray}s
+ * for the relationships that are returned.
+ *
+ * <p>Like the walk itself, edges must be added level by level working outwards from the root. If
+ * edges are added out of order the paths to a given node may be partial / incomplete. The table is
+ * safe for use by the concurrent batches of a single hop.
+ */
+@Slf4j
+public class LineagePathTable {
+
+  private final Map<Urn, List<PathNode>> pathsByUrn = new HashMap<>();
+
+  /**
+   * Adds an edge to the paths of the child node, extending every acyclic path to the parent node,
+   * or starting a new path at the parent node if there is none.
+   *
+   * <p>Note that adding the same edge twice when the parent node has no paths will result in
+   * duplicate paths to the child node.
+   *
+   * @param parentUrn the logical source node of the edge in the direction of the walk, which is
+   *     NOT always the "source" field stored in the graph index
+   * @param viaUrn an optional node the edge goes through
+   * @param childUrn the logical destination node of the edge in the direction of the walk
+   * @return whether any path to the child node was added
+   */
+  public synchronized boolean addEdge(
+      @Nonnull final Urn parentUrn, @Nullable final Urn viaUrn, @Nonnull final Urn childUrn) {
+    final List<PathNode> pathsToParent = pathsByUrn.get(parentUrn);
+    final List<PathNode> pathsToChild =
+        pathsByUrn.computeIfAbsent(childUrn, k -> new ArrayList<>());
+
+    if (pathsToParent == null || pathsToParent.isEmpty()) {
+      pathsToChild.add(extend(extend(new PathNode(parentUrn, null), viaUrn), childUrn));
+      return true;
+    }
+
+    boolean edgeAdded = false;
+    // Iterate over a snapshot, the parent and child are the same list for self edges
+    for (PathNode pathToParent : new ArrayList<>(pathsToParent)) {
+      if (pathToParent.cyclic) {
+        log.debug("Skipping extending path {} because it contains a cycle", pathToParent);
+        continue;
+      }
+      final PathNode pathToChild = extend(extend(pathToParent, viaUrn), childUrn);
+      if (pathsToChild.stream().noneMatch(pathToChild::sameAs)) {
+        pathsToChild.add(pathToChild);
+        edgeAdded = true;
+      }
+    }
+    return edgeAdded;
+  }
+
+  /** Materializes all paths to the given node, empty if the node has not been reached. */
+  @Nonnull
+  public synchronized UrnArrayArray getPaths(@Nonnull final Urn urn) {
+    final List<PathNode> paths = pathsByUrn.getOrDefault(urn, Collections.emptyList());
+    final UrnArrayArray result = new UrnArrayArray(paths.size());
+    paths.forEach(path -> result.add(new UrnArray(Arrays.asList(path.toUrns()))));
+    return result;
+  }
+
+  /**
+   * Materializes the paths to a via node from the paths to a node reached through it, each path
+   * to the node truncated after the first occurrence of the via node.
+   */
+  @Nonnull
+  public synchronized UrnArrayArray getViaPaths(
+      @Nonnull final Urn urn, @Nonnull final Urn viaUrn) {
+    final List<PathNode> paths = pathsByUrn.getOrDefault(urn, Collections.emptyList());
+    final UrnArrayArray result = new UrnArrayArray(paths.size());
+    for (PathNode path : paths) {
+      final Urn[] urns = path.toUrns();
+      int end = urns.length;
+      for (int i = 0; i < urns.length; i++) {
+        if (urns[i].equals(viaUrn)) {
+          end = i + 1;
+          break;
+        }
+      }
+      result.add(new UrnArray(Arrays.asList(urns).subList(0, end)));
+    }
+    return result;
+  }
+
+  @Nonnull
+  private static PathNode extend(@Nonnull final PathNode path, @Nullable final Urn urn) {
+    return urn == null ? path : new PathNode(urn, path);
+  }
+
+  /** The last node of a path, the full path is found by following the parent pointers. */
+  private static final class PathNode {
+    private final Urn urn;
+    @Nullable private final PathNode parent;
+    private final int length;
+    // Whether any urn is repeated on the path
+    private final boolean cyclic;
+
+    private PathNode(@Nonnull final Urn urn, @Nullable final PathNode parent) {
+      this.urn = urn;
+      this.parent = parent;
+      this.length = parent == null ? 1 : parent.length + 1;
+      this.cyclic = parent != null && (parent.cyclic || parent.contains(urn));
+    }
+
+    private boolean contains(@Nonnull final Urn other) {
+      for (PathNode node = this; node != null; node = node.parent) {
+        if (node.urn.equals(other)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean sameAs(@Nonnull final PathNode other) {
+      if (length != other.length) {
+        return false;
+      }
+      PathNode a = this;
+      PathNode b = other;
+      while (a != null) {
+        if (a == b) {
+          return true;
+        }
+        if (!a.urn.equals(b.urn)) {
+          return false;
+        }
+        a = a.parent;
+        b = b.parent;
+      }
+      return true;
+    }
+
+    @Nonnull
+    private Urn[] toUrns() {
+      final Urn[] urns = new Urn[length];
+      PathNode node = this;
+      for (int i = length - 1; i >= 0; i--) {
+        urns[i] = node.urn;
+        node = node.parent;
+      }
+      return urns;
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(toUrns());
+    }
+  }
+}
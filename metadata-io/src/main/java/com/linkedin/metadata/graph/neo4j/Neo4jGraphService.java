@@ -4,8 +4,11 @@ import com.codahale.metrics.Timer;
 import com.datahub.util.Statement;
 import com.datahub.util.exception.RetryLimitReached;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.urn.Urn;
@@ -38,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,9 +70,37 @@ import org.neo4j.driver.types.Relationship;
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  private static final int MAX_EDGES_PER_STATEMENT = 1000;
+  // Size of the default Neo4j query plan cache
+  private static final int STATEMENT_CACHE_SIZE = 1000;
+  private static final Set<String> PRESERVED_PROPERTY_KEYS =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
+  private static final String MERGE_EDGES_TEMPLATE =
+      "UNWIND $edges AS edge "
+          + "MERGE (source:%s {urn: edge.sourceUrn}) "
+          + "MERGE (destination:%s {urn: edge.destinationUrn}) "
+          + "MERGE (source)-[:%s]->(destination) "
+          + "MERGE (source)-[r:%s]->(destination) "
+          + "SET r += edge.properties";
+  private static final String MERGE_REVERSED_EDGES_TEMPLATE =
+      "UNWIND $edges AS edge "
+          + "MERGE (source:%s {urn: edge.sourceUrn}) "
+          + "MERGE (destination:%s {urn: edge.destinationUrn}) "
+          + "MERGE (source)-[:%s]->(destination) "
+          + "MERGE (destination)-[r:%s]->(source) "
+          + "SET r += edge.properties";
+  private static final String DELETE_EDGES_TEMPLATE =
+      "UNWIND $edges AS edge "
+          + "MATCH (source:%s {urn: edge.sourceUrn})"
+          + "-[r:%s]->(destination:%s {urn: edge.destinationUrn}) "
+          + "DELETE r";
+
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  // Recently run statement texts, to measure how often Neo4j can reuse a cached query plan
+  private final Cache<String, Boolean> _recentStatements =
+      CacheBuilder.newBuilder().maximumSize(STATEMENT_CACHE_SIZE).build();
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver) {
     this(lineageRegistry, driver, SessionConfig.defaultConfig());
@@ -90,78 +122,88 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void addEdge(@Nonnull final Edge edge) {
+    executeStatements(addEdgeStatements(Collections.singletonList(edge)));
+  }
 
-    log.debug(
-        String.format(
-            "Adding Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+  @Override
+  public void applyEdgeBatch(
+      @Nonnull final List<Edge> adds,
+      @Nonnull final List<Edge> removes,
+      @Nonnull final List<Edge> upserts) {
+    final List<Edge> merges = new ArrayList<>(adds);
+    merges.addAll(upserts);
+    final List<Statement> statements = new ArrayList<>(removeEdgeStatements(removes));
+    statements.addAll(addEdgeStatements(merges));
+    if (!statements.isEmpty()) {
+      // All edge changes are written in a single transaction
+      executeStatements(statements);
+    }
+  }
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
+  /**
+   * Builds the statements merging a list of edges. Labels and relationship types can not be
+   * parameters, so the edges are merged by one statement for each combination of them, unwinding
+   * the urns and properties of its edges from a parameter.
+   */
+  @Nonnull
+  private List<Statement> addEdgeStatements(@Nonnull final List<Edge> edges) {
+    final Map<String, List<Map<String, Object>>> edgesByStatement = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      log.debug(
+          String.format(
+              "Adding Edge source: %s, destination: %s, type: %s",
+              edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
 
-    // Introduce startUrn, endUrn for real source node and destination node without consider direct
-    // or indirect pattern match
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    // Extra relationship typename start with r_ for
-    // direct-outgoing-downstream/indirect-incoming-upstream relationships
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    final String createOrFindSourceNode =
-        String.format("MERGE (source:%s {urn: '%s'})", sourceType, sourceUrn);
-    final String createOrFindDestinationNode =
-        String.format("MERGE (destination:%s {urn: '%s'})", destinationType, destinationUrn);
-    final String createSourceToDestinationRelationShip =
-        String.format("MERGE (source)-[:%s]->(destination)", edge.getRelationshipType());
-    String createReverseRelationShip =
-        String.format("MERGE (source)-[r:%s]->(destination)", reverseRelationshipType);
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      startUrn = destinationUrn;
-      createReverseRelationShip =
-          String.format("MERGE (destination)-[r:%s]->(source)", reverseRelationshipType);
+      final String sourceType = edge.getSource().getEntityType();
+      final String destinationType = edge.getDestination().getEntityType();
+      // Extra relationship typename start with r_ for
+      // direct-outgoing-downstream/indirect-incoming-upstream relationships
+      final String reverseRelationshipType = "r_" + edge.getRelationshipType();
+      final boolean reversed = isSourceDestReversed(sourceType, edge.getRelationshipType());
+
+      final String statement =
+          String.format(
+              reversed ? MERGE_REVERSED_EDGES_TEMPLATE : MERGE_EDGES_TEMPLATE,
+              sourceType,
+              destinationType,
+              edge.getRelationshipType(),
+              reverseRelationshipType);
+      final Map<String, Object> edgeParams = new HashMap<>();
+      edgeParams.put("sourceUrn", edge.getSource().toString());
+      edgeParams.put("destinationUrn", edge.getDestination().toString());
+      edgeParams.put("properties", edgeProperties(edge, reversed));
+      edgesByStatement.computeIfAbsent(statement, k -> new ArrayList<>()).add(edgeParams);
     }
+    return unwindStatements(edgesByStatement);
+  }
 
-    // Add/Update relationship properties
-    String setCreatedOnTemplate;
-    String setcreatedActorTemplate;
-    String setupdatedOnTemplate;
-    String setupdatedActorTemplate;
-    String setPropertyTemplate;
-    final StringJoiner propertiesTemplateJoiner = new StringJoiner(", ");
+  /** Returns the properties to set on the reverse relationship of an edge. */
+  @Nonnull
+  private static Map<String, Object> edgeProperties(@Nonnull final Edge edge, boolean reversed) {
+    final Map<String, Object> properties = new HashMap<>();
     if (edge.getCreatedOn() != null) {
-      setCreatedOnTemplate = String.format("r.createdOn = %s", edge.getCreatedOn());
-      propertiesTemplateJoiner.add(setCreatedOnTemplate);
+      properties.put("createdOn", edge.getCreatedOn());
     }
     if (edge.getCreatedActor() != null) {
-      setcreatedActorTemplate = String.format("r.createdActor = '%s'", edge.getCreatedActor());
-      propertiesTemplateJoiner.add(setcreatedActorTemplate);
+      properties.put("createdActor", edge.getCreatedActor().toString());
     }
     if (edge.getUpdatedOn() != null) {
-      setupdatedOnTemplate = String.format("r.updatedOn = %s", edge.getUpdatedOn());
-      propertiesTemplateJoiner.add(setupdatedOnTemplate);
+      properties.put("updatedOn", edge.getUpdatedOn());
     }
     if (edge.getUpdatedActor() != null) {
-      setupdatedActorTemplate = String.format("r.updatedActor = '%s'", edge.getUpdatedActor());
-      propertiesTemplateJoiner.add(setupdatedActorTemplate);
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
     }
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
         // Make sure extra keys in properties are not preserved
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_PROPERTY_KEYS.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
                   entry.getKey()));
         }
         if (entry.getValue() instanceof String) {
-          setPropertyTemplate = String.format("r.%s = '%s'", entry.getKey(), entry.getValue());
-          propertiesTemplateJoiner.add(setPropertyTemplate);
+          properties.put(entry.getKey(), entry.getValue());
         } else {
           throw new UnsupportedOperationException(
               String.format(
@@ -170,26 +212,13 @@ public class Neo4jGraphService implements GraphService {
         }
       }
     }
-    final String setStartEndUrnTemplate =
-        String.format("r.startUrn = '%s', r.endUrn = '%s'", startUrn, endUrn);
-    propertiesTemplateJoiner.add(setStartEndUrnTemplate);
-
-    StringBuilder finalStatement = new StringBuilder();
-    finalStatement
-        .append(createOrFindSourceNode)
-        .append(" ")
-        .append(createOrFindDestinationNode)
-        .append(" ")
-        .append(createSourceToDestinationRelationShip)
-        .append(" ")
-        .append(createReverseRelationShip)
-        .append(" ");
-    if (!StringUtils.isEmpty(propertiesTemplateJoiner.toString())) {
-      finalStatement.append("SET ").append(propertiesTemplateJoiner);
-    }
-    final List<Statement> statements = new ArrayList<>();
-    statements.add(buildStatement(finalStatement.toString(), new HashMap<>()));
-    executeStatements(statements);
+    // Introduce startUrn, endUrn for real source node and destination node without consider direct
+    // or indirect pattern match
+    final String sourceUrn = edge.getSource().toString();
+    final String destinationUrn = edge.getDestination().toString();
+    properties.put("startUrn", reversed ? destinationUrn : sourceUrn);
+    properties.put("endUrn", reversed ? sourceUrn : destinationUrn);
+    return properties;
   }
 
   @Override
@@ -199,54 +228,70 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void removeEdge(final Edge edge) {
-    log.debug(
-        String.format(
-            "Deleting Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+    executeStatements(removeEdgeStatements(Collections.singletonList(edge)));
+  }
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
+  /**
+   * Builds the statements deleting the relationships and reverse relationships of a list of edges,
+   * one for each combination of labels and relationship type.
+   */
+  @Nonnull
+  private List<Statement> removeEdgeStatements(@Nonnull final List<Edge> edges) {
+    final Map<String, List<Map<String, Object>>> edgesByStatement = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      log.debug(
+          String.format(
+              "Deleting Edge source: %s, destination: %s, type: %s",
+              edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+
+      final String sourceType = edge.getSource().getEntityType();
+      final String destinationType = edge.getDestination().getEntityType();
+      final String sourceUrn = edge.getSource().toString();
+      final String destinationUrn = edge.getDestination().toString();
+
+      String endUrn = destinationUrn;
+      String startUrn = sourceUrn;
+      String endType = destinationType;
+      String startType = sourceType;
+      String reverseRelationshipType = "r_" + edge.getRelationshipType();
+
+      if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
+        endUrn = sourceUrn;
+        endType = sourceType;
+        startUrn = destinationUrn;
+        startType = destinationType;
+      }
 
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    String endType = destinationType;
-    String startType = sourceType;
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
+      edgesByStatement
+          .computeIfAbsent(
+              String.format(
+                  DELETE_EDGES_TEMPLATE, sourceType, edge.getRelationshipType(), destinationType),
+              k -> new ArrayList<>())
+          .add(Map.of("sourceUrn", sourceUrn, "destinationUrn", destinationUrn));
+      edgesByStatement
+          .computeIfAbsent(
+              String.format(DELETE_EDGES_TEMPLATE, startType, reverseRelationshipType, endType),
+              k -> new ArrayList<>())
+          .add(Map.of("sourceUrn", startUrn, "destinationUrn", endUrn));
     }
+    return unwindStatements(edgesByStatement);
+  }
 
+  /** Builds the statements unwinding their edges from the $edges parameter, in batches. */
+  @Nonnull
+  private List<Statement> unwindStatements(
+      @Nonnull final Map<String, List<Map<String, Object>>> edgesByStatement) {
     final List<Statement> statements = new ArrayList<>();
-
-    // DELETE relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: '%s'})-[r:%s]->(destination:%s {urn: '%s'}) DELETE r";
-    final String statement =
-        String.format(
-            mergeRelationshipTemplate,
-            sourceType,
-            sourceUrn,
-            edge.getRelationshipType(),
-            destinationType,
-            destinationUrn);
-    final String statementR =
-        String.format(
-            mergeRelationshipTemplate,
-            startType,
-            startUrn,
-            reverseRelationshipType,
-            endType,
-            endUrn);
-
-    statements.add(buildStatement(statement, new HashMap<>()));
-    statements.add(buildStatement(statementR, new HashMap<>()));
-    executeStatements(statements);
+    edgesByStatement.forEach(
+        (statement, statementEdges) -> {
+          for (List<Map<String, Object>> batch :
+              Lists.partition(statementEdges, MAX_EDGES_PER_STATEMENT)) {
+            final Map<String, Object> params = new HashMap<>();
+            params.put("edges", batch);
+            statements.add(buildStatement(statement, params));
+          }
+        });
+    return statements;
   }
 
   @Nonnull
@@ -673,16 +718,18 @@ public class Neo4jGraphService implements GraphService {
             String.format(matchDeleteTemplate, srcNodeLabel, relationshipTypeFilter);
         runQuery(buildStatement(statementNoDirection, params)).consume();
       } else {
+        final List<Edge> edges = new ArrayList<>(neo4jResult.size());
         for (Record typeDest : neo4jResult) {
           String relationshipType = typeDest.values().get(0).asString();
           String destUrnString = typeDest.values().get(1).asNode().get("urn").asString();
           Urn destUrn = createFromString(destUrnString);
           if (removeMode.equals("0")) {
-            removeEdge(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
           } else {
-            removeEdge(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
           }
         }
+        executeStatements(removeEdgeStatements(edges));
       }
     }
   }
@@ -740,6 +787,7 @@ public class Neo4jGraphService implements GraphService {
    * @param statements List of statements with parameters to be executed in order
    */
   private ExecutionResult executeStatements(@Nonnull List<Statement> statements) {
+    statements.forEach(this::recordStatement);
     final StopWatch stopWatch = new StopWatch();
     stopWatch.start();
     int retry = 0;
@@ -771,6 +819,19 @@ public class Neo4jGraphService implements GraphService {
     return new ExecutionResult(stopWatch.getTime(), retry);
   }
 
+  /**
+   * Counts whether the text of a statement was run recently. The driver does not report the plan
+   * cache of the server, but a statement can only reuse a cached plan if its text was run before.
+   */
+  private void recordStatement(@Nonnull Statement statement) {
+    if (_recentStatements.getIfPresent(statement.getCommandText()) == null) {
+      _recentStatements.put(statement.getCommandText(), Boolean.TRUE);
+      MetricUtils.counter(this.getClass(), "statementCacheMiss").inc();
+    } else {
+      MetricUtils.counter(this.getClass(), "statementCacheHit").inc();
+    }
+  }
+
   /**
    * Runs a query statement with parameters and return StatementResult.
    *
@@ -780,6 +841,7 @@ public class Neo4jGraphService implements GraphService {
   @Nonnull
   private Result runQuery(@Nonnull Statement statement) {
     log.debug(String.format("Running Neo4j query %s", statement.toString()));
+    recordStatement(statement);
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time()) {
       return _driver.session(_sessionConfig).run(statement.getCommandText(), statement.getParams());
     }
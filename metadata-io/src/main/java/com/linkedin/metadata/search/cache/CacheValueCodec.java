@@ -0,0 +1,25 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.data.template.RecordTemplate;
+import java.io.Serializable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Converts search results to and from the value stored in a search cache. The stored value must
+ * be {@link Serializable} so it can be shared between nodes of a distributed cache.
+ */
+public interface CacheValueCodec {
+
+  @Nonnull
+  Serializable encode(@Nonnull RecordTemplate value);
+
+  /**
+   * Decodes a cached value. A distributed cache may hold values written by nodes using another
+   * codec or format, these are not decoded and the caller treats them as a cache miss.
+   *
+   * @return the decoded value, or null if the cached value can't be decoded
+   */
+  @Nullable
+  <T extends RecordTemplate> T decode(@Nonnull Class<T> type, @Nonnull Object cachedValue);
+}
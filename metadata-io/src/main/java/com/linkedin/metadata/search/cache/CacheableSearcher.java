@@ -1,7 +1,5 @@
 package com.linkedin.metadata.search.cache;
 
-import static com.datahub.util.RecordUtils.*;
-
 import com.codahale.metrics.Timer;
 import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.SearchEntityArray;
@@ -13,12 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.springframework.cache.Cache;
 
 /** Wrapper class to allow searching in batches and caching the results. */
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class CacheableSearcher<K> {
   @Nonnull private final Cache cache;
   private final int batchSize;
@@ -28,6 +26,17 @@ public class CacheableSearcher<K> {
   // Function that generates the cache key given the query batch (from, size)
   private final Function<QueryPagination, K> cacheKeyGenerator;
   private final boolean enableCache;
+  // Converts search results to and from the cached value
+  @Nonnull private final CacheValueCodec cacheValueCodec;
+
+  public CacheableSearcher(
+      @Nonnull Cache cache,
+      int batchSize,
+      Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator,
+      boolean enableCache) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, enableCache, JsonCacheValueCodec.INSTANCE);
+  }
 
   @Value
   public static class QueryPagination implements Serializable {
@@ -95,21 +104,24 @@ public class CacheableSearcher<K> {
               MetricUtils.timer(this.getClass(), "getBatch_cache").time()) {
             Timer.Context cacheAccess =
                 MetricUtils.timer(this.getClass(), "getBatch_cache_access").time();
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(SearchResult.class, json) : null;
+            Object cachedValue = cache.get(cacheKey, Object.class);
+            result =
+                cachedValue != null
+                    ? cacheValueCodec.decode(SearchResult.class, cachedValue)
+                    : null;
             cacheAccess.stop();
             if (result == null) {
               Timer.Context cacheMiss =
                   MetricUtils.timer(this.getClass(), "getBatch_cache_miss").time();
               result = searcher.apply(batch);
-              cache.put(cacheKey, toJsonString(result));
+              cache.put(cacheKey, cacheValueCodec.encode(result));
               cacheMiss.stop();
               MetricUtils.counter(this.getClass(), "getBatch_cache_miss_count").inc();
             }
           }
         } else {
           result = searcher.apply(batch);
-          cache.put(cacheKey, toJsonString(result));
+          cache.put(cacheKey, cacheValueCodec.encode(result));
         }
       } else {
         result = searcher.apply(batch);
@@ -1,19 +1,18 @@
 package com.linkedin.metadata.search.cache;
 
-import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.search.EntitySearchService;
-import com.linkedin.metadata.utils.ConcurrencyUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -21,10 +20,12 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 public class EntityDocCountCache {
+  private static final long DEFAULT_MAX_SIZE = 1000;
+
   private final EntityRegistry entityRegistry;
   private final EntitySearchService entitySearchService;
   private final EntityDocCountCacheConfiguration config;
-  private final Map<EntityDocCountsKey, Supplier<Map<String, Long>>> entityDocCounts;
+  private final Cache<EntityDocCountsKey, Map<String, Long>> entityDocCounts;
 
   @AllArgsConstructor
   @EqualsAndHashCode
@@ -40,16 +41,17 @@ public class EntityDocCountCache {
     this.config = config;
     this.entityRegistry = entityRegistry;
     this.entitySearchService = entitySearchService;
-    this.entityDocCounts = new ConcurrentHashMap<>();
+    this.entityDocCounts =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getMaxSize() > 0 ? config.getMaxSize() : DEFAULT_MAX_SIZE)
+            .expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS)
+            .build();
   }
 
   private Map<String, Long> fetchEntityDocCount(
       @Nonnull OperationContext opContext, @Nullable Filter filter) {
-    return ConcurrencyUtils.transformAndCollectAsync(
-        entityRegistry.getEntitySpecs().keySet(),
-        Function.identity(),
-        Collectors.toMap(
-            Function.identity(), v -> entitySearchService.docCount(opContext, v, filter)));
+    return entitySearchService.docCounts(
+        opContext, entityRegistry.getEntitySpecs().keySet(), filter);
   }
 
   @WithSpan
@@ -60,11 +62,16 @@ public class EntityDocCountCache {
   @WithSpan
   public Map<String, Long> getEntityDocCount(
       @Nonnull OperationContext opContext, @Nullable Filter filter) {
-    return entityDocCounts
-        .computeIfAbsent(
-            new EntityDocCountsKey(opContext.getSearchContextId(), filter),
-            k -> buildSupplier(opContext, filter))
-        .get();
+    try {
+      return entityDocCounts.get(
+          new EntityDocCountsKey(opContext.getSearchContextId(), filter),
+          () -> fetchEntityDocCount(opContext, filter));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException("Failed to count entity documents", e.getCause());
+    }
   }
 
   public List<String> getNonEmptyEntities(@Nonnull OperationContext opContext) {
@@ -73,10 +80,4 @@ public class EntityDocCountCache {
         .map(Map.Entry::getKey)
         .collect(Collectors.toList());
   }
-
-  private Supplier<Map<String, Long>> buildSupplier(
-      @Nonnull OperationContext opContext, @Nullable Filter filter) {
-    return Suppliers.memoizeWithExpiration(
-        () -> fetchEntityDocCount(opContext, filter), config.getTtlSeconds(), TimeUnit.SECONDS);
-  }
 }
@@ -0,0 +1,47 @@
+package com.linkedin.metadata.search.cache;
+
+import static com.datahub.util.RecordUtils.toJsonString;
+import static com.datahub.util.RecordUtils.toRecordTemplate;
+
+import com.codahale.metrics.Timer;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Serializable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/** Stores cache values as JSON strings. */
+@Slf4j
+public class JsonCacheValueCodec implements CacheValueCodec {
+
+  public static final JsonCacheValueCodec INSTANCE = new JsonCacheValueCodec();
+
+  @Nonnull
+  @Override
+  public Serializable encode(@Nonnull RecordTemplate value) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "encode").time()) {
+      String json = toJsonString(value);
+      MetricUtils.histogram(this.getClass(), "encodedChars").update(json.length());
+      return json;
+    }
+  }
+
+  @Nullable
+  @Override
+  public <T extends RecordTemplate> T decode(@Nonnull Class<T> type, @Nonnull Object cachedValue) {
+    if (!(cachedValue instanceof String)) {
+      MetricUtils.counter(this.getClass(), "decode_failure").inc();
+      log.warn("Ignoring {} cache value, expected a JSON string", cachedValue.getClass());
+      return null;
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "decode").time()) {
+      return toRecordTemplate(type, (String) cachedValue);
+    } catch (RuntimeException e) {
+      MetricUtils.counter(this.getClass(), "decode_failure").inc();
+      log.warn("Ignoring cache value that failed to decode as {}", type.getSimpleName(), e);
+      return null;
+    }
+  }
+}
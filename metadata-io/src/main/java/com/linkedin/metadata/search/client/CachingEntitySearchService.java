@@ -1,7 +1,6 @@
 package com.linkedin.metadata.search.client;
 
 import static com.datahub.util.RecordUtils.toJsonString;
-import static com.datahub.util.RecordUtils.toRecordTemplate;
 
 import com.codahale.metrics.Timer;
 import com.linkedin.metadata.browse.BrowseResult;
@@ -12,21 +11,23 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.cache.CacheValueCodec;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
+import com.linkedin.metadata.search.cache.JsonCacheValueCodec;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
 import org.javatuples.Septet;
 import org.javatuples.Sextet;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class CachingEntitySearchService {
   private static final String ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME = "entitySearchServiceSearch";
   private static final String ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME =
@@ -39,6 +40,16 @@ public class CachingEntitySearchService {
       entitySearchService; // This is a shared component, also used in search aggregation
   private final int batchSize;
   private final boolean enableCache;
+  // Converts cached results to and from the value stored in the cache
+  private final CacheValueCodec cacheValueCodec;
+
+  public CachingEntitySearchService(
+      CacheManager cacheManager,
+      EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache) {
+    this(cacheManager, entitySearchService, batchSize, enableCache, JsonCacheValueCodec.INSTANCE);
+  }
 
   /**
    * Retrieves cached search results. If the query has been cached, this will return quickly. If
@@ -172,7 +183,8 @@ public class CachingEntitySearchService {
                     CollectionUtils.isNotEmpty(sortCriteria) ? toJsonString(sortCriteria) : null,
                     facets,
                     querySize),
-            enableCache)
+            enableCache,
+            cacheValueCodec)
         .getSearchResults(opContext, from, size);
   }
 
@@ -201,14 +213,17 @@ public class CachingEntitySearchService {
                   field,
                   filters != null ? toJsonString(filters) : null,
                   limit);
-          String json = cache.get(cacheKey, String.class);
-          result = json != null ? toRecordTemplate(AutoCompleteResult.class, json) : null;
+          Object cachedValue = cache.get(cacheKey, Object.class);
+          result =
+              cachedValue != null
+                  ? cacheValueCodec.decode(AutoCompleteResult.class, cachedValue)
+                  : null;
           cacheAccess.stop();
           if (result == null) {
             Timer.Context cacheMiss =
                 MetricUtils.timer(this.getClass(), "autocomplete_cache_miss").time();
             result = getRawAutoCompleteResults(opContext, entityName, input, field, filters, limit);
-            cache.put(cacheKey, toJsonString(result));
+            cache.put(cacheKey, cacheValueCodec.encode(result));
             cacheMiss.stop();
             MetricUtils.counter(this.getClass(), "autocomplete_cache_miss_count").inc();
           }
@@ -245,14 +260,15 @@ public class CachingEntitySearchService {
                   filters != null ? toJsonString(filters) : null,
                   from,
                   size);
-          String json = cache.get(cacheKey, String.class);
-          result = json != null ? toRecordTemplate(BrowseResult.class, json) : null;
+          Object cachedValue = cache.get(cacheKey, Object.class);
+          result =
+              cachedValue != null ? cacheValueCodec.decode(BrowseResult.class, cachedValue) : null;
           cacheAccess.stop();
           if (result == null) {
             Timer.Context cacheMiss =
                 MetricUtils.timer(this.getClass(), "browse_cache_miss").time();
             result = getRawBrowseResults(opContext, entityName, path, filters, from, size);
-            cache.put(cacheKey, toJsonString(result));
+            cache.put(cacheKey, cacheValueCodec.encode(result));
             cacheMiss.stop();
             MetricUtils.counter(this.getClass(), "browse_cache_miss_count").inc();
           }
@@ -295,8 +311,9 @@ public class CachingEntitySearchService {
                 CollectionUtils.isNotEmpty(sortCriteria) ? toJsonString(sortCriteria) : null,
                 scrollId,
                 size);
-        String json = cache.get(cacheKey, String.class);
-        result = json != null ? toRecordTemplate(ScrollResult.class, json) : null;
+        Object cachedValue = cache.get(cacheKey, Object.class);
+        result =
+            cachedValue != null ? cacheValueCodec.decode(ScrollResult.class, cachedValue) : null;
         cacheAccess.stop();
         if (result == null) {
           Timer.Context cacheMiss = MetricUtils.timer(this.getClass(), "scroll_cache_miss").time();
@@ -311,7 +328,7 @@ public class CachingEntitySearchService {
                   keepAlive,
                   size,
                   isFullText);
-          cache.put(cacheKey, toJsonString(result));
+          cache.put(cacheKey, cacheValueCodec.encode(result));
           cacheMiss.stop();
           MetricUtils.counter(this.getClass(), "scroll_cache_miss_count").inc();
         }
@@ -81,6 +81,18 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
         filter);
   }
 
+  @Override
+  public Map<String, Long> docCounts(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    return esSearchDAO.docCounts(
+        opContext.withSearchFlags(
+            flags -> applyDefaultSearchFlags(flags, null, DEFAULT_SERVICE_SEARCH_FLAGS)),
+        entityNames,
+        filter);
+  }
+
   @Override
   public void upsertDocument(
       @Nonnull OperationContext opContext,
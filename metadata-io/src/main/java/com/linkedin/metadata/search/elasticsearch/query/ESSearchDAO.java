@@ -12,6 +12,7 @@ import com.linkedin.data.template.LongMap;
 import com.linkedin.metadata.config.search.SearchConfiguration;
 import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.annotation.SearchableAnnotation;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
@@ -31,10 +32,14 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -57,6 +62,8 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 /** A search DAO for Elasticsearch backend. */
@@ -65,6 +72,8 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 @Accessors(chain = true)
 public class ESSearchDAO {
   private static final NamedXContentRegistry X_CONTENT_REGISTRY;
+  private static final String INDEX_AGG_NAME = "indices";
+  private static final String ES_INDEX_FIELD = "_index";
 
   static {
     SearchModule searchModule = new SearchModule(Settings.EMPTY, Collections.emptyList());
@@ -97,6 +106,74 @@ public class ESSearchDAO {
     }
   }
 
+  /**
+   * Counts the documents of several entities with a single search over their indices, aggregating
+   * the matching documents by index.
+   *
+   * @return the number of documents of each entity, entities without documents map to 0
+   */
+  @Nonnull
+  public Map<String, Long> docCounts(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    if (entityNames.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final IndexConvention indexConvention = opContext.getSearchContext().getIndexConvention();
+    final List<EntitySpec> entitySpecs =
+        entityNames.stream()
+            .map(entityName -> opContext.getEntityRegistry().getEntitySpec(entityName))
+            .collect(Collectors.toList());
+    final Map<String, Set<SearchableAnnotation.FieldType>> searchableFieldTypes = new HashMap<>();
+    entitySpecs.forEach(
+        entitySpec ->
+            entitySpec
+                .getSearchableFieldTypes()
+                .forEach(
+                    (field, types) ->
+                        searchableFieldTypes
+                            .computeIfAbsent(field, k -> new HashSet<>())
+                            .addAll(types)));
+
+    final SearchSourceBuilder searchSourceBuilder =
+        new SearchSourceBuilder()
+            .size(0)
+            .query(SearchRequestHandler.getFilterQuery(opContext, filter, searchableFieldTypes))
+            .aggregation(
+                AggregationBuilders.terms(INDEX_AGG_NAME)
+                    .field(ES_INDEX_FIELD)
+                    // Reindexed entities may briefly be spread over several indices
+                    .size(entitySpecs.size() * 2));
+    final SearchRequest searchRequest =
+        new SearchRequest(
+                entitySpecs.stream().map(indexConvention::getIndexName).toArray(String[]::new))
+            .source(searchSourceBuilder);
+
+    // Index names are lower case
+    final Map<String, String> entityNamesByIndexName = new HashMap<>();
+    final Map<String, Long> docCounts = new HashMap<>();
+    entityNames.forEach(
+        entityName -> {
+          entityNamesByIndexName.put(entityName.toLowerCase(), entityName);
+          docCounts.put(entityName, 0L);
+        });
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "docCounts").time()) {
+      final SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+      final Terms indexTerms = searchResponse.getAggregations().get(INDEX_AGG_NAME);
+      for (Terms.Bucket bucket : indexTerms.getBuckets()) {
+        indexConvention
+            .getEntityName(bucket.getKeyAsString())
+            .map(entityNamesByIndexName::get)
+            .ifPresent(entityName -> docCounts.merge(entityName, bucket.getDocCount(), Long::sum));
+      }
+    } catch (IOException e) {
+      log.error("Count query failed:" + e.getMessage());
+      throw new ESQueryException("Count query failed:", e);
+    }
+    return docCounts;
+  }
+
   @Nonnull
   @WithSpan
   private SearchResult executeAndExtract(
@@ -51,6 +51,7 @@ import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -68,6 +69,7 @@ public class SearchRequestHandler {
 
   private static final Map<List<EntitySpec>, SearchRequestHandler> REQUEST_HANDLER_BY_ENTITY_NAME =
       new ConcurrentHashMap<>();
+  private static final String URN_FIELD = "urn";
   private final List<EntitySpec> entitySpecs;
   private final Set<String> defaultQueryFieldNames;
   @Nonnull private final HighlightBuilder highlights;
@@ -198,7 +200,7 @@ public class SearchRequestHandler {
 
     searchSourceBuilder.from(from);
     searchSourceBuilder.size(size);
-    searchSourceBuilder.fetchSource("urn", null);
+    setResultFields(searchSourceBuilder);
 
     BoolQueryBuilder filterQuery = getFilterQuery(opContext, filter);
     searchSourceBuilder.query(
@@ -257,7 +259,7 @@ public class SearchRequestHandler {
     ESUtils.setSearchAfter(searchSourceBuilder, sort, pitId, keepAlive);
 
     searchSourceBuilder.size(size);
-    searchSourceBuilder.fetchSource("urn", null);
+    setResultFields(searchSourceBuilder);
 
     BoolQueryBuilder filterQuery = getFilterQuery(opContext, filter);
     searchSourceBuilder.query(
@@ -303,12 +305,22 @@ public class SearchRequestHandler {
     final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
     searchSourceBuilder.query(filterQuery);
     searchSourceBuilder.from(from).size(size);
+    setResultFields(searchSourceBuilder);
     ESUtils.buildSortOrder(searchSourceBuilder, sortCriteria, entitySpecs);
     searchRequest.source(searchSourceBuilder);
 
     return searchRequest;
   }
 
+  /**
+   * Only the urn of each hit is used, so it is read from its doc value rather than fetching and
+   * parsing the document source.
+   */
+  private static void setResultFields(@Nonnull SearchSourceBuilder searchSourceBuilder) {
+    searchSourceBuilder.fetchSource(false);
+    searchSourceBuilder.docValueField(URN_FIELD);
+  }
+
   /**
    * Get search request to aggregate and get document counts per field value
    *
@@ -443,7 +455,8 @@ public class SearchRequestHandler {
     // fallback matched query, non-analyzed field
     for (String queryName : hit.getMatchedQueries()) {
       if (!highlightedFieldNamesAndValues.containsKey(queryName)) {
-        if (hit.getFields().containsKey(queryName)) {
+        // The urn doc value is fetched to identify the hit, not as a matched value
+        if (!URN_FIELD.equals(queryName) && hit.getFields().containsKey(queryName)) {
           for (Object fieldValue : hit.getFields().get(queryName).getValues()) {
             highlightedFieldNamesAndValues
                 .computeIfAbsent(queryName, k -> new HashSet<>())
@@ -499,7 +512,12 @@ public class SearchRequestHandler {
   @Nonnull
   private Urn getUrnFromSearchHit(@Nonnull SearchHit hit) {
     try {
-      return Urn.createFromString(hit.getSourceAsMap().get("urn").toString());
+      DocumentField urnField = hit.field(URN_FIELD);
+      if (urnField != null && urnField.getValue() != null) {
+        return Urn.createFromString(urnField.getValue().toString());
+      }
+      // Fall back to the source for requests that fetch it
+      return Urn.createFromString(hit.getSourceAsMap().get(URN_FIELD).toString());
     } catch (URISyntaxException e) {
       throw new RuntimeException("Invalid urn in search document " + e);
     }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMap;
@@ -18,7 +20,6 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entity.Aspect;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
-import com.linkedin.metadata.aspect.AspectRetriever;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
@@ -38,16 +39,19 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,7 +60,6 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Setter
-@RequiredArgsConstructor
 public class SearchDocumentTransformer {
   // Number of elements to index for a given array.
   // The cap improves search speed when having fields with a large number of elements
@@ -67,8 +70,40 @@ public class SearchDocumentTransformer {
   // Maximum customProperties value length
   private final int maxValueLength;
 
+  // Aspects of entities referenced by searchable ref fields, null when caching is disabled
+  @Nullable private final Cache<Urn, Map<String, Aspect>> refAspectCache;
+
   private static final String BROWSE_PATH_V2_DELIMITER = "␟";
 
+  public SearchDocumentTransformer(int maxArrayLength, int maxObjectKeys, int maxValueLength) {
+    this(maxArrayLength, maxObjectKeys, maxValueLength, 0, 0);
+  }
+
+  /**
+   * @param refCacheMaxSize maximum number of referenced entities whose aspects are cached, 0
+   *     disables caching
+   * @param refCacheTtlSeconds time after which cached aspects of referenced entities expire. The
+   *     cache is only invalidated in this process, so with several consumers a document can be
+   *     indexed with referenced aspects up to this old and keeps them until it is indexed again.
+   */
+  public SearchDocumentTransformer(
+      int maxArrayLength,
+      int maxObjectKeys,
+      int maxValueLength,
+      int refCacheMaxSize,
+      int refCacheTtlSeconds) {
+    this.maxArrayLength = maxArrayLength;
+    this.maxObjectKeys = maxObjectKeys;
+    this.maxValueLength = maxValueLength;
+    this.refAspectCache =
+        refCacheMaxSize > 0 && refCacheTtlSeconds > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(refCacheMaxSize)
+                .expireAfterWrite(refCacheTtlSeconds, TimeUnit.SECONDS)
+                .build()
+            : null;
+  }
+
   public Optional<String> transformSnapshot(
       final RecordTemplate snapshot, final EntitySpec entitySpec, final Boolean forDelete) {
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
@@ -151,12 +186,14 @@ public class SearchDocumentTransformer {
       final Boolean forDelete)
       throws RemoteInvocationException, URISyntaxException {
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
+        FieldExtractor.extractFields(
+            aspect, aspectSpec.getSearchableFieldAccessor(), maxValueLength);
     final Map<SearchableRefFieldSpec, List<Object>> extractedSearchRefFields =
         FieldExtractor.extractFields(
-            aspect, aspectSpec.getSearchableRefFieldSpecs(), maxValueLength);
+            aspect, aspectSpec.getSearchableRefFieldAccessor(), maxValueLength);
     final Map<SearchScoreFieldSpec, List<Object>> extractedSearchScoreFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength);
+        FieldExtractor.extractFields(
+            aspect, aspectSpec.getSearchScoreFieldAccessor(), maxValueLength);
 
     Optional<ObjectNode> result = Optional.empty();
 
@@ -168,9 +205,24 @@ public class SearchDocumentTransformer {
 
       extractedSearchableFields.forEach(
           (key, values) -> setSearchableValue(key, values, searchDocument, forDelete));
+      // Resolve the entities referenced by all ref fields of the document in a single batch
+      final Map<Urn, Map<String, Aspect>> refAspects = new HashMap<>();
+      if (!forDelete) {
+        final List<Object> refValues = new ArrayList<>();
+        extractedSearchRefFields.forEach(
+            (key, values) -> {
+              if (isResolvedRef(
+                  key.getSearchableRefAnnotation().getDepth(),
+                  key.getSearchableRefAnnotation().getFieldType())) {
+                refValues.addAll(getRefValues(values, key.isArray()));
+              }
+            });
+        fetchRefAspects(opContext, refValues, refAspects);
+      }
       extractedSearchRefFields.forEach(
           (key, values) ->
-              setSearchableRefValue(opContext, key, values, searchDocument, forDelete));
+              setSearchableRefValue(
+                  opContext, key, values, searchDocument, forDelete, refAspects));
       extractedSearchScoreFields.forEach(
           (key, values) -> setSearchScoreValue(key, values, searchDocument, forDelete));
       result = Optional.of(searchDocument);
@@ -493,6 +545,30 @@ public class SearchDocumentTransformer {
       final List<Object> fieldValues,
       final ObjectNode searchDocument,
       final Boolean forDelete) {
+    setSearchableRefValue(
+        opContext, searchableRefFieldSpec, fieldValues, searchDocument, forDelete, new HashMap<>());
+  }
+
+  /**
+   * Evicts the cached aspects of an entity, so that documents referencing it pick up its changes.
+   */
+  public void invalidateRefCache(@Nonnull final Urn urn) {
+    if (refAspectCache != null) {
+      refAspectCache.invalidate(urn);
+    }
+  }
+
+  /**
+   * @param refAspects aspects of the referenced entities, shared across the ref fields of a
+   *     document. Entities missing from it are fetched in a single batch.
+   */
+  private void setSearchableRefValue(
+      @Nonnull final OperationContext opContext,
+      final SearchableRefFieldSpec searchableRefFieldSpec,
+      final List<Object> fieldValues,
+      final ObjectNode searchDocument,
+      final Boolean forDelete,
+      final Map<Urn, Map<String, Aspect>> refAspects) {
     String fieldName = searchableRefFieldSpec.getSearchableRefAnnotation().getFieldName();
     FieldType fieldType = searchableRefFieldSpec.getSearchableRefAnnotation().getFieldType();
     boolean isArray = searchableRefFieldSpec.isArray();
@@ -502,29 +578,93 @@ public class SearchDocumentTransformer {
       return;
     }
     int depth = searchableRefFieldSpec.getSearchableRefAnnotation().getDepth();
+    List<Object> refValues = getRefValues(fieldValues, isArray);
+    if (isResolvedRef(depth, fieldType)) {
+      fetchRefAspects(opContext, refValues, refAspects);
+    }
     if (isArray) {
       ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
-      fieldValues
-          .subList(0, Math.min(fieldValues.size(), maxArrayLength))
-          .forEach(
-              value -> getNodeForRef(opContext, depth, value, fieldType).ifPresent(arrayNode::add));
+      refValues.forEach(
+          value ->
+              getNodeForRef(opContext, depth, value, fieldType, refAspects)
+                  .ifPresent(arrayNode::add));
       searchDocument.set(fieldName, arrayNode);
     } else if (!fieldValues.isEmpty()) {
       String finalFieldName = fieldName;
-      getNodeForRef(opContext, depth, fieldValues.get(0), fieldType)
+      getNodeForRef(opContext, depth, fieldValues.get(0), fieldType, refAspects)
           .ifPresent(node -> searchDocument.set(finalFieldName, node));
     } else {
       searchDocument.set(fieldName, JsonNodeFactory.instance.nullNode());
     }
   }
 
+  /** The values of a ref field that are resolved, arrays are capped at maxArrayLength. */
+  private List<Object> getRefValues(final List<Object> fieldValues, final boolean isArray) {
+    return fieldValues.subList(0, Math.min(fieldValues.size(), isArray ? maxArrayLength : 1));
+  }
+
+  /** Whether the values of a ref field are resolved to the referenced entities. */
+  private static boolean isResolvedRef(final int depth, final FieldType fieldType) {
+    return depth > 0 && fieldType == FieldType.URN;
+  }
+
+  /**
+   * Fetches the aspects of the entities referenced by ref field values that are not in refAspects
+   * yet, from the cache or else with a single call to the aspect retriever. Entities whose aspects
+   * could not be fetched are left out of refAspects, entities that do not exist map to no aspects.
+   */
+  private void fetchRefAspects(
+      @Nonnull final OperationContext opContext,
+      final Collection<Object> fieldValues,
+      final Map<Urn, Map<String, Aspect>> refAspects) {
+    Set<Urn> urns = new HashSet<>();
+    for (Object fieldValue : fieldValues) {
+      Urn urn = EntityUtils.getUrnFromString(fieldValue.toString());
+      if (urn != null && !refAspects.containsKey(urn)) {
+        urns.add(urn);
+      }
+    }
+    if (refAspectCache != null && !urns.isEmpty()) {
+      Map<Urn, Map<String, Aspect>> cached = refAspectCache.getAllPresent(urns);
+      refAspects.putAll(cached);
+      urns.removeAll(cached.keySet());
+    }
+    if (urns.isEmpty()) {
+      return;
+    }
+
+    // Fetch the aspects of all referenced entity types at once
+    EntityRegistry entityRegistry = opContext.getEntityRegistry();
+    Set<String> aspectNames = new HashSet<>();
+    try {
+      for (String entityType : urns.stream().map(Urn::getEntityType).collect(Collectors.toSet())) {
+        EntitySpec entitySpec = entityRegistry.getEntitySpec(entityType);
+        aspectNames.add(entitySpec.getKeyAspectName());
+        entitySpec.getAspectSpecMap().keySet().stream()
+            .filter(aspectName -> !Constants.SKIP_REFERENCE_ASPECT.contains(aspectName))
+            .forEach(aspectNames::add);
+      }
+      Map<Urn, Map<String, Aspect>> fetched =
+          opContext.getAspectRetriever().getLatestAspectObjects(urns, aspectNames);
+      for (Urn urn : urns) {
+        Map<String, Aspect> aspects = fetched.getOrDefault(urn, Map.of());
+        refAspects.put(urn, aspects);
+        if (refAspectCache != null) {
+          refAspectCache.put(urn, aspects);
+        }
+      }
+    } catch (Exception e) {
+      log.error("Error while fetching aspects of referenced urns {} : {}", urns, e.getMessage());
+    }
+  }
+
   private Optional<JsonNode> getNodeForRef(
       @Nonnull OperationContext opContext,
       final int depth,
       final Object fieldValue,
-      final FieldType fieldType) {
+      final FieldType fieldType,
+      final Map<Urn, Map<String, Aspect>> refAspects) {
     EntityRegistry entityRegistry = opContext.getEntityRegistry();
-    AspectRetriever aspectRetriever = opContext.getAspectRetriever();
 
     if (depth == 0) {
       if (fieldValue.toString().isEmpty()) {
@@ -537,29 +677,31 @@ public class SearchDocumentTransformer {
       ObjectNode resultNode = JsonNodeFactory.instance.objectNode();
       try {
         Urn eAUrn = EntityUtils.getUrnFromString(fieldValue.toString());
+        Map<String, Aspect> aspects = refAspects.get(eAUrn);
+        if (aspects == null) {
+          // The aspects of the entity could not be fetched
+          return Optional.empty();
+        }
         String entityType = eAUrn.getEntityType();
-        String entityKeyAspectName = entityRegistry.getEntitySpec(entityType).getKeyAspectName();
-        Optional<Aspect> entityKeyAspect =
-            Optional.ofNullable(aspectRetriever.getLatestAspectObject(eAUrn, entityKeyAspectName));
-        if (entityKeyAspect.isEmpty()) {
+        EntitySpec entitySpec = entityRegistry.getEntitySpec(entityType);
+        if (!aspects.containsKey(entitySpec.getKeyAspectName())) {
           return Optional.ofNullable(JsonNodeFactory.instance.nullNode());
         }
         resultNode.set("urn", JsonNodeFactory.instance.textNode(fieldValue.toString()));
-        EntitySpec entitySpec = entityRegistry.getEntitySpec(entityType);
         for (Map.Entry<String, AspectSpec> mapEntry : entitySpec.getAspectSpecMap().entrySet()) {
           String aspectName = mapEntry.getKey();
           AspectSpec aspectSpec = mapEntry.getValue();
           String aspectClass = aspectSpec.getDataTemplateClass().getCanonicalName();
-          if (!Constants.SKIP_REFERENCE_ASPECT.contains(aspectName)) {
+          Aspect aspectDetails = aspects.get(aspectName);
+          if (aspectDetails != null && !Constants.SKIP_REFERENCE_ASPECT.contains(aspectName)) {
             try {
-              Aspect aspectDetails = aspectRetriever.getLatestAspectObject(eAUrn, aspectName);
               DataMap aspectDataMap = aspectDetails.data();
               RecordTemplate aspectRecord =
                   RecordUtils.toRecordTemplate(aspectClass, aspectDataMap);
               // Extract searchable fields and create node using getNodeForSearchable
               final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
                   FieldExtractor.extractFields(
-                      aspectRecord, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
+                      aspectRecord, aspectSpec.getSearchableFieldAccessor(), maxValueLength);
               for (Map.Entry<SearchableFieldSpec, List<Object>> entry :
                   extractedSearchableFields.entrySet()) {
                 SearchableFieldSpec spec = entry.getKey();
@@ -572,35 +714,31 @@ public class SearchDocumentTransformer {
               // Extract searchable ref fields and create node using getNodeForRef
               final Map<SearchableRefFieldSpec, List<Object>> extractedSearchableRefFields =
                   FieldExtractor.extractFields(
-                      aspectDetails, aspectSpec.getSearchableRefFieldSpecs(), maxValueLength);
+                      aspectDetails, aspectSpec.getSearchableRefFieldAccessor(), maxValueLength);
               for (Map.Entry<SearchableRefFieldSpec, List<Object>> entry :
                   extractedSearchableRefFields.entrySet()) {
                 SearchableRefFieldSpec spec = entry.getKey();
                 List<Object> value = entry.getValue();
                 String fieldName = spec.getSearchableRefAnnotation().getFieldName();
+                FieldType refFieldType = spec.getSearchableRefAnnotation().getFieldType();
                 boolean isArray = spec.isArray();
                 if (!value.isEmpty()) {
                   int newDepth = Math.min(depth - 1, spec.getSearchableRefAnnotation().getDepth());
+                  List<Object> refValues = getRefValues(value, isArray);
+                  if (isResolvedRef(newDepth, refFieldType)) {
+                    fetchRefAspects(opContext, refValues, refAspects);
+                  }
                   if (isArray) {
                     ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
-                    value
-                        .subList(0, Math.min(value.size(), maxArrayLength))
-                        .forEach(
-                            val ->
-                                getNodeForRef(
-                                        opContext,
-                                        newDepth,
-                                        val,
-                                        spec.getSearchableRefAnnotation().getFieldType())
-                                    .ifPresent(arrayNode::add));
+                    refValues.forEach(
+                        val ->
+                            getNodeForRef(opContext, newDepth, val, refFieldType, refAspects)
+                                .ifPresent(arrayNode::add));
                     resultNode.set(fieldName, arrayNode);
                   } else {
                     Optional<JsonNode> node =
                         getNodeForRef(
-                            opContext,
-                            newDepth,
-                            value.get(0),
-                            spec.getSearchableRefAnnotation().getFieldType());
+                            opContext, newDepth, value.get(0), refFieldType, refAspects);
                     if (node.isPresent()) {
                       resultNode.set(fieldName, node.get());
                     }
@@ -83,6 +83,8 @@ public class BusinessAttributeUpdateHookService {
 
     Urn urn = entityChangeEvent.getEntityUrn();
     log.info("Business Attribute update hook invoked for urn : {}", urn);
+    // The change was indexed by another consumer, re-index the schema fields with its latest state
+    updateIndicesService.invalidateReferencedEntity(urn);
     fetchRelatedEntities(
         opContext,
         urn,
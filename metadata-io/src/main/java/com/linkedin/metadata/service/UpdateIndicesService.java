@@ -139,6 +139,8 @@ public class UpdateIndicesService implements SearchIndicesService {
       for (MCLItem mclItem :
           Stream.concat(Stream.of(batch), sideEffects).collect(Collectors.toList())) {
         MetadataChangeLog hookEvent = mclItem.getMetadataChangeLog();
+        // Documents referencing the entity must not be built from its cached aspects
+        _searchDocumentTransformer.invalidateRefCache(mclItem.getUrn());
         if (UPDATE_CHANGE_TYPES.contains(hookEvent.getChangeType())) {
           handleUpdateChangeEvent(opContext, mclItem);
         } else if (hookEvent.getChangeType() == ChangeType.DELETE) {
@@ -150,6 +152,14 @@ public class UpdateIndicesService implements SearchIndicesService {
     }
   }
 
+  /**
+   * Evicts the cached aspects of an entity referenced by searchable ref fields, for changes to it
+   * that were not received as change events by this instance.
+   */
+  public void invalidateReferencedEntity(@Nonnull final Urn urn) {
+    _searchDocumentTransformer.invalidateRefCache(urn);
+  }
+
   /**
    * This very important method processes {@link MetadataChangeLog} events that represent changes to
    * the Metadata Graph.
@@ -401,7 +411,7 @@ public class UpdateIndicesService implements SearchIndicesService {
     }
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs());
+        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldAccessor());
 
     for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
       Set<String> relationshipTypes =
@@ -438,7 +448,8 @@ public class UpdateIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(_graphService::addEdge);
+      _graphService.applyEdgeBatch(
+          edgesToAdd, Collections.emptyList(), Collections.emptyList());
     }
   }
 
@@ -477,23 +488,16 @@ public class UpdateIndicesService implements SearchIndicesService {
     // Edges to update
     final List<Edge> mergedEdges = getMergedEdges(oldEdgeSet, newEdgeSet);
 
-    // Remove any old edges that no longer exist first
-    if (subtractiveDifference.size() > 0) {
-      log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(_graphService::removeEdge);
-    }
-
-    // Then add new edges
-    if (additiveDifference.size() > 0) {
-      log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(_graphService::addEdge);
+    if (subtractiveDifference.isEmpty() && additiveDifference.isEmpty() && mergedEdges.isEmpty()) {
+      return;
     }
 
-    // Then update existing edges
-    if (mergedEdges.size() > 0) {
-      log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(_graphService::upsertEdge);
-    }
+    log.debug("Removing edges: {}", subtractiveDifference);
+    log.debug("Adding edges: {}", additiveDifference);
+    log.debug("Updating edges: {}", mergedEdges);
+    // Old edges that no longer exist are removed first, then new edges are added and existing edges
+    // updated, all in a single graph write
+    _graphService.applyEdgeBatch(additiveDifference, subtractiveDifference, mergedEdges);
   }
 
   private static List<Edge> getMergedEdges(final Set<Edge> oldEdgeSet, final Set<Edge> newEdgeSet) {
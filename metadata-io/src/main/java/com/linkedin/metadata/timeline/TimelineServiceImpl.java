@@ -12,6 +12,7 @@ import com.github.fge.jsonpatch.diff.JsonDiff;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -325,6 +326,8 @@ public class TimelineServiceImpl implements TimelineService {
     // we need to pull previous versions of these aspects that are currently at a 0
     Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), fullAspectNames);
 
+    // Collect the version prior to the time range of each aspect, to look them up in one batch
+    Map<String, EntityAspectIdentifier> lookbackKeys = new HashMap<>();
     for (Map.Entry<String, TreeSet<EntityAspect>> aspectMinVersion : aspectRowSetMap.entrySet()) {
       TreeSet<EntityAspect> aspectSet = aspectMinVersion.getValue();
 
@@ -344,15 +347,25 @@ public class TimelineServiceImpl implements TimelineService {
           versionToGet =
               (oldestAspect.getVersion() == 0L) ? nextVersion - 1 : oldestAspect.getVersion() - 1;
         }
-        EntityAspect row =
-            _aspectDao.getAspect(urn.toString(), aspectMinVersion.getKey(), versionToGet);
-        if (row != null) {
-          aspectRowSetMap.get(row.getAspect()).add(row);
-        } else {
-          aspectMinVersion.getValue().add(createSentinel(aspectMinVersion.getKey()));
-        }
+        lookbackKeys.put(
+            aspectMinVersion.getKey(),
+            new EntityAspectIdentifier(urn.toString(), aspectMinVersion.getKey(), versionToGet));
       }
     }
+
+    if (!lookbackKeys.isEmpty()) {
+      Map<EntityAspectIdentifier, EntityAspect> lookbackRows =
+          _aspectDao.batchGet(new HashSet<>(lookbackKeys.values()));
+      lookbackKeys.forEach(
+          (aspectName, key) -> {
+            EntityAspect row = lookbackRows.get(key);
+            if (row != null) {
+              aspectRowSetMap.get(row.getAspect()).add(row);
+            } else {
+              aspectRowSetMap.get(aspectName).add(createSentinel(aspectName));
+            }
+          });
+    }
     return aspectRowSetMap;
   }
 
@@ -49,6 +49,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +59,8 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateRequest;
@@ -322,6 +326,105 @@ public class ElasticSearchTimeseriesAspectService
       @Nullable final Integer limit,
       @Nullable final Filter filter,
       @Nullable final SortCriterion sort) {
+    final SearchRequest searchRequest =
+        buildAspectValuesRequest(
+            opContext,
+            urn,
+            entityName,
+            aspectName,
+            startTimeMillis,
+            endTimeMillis,
+            limit,
+            filter,
+            sort);
+
+    log.debug("Search request is: " + searchRequest);
+    SearchHits hits;
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), "searchAspectValues_search").time()) {
+      final SearchResponse searchResponse =
+          searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      hits = searchResponse.getHits();
+    } catch (Exception e) {
+      log.error("Search query failed:", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+    return Arrays.stream(hits.getHits())
+        .map(ElasticSearchTimeseriesAspectService::parseDocument)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Sends the searches for the aspects of each urn in a single multi search request. A urn whose
+   * search fails is left out of the result rather than failing the other urns.
+   */
+  @Nonnull
+  @Override
+  public Map<Urn, List<EnvelopedAspect>> getAspectValues(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Integer limit,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort) {
+    if (urns.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final List<Urn> urnList = new ArrayList<>(urns);
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (Urn urn : urnList) {
+      multiSearchRequest.add(
+          buildAspectValuesRequest(
+              opContext,
+              urn,
+              entityName,
+              aspectName,
+              startTimeMillis,
+              endTimeMillis,
+              limit,
+              filter,
+              sort));
+    }
+
+    final MultiSearchResponse.Item[] responses;
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), "searchAspectValues_multiSearch").time()) {
+      responses = searchClient.msearch(multiSearchRequest, RequestOptions.DEFAULT).getResponses();
+    } catch (Exception e) {
+      log.error("Multi search query failed:", e);
+      throw new ESQueryException("Multi search query failed:", e);
+    }
+
+    // Responses are in the order of the requests, a failed search only leaves out its urn
+    final Map<Urn, List<EnvelopedAspect>> results = new HashMap<>();
+    for (int i = 0; i < responses.length; i++) {
+      if (responses[i].isFailure()) {
+        log.error("Search query failed for {}:", urnList.get(i), responses[i].getFailure());
+        MetricUtils.counter(this.getClass(), "searchAspectValues_multiSearch_failure").inc();
+        continue;
+      }
+      results.put(
+          urnList.get(i),
+          Arrays.stream(responses[i].getResponse().getHits().getHits())
+              .map(ElasticSearchTimeseriesAspectService::parseDocument)
+              .collect(Collectors.toList()));
+    }
+    return results;
+  }
+
+  private SearchRequest buildAspectValuesRequest(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Urn urn,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Integer limit,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort) {
     Map<String, Set<SearchableAnnotation.FieldType>> searchableFieldTypes =
         opContext.getEntityRegistry().getEntitySpec(entityName).getSearchableFieldTypes();
     final BoolQueryBuilder filterQueryBuilder =
@@ -377,20 +480,7 @@ public class ElasticSearchTimeseriesAspectService
             .getTimeseriesAspectIndexName(entityName, aspectName);
     searchRequest.indices(indexName);
 
-    log.debug("Search request is: " + searchRequest);
-    SearchHits hits;
-    try (Timer.Context ignored =
-        MetricUtils.timer(this.getClass(), "searchAspectValues_search").time()) {
-      final SearchResponse searchResponse =
-          searchClient.search(searchRequest, RequestOptions.DEFAULT);
-      hits = searchResponse.getHits();
-    } catch (Exception e) {
-      log.error("Search query failed:", e);
-      throw new ESQueryException("Search query failed:", e);
-    }
-    return Arrays.stream(hits.getHits())
-        .map(ElasticSearchTimeseriesAspectService::parseDocument)
-        .collect(Collectors.toList());
+    return searchRequest;
   }
 
   @Override
@@ -72,14 +72,14 @@ public class TimeseriesAspectTransformer {
           OBJECT_MAPPER.readTree(RecordUtils.toJsonString(systemMetadata)));
     }
     final Map<TimeseriesFieldSpec, List<Object>> timeseriesFieldValueMap =
-        FieldExtractor.extractFields(timeseriesAspect, aspectSpec.getTimeseriesFieldSpecs());
+        FieldExtractor.extractFields(timeseriesAspect, aspectSpec.getTimeseriesFieldAccessor());
     timeseriesFieldValueMap.forEach((k, v) -> setTimeseriesField(document, k, v));
     finalDocuments.put(getDocId(document, null), document);
 
     // Create new rows for the member collection fields.
     final Map<TimeseriesFieldCollectionSpec, List<Object>> timeseriesFieldCollectionValueMap =
         FieldExtractor.extractFields(
-            timeseriesAspect, aspectSpec.getTimeseriesFieldCollectionSpecs());
+            timeseriesAspect, aspectSpec.getTimeseriesFieldCollectionAccessor());
     timeseriesFieldCollectionValueMap.forEach(
         (key, values) ->
             finalDocuments.putAll(
@@ -23,6 +23,7 @@ import com.linkedin.metadata.entity.SearchRetriever;
 import com.linkedin.metadata.entity.ebean.batch.ProposedItem;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.utils.AuditStampUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
@@ -34,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class IgnoreUnknownMutatorTest {
@@ -140,4 +142,65 @@ public class IgnoreUnknownMutatorTest {
         new DatasetProperties()
             .setCustomProperties(new StringMap(Map.of("prop1", "fakeprop", "prop2", "pikachu"))));
   }
+
+  @DataProvider(name = "binaryContentTypes")
+  public Object[][] binaryContentTypes() {
+    return new Object[][] {{GenericRecordUtils.PSON}, {GenericRecordUtils.PSON_DEFLATE}};
+  }
+
+  @Test(dataProvider = "binaryContentTypes")
+  public void testBinaryContentType(String contentType) {
+    IgnoreUnknownMutator test = new IgnoreUnknownMutator();
+    test.setConfig(TEST_PLUGIN_CONFIG);
+    DatasetProperties datasetProperties =
+        new DatasetProperties()
+            .setDescription("binary")
+            .setCustomProperties(new StringMap(Map.of("prop1", "fakeprop")));
+
+    List<MCPItem> result =
+        test.proposalMutation(
+                List.of(
+                    datasetPropertiesItem(
+                        GenericRecordUtils.serializeAspect(datasetProperties, contentType))),
+                retrieverContext)
+            .toList();
+
+    assertEquals(result.size(), 1);
+    assertEquals(
+        result.get(0).getMetadataChangeProposal().getAspect().getContentType(), contentType);
+    assertEquals(result.get(0).getAspect(DatasetProperties.class), datasetProperties);
+  }
+
+  @Test
+  public void testUnknownContentType() {
+    IgnoreUnknownMutator test = new IgnoreUnknownMutator();
+    test.setConfig(TEST_PLUGIN_CONFIG);
+
+    List<MCPItem> result =
+        test.proposalMutation(
+                List.of(
+                    datasetPropertiesItem(
+                        new GenericAspect()
+                            .setContentType("application/xml")
+                            .setValue(ByteString.copyString("<a/>", StandardCharsets.UTF_8)))),
+                retrieverContext)
+            .toList();
+
+    assertEquals(result.size(), 0);
+  }
+
+  private static MCPItem datasetPropertiesItem(GenericAspect aspect) {
+    return ProposedItem.builder()
+        .entitySpec(TEST_REGISTRY.getEntitySpec(DATASET_ENTITY_NAME))
+        .metadataChangeProposal(
+            new MetadataChangeProposal()
+                .setEntityUrn(TEST_DATASET_URN)
+                .setAspectName(DATASET_PROPERTIES_ASPECT_NAME)
+                .setEntityType(DATASET_ENTITY_NAME)
+                .setChangeType(ChangeType.UPSERT)
+                .setAspect(aspect)
+                .setSystemMetadata(new SystemMetadata()))
+        .auditStamp(AuditStampUtils.createDefaultAuditStamp())
+        .build();
+  }
 }
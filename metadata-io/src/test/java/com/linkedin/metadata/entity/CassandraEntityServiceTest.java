@@ -21,6 +21,7 @@ import com.linkedin.metadata.query.ListUrnsResult;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import io.datahubproject.metadata.context.RetrieverContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +111,56 @@ public class CassandraEntityServiceTest
     Assert.assertTrue(true);
   }
 
+  @Test
+  public void testBatchReads() throws AssertionError {
+    Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+    List<EntityAspect> aspects = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      for (String aspectName : List.of("status", "globalTags")) {
+        for (long version : List.of(0L, 1L)) {
+          aspects.add(
+              new EntityAspect(
+                  "urn:li:corpuser:batchRead" + i,
+                  aspectName,
+                  version,
+                  "{\"index\":" + i + ",\"version\":" + version + "}",
+                  "{}",
+                  timestamp,
+                  "urn:li:corpuser:actor",
+                  null));
+        }
+      }
+    }
+    aspects.forEach(aspect -> _aspectDao.saveAspect(null, aspect, true));
+
+    Set<EntityAspectIdentifier> keys =
+        aspects.stream()
+            .map(EntityAspectIdentifier::fromEntityAspect)
+            .collect(Collectors.toSet());
+    keys.add(new EntityAspectIdentifier("urn:li:corpuser:batchRead0", "status", 2L));
+    keys.add(new EntityAspectIdentifier("urn:li:corpuser:missing", "status", 0L));
+    Map<EntityAspectIdentifier, EntityAspect> batch = _aspectDao.batchGet(keys);
+    assertEquals(batch.size(), aspects.size());
+    for (EntityAspect aspect : aspects) {
+      assertEquals(
+          batch.get(EntityAspectIdentifier.fromEntityAspect(aspect)).getMetadata(),
+          aspect.getMetadata());
+    }
+
+    Map<String, Map<String, EntityAspect>> latest =
+        _aspectDao.getLatestAspects(
+            Map.of(
+                "urn:li:corpuser:batchRead1",
+                Set.of("status", "globalTags", "corpUserInfo"),
+                "urn:li:corpuser:missing",
+                Set.of("status")));
+    assertEquals(latest.get("urn:li:corpuser:batchRead1").keySet(), Set.of("status", "globalTags"));
+    assertEquals(
+        latest.get("urn:li:corpuser:batchRead1").get("status").getMetadata(),
+        "{\"index\":1,\"version\":0}");
+    assertEquals(latest.get("urn:li:corpuser:missing"), Map.of());
+  }
+
   @Override
   @Test
   public void testIngestListLatestAspects() throws AssertionError {
@@ -0,0 +1,160 @@
+package com.linkedin.metadata.entity;
+
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** Checks the batchGet strategies and parallel key pages of {@link EbeanAspectDao}. */
+@Slf4j
+public class EbeanAspectDaoBatchGetTest {
+  private static final int ENTITY_COUNT = 1000;
+  private static final List<String> ASPECT_NAMES = List.of("status", "globalTags");
+
+  private final Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+
+  private Database server;
+  private EbeanAspectDao unionAllDao;
+  private EbeanAspectDao parallelUnionAllDao;
+  private EbeanAspectDao rowValueInDao;
+
+  @BeforeClass
+  public void setup() {
+    server = EbeanTestUtils.createTestServer(EbeanAspectDaoBatchGetTest.class.getSimpleName());
+    unionAllDao = new EbeanAspectDao(server, configuration("UNION_ALL", 1));
+    parallelUnionAllDao = new EbeanAspectDao(server, configuration("UNION_ALL", 4));
+    rowValueInDao = new EbeanAspectDao(server, configuration("ROW_VALUE_IN", 4));
+
+    List<EntityAspect> inserts =
+        IntStream.range(0, ENTITY_COUNT)
+            .boxed()
+            .flatMap(
+                i ->
+                    ASPECT_NAMES.stream()
+                        .map(
+                            aspectName ->
+                                entityAspect(
+                                    "urn:li:corpuser:batchGet" + i,
+                                    aspectName,
+                                    "{\"index\":" + i + "}")))
+            .collect(Collectors.toList());
+    unionAllDao.runInTransactionWithRetry(
+        tx -> {
+          unionAllDao.saveAspects(tx, inserts, List.of());
+          return null;
+        },
+        0);
+  }
+
+  @Test
+  public void testStrategiesReturnSameRows() {
+    for (int keyCount : List.of(1, 3, 375, 376, 1500)) {
+      Set<EntityAspectIdentifier> keys = keys(keyCount);
+      Map<EntityAspectIdentifier, EntityAspect> expected = unionAllDao.batchGet(keys);
+      assertEquals(expected.size(), keyCount);
+      assertEquals(parallelUnionAllDao.batchGet(keys), expected);
+      assertEquals(rowValueInDao.batchGet(keys), expected);
+    }
+  }
+
+  @Test
+  public void testMissingKeysAreIgnored() {
+    Set<EntityAspectIdentifier> keys =
+        Set.of(
+            new EntityAspectIdentifier("urn:li:corpuser:batchGet1", "status", 0),
+            new EntityAspectIdentifier("urn:li:corpuser:batchGet1", "status", 1),
+            new EntityAspectIdentifier("urn:li:corpuser:missing", "status", 0));
+    assertEquals(rowValueInDao.batchGet(keys).keySet(), unionAllDao.batchGet(keys).keySet());
+    assertEquals(rowValueInDao.batchGet(keys).size(), 1);
+  }
+
+  @Test
+  public void testParallelBatchGetSeesActiveTransaction() {
+    EntityAspect uncommitted = entityAspect("urn:li:corpuser:batchGetUncommitted", "status", "{}");
+    // Spans several key pages, which would otherwise be queried outside the transaction
+    Set<EntityAspectIdentifier> keys = new HashSet<>(keys(1500));
+    keys.add(EntityAspectIdentifier.fromEntityAspect(uncommitted));
+
+    try (Transaction tx = server.beginTransaction()) {
+      rowValueInDao.saveAspect(tx, uncommitted, true);
+      assertEquals(rowValueInDao.batchGet(keys).size(), keys.size());
+      assertEquals(parallelUnionAllDao.batchGet(keys).size(), keys.size());
+    }
+
+    // Rolled back as the transaction ended without a commit
+    assertEquals(rowValueInDao.batchGet(keys).size(), keys.size() - 1);
+  }
+
+  @Test
+  public void testStrategiesBenchmark() {
+    Set<EntityAspectIdentifier> keys = keys(ENTITY_COUNT * ASPECT_NAMES.size());
+
+    // Warm up every strategy before timing them
+    Map<EntityAspectIdentifier, EntityAspect> expected = unionAllDao.batchGet(keys);
+    assertEquals(expected.size(), keys.size());
+    assertEquals(parallelUnionAllDao.batchGet(keys), expected);
+    assertEquals(rowValueInDao.batchGet(keys), expected);
+
+    int iterations = 5;
+    long unionAllNanos = timeBatchGet(unionAllDao, keys, iterations);
+    long parallelUnionAllNanos = timeBatchGet(parallelUnionAllDao, keys, iterations);
+    long rowValueInNanos = timeBatchGet(rowValueInDao, keys, iterations);
+
+    // Logged rather than asserted, relative timings are not reliable on shared build machines
+    log.info(
+        "batchGet of {} keys: UNION_ALL {} ms, parallel UNION_ALL {} ms, ROW_VALUE_IN {} ms",
+        keys.size(),
+        unionAllNanos / 1_000_000,
+        parallelUnionAllNanos / 1_000_000,
+        rowValueInNanos / 1_000_000);
+  }
+
+  private static long timeBatchGet(
+      EbeanAspectDao aspectDao, Set<EntityAspectIdentifier> keys, int iterations) {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      assertEquals(aspectDao.batchGet(keys).size(), keys.size());
+    }
+    return (System.nanoTime() - start) / iterations;
+  }
+
+  private static Set<EntityAspectIdentifier> keys(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                new EntityAspectIdentifier(
+                    "urn:li:corpuser:batchGet" + (i / ASPECT_NAMES.size()),
+                    ASPECT_NAMES.get(i % ASPECT_NAMES.size()),
+                    0))
+        .collect(Collectors.toSet());
+  }
+
+  private EntityAspect entityAspect(String urn, String aspectName, String metadata) {
+    return new EntityAspect(
+        urn, aspectName, 0, metadata, "{}", timestamp, "urn:li:corpuser:actor", null);
+  }
+
+  private static EbeanConfiguration configuration(String method, int parallelism) {
+    return EbeanConfiguration.builder()
+        .locking(EbeanConfiguration.LockingConfiguration.testDefault)
+        .batchGet(
+            EbeanConfiguration.BatchGetConfiguration.builder()
+                .method(method)
+                .parallelism(parallelism)
+                .build())
+        .build();
+  }
+}
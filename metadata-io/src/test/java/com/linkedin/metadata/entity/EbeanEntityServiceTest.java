@@ -16,9 +16,12 @@ import com.linkedin.metadata.EbeanTestUtils;
 import com.linkedin.metadata.config.EbeanConfiguration;
 import com.linkedin.metadata.config.PreProcessHooks;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.EbeanRetentionService;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.entity.ebean.batch.ChangeItemImpl;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.registry.EntityRegistryException;
@@ -36,6 +39,8 @@ import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
 import java.net.URISyntaxException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -292,6 +297,108 @@ public class EbeanEntityServiceTest
     System.out.println("done");
   }
 
+  @Test
+  public void testSaveAspectsBatch() {
+    String urn = "urn:li:corpuser:batchTest";
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+
+    EntityAspect latest =
+        new EntityAspect(
+            urn, aspectName, 0, "{\"v\":1}", "{}", timestamp, "urn:li:corpuser:actor", null);
+    EntityAspect archived =
+        new EntityAspect(
+            urn, aspectName, 1, "{\"v\":1}", "{}", timestamp, "urn:li:corpuser:actor", null);
+    EntityAspect updated =
+        new EntityAspect(
+            urn, aspectName, 0, "{\"v\":2}", "{}", timestamp, "urn:li:corpuser:actor", null);
+
+    // inserts are applied before updates, so v0 can be inserted and updated in one batch
+    _aspectDao.runInTransactionWithRetry(
+        tx -> {
+          _aspectDao.saveAspects(tx, List.of(latest, archived), List.of(updated));
+          return null;
+        },
+        0);
+
+    assertEquals(_aspectDao.getAspect(urn, aspectName, 0).getMetadata(), "{\"v\":2}");
+    assertEquals(_aspectDao.getAspect(urn, aspectName, 1).getMetadata(), "{\"v\":1}");
+  }
+
+  @Test
+  public void testStreamAspectBatchesEndBound() {
+    Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+    List<EntityAspect> aspects = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      for (String aspectName : List.of("globalTags", "ownership", "status")) {
+        // Only the latest versions are restored
+        for (long version : List.of(0L, 1L)) {
+          aspects.add(
+              new EntityAspect(
+                  "urn:li:corpuser:restoreRange" + i,
+                  aspectName,
+                  version,
+                  "{}",
+                  "{}",
+                  timestamp,
+                  "urn:li:corpuser:actor",
+                  null));
+        }
+      }
+    }
+    _aspectDao.runInTransactionWithRetry(
+        tx -> {
+          _aspectDao.saveAspects(tx, aspects, List.of());
+          return null;
+        },
+        0);
+
+    // Without an end aspect every aspect of the end urn is included
+    assertEquals(
+        streamLatestKeys("", "", "urn:li:corpuser:restoreRange1", ""),
+        List.of(
+            "urn:li:corpuser:restoreRange0 globalTags",
+            "urn:li:corpuser:restoreRange0 ownership",
+            "urn:li:corpuser:restoreRange0 status",
+            "urn:li:corpuser:restoreRange1 globalTags",
+            "urn:li:corpuser:restoreRange1 ownership",
+            "urn:li:corpuser:restoreRange1 status"));
+    assertEquals(
+        streamLatestKeys("", "", "urn:li:corpuser:restoreRange1", "ownership"),
+        List.of(
+            "urn:li:corpuser:restoreRange0 globalTags",
+            "urn:li:corpuser:restoreRange0 ownership",
+            "urn:li:corpuser:restoreRange0 status",
+            "urn:li:corpuser:restoreRange1 globalTags",
+            "urn:li:corpuser:restoreRange1 ownership"));
+    assertEquals(
+        streamLatestKeys(
+            "urn:li:corpuser:restoreRange1", "ownership", "urn:li:corpuser:restoreRange2", ""),
+        List.of(
+            "urn:li:corpuser:restoreRange1 status",
+            "urn:li:corpuser:restoreRange2 globalTags",
+            "urn:li:corpuser:restoreRange2 ownership",
+            "urn:li:corpuser:restoreRange2 status"));
+  }
+
+  private List<String> streamLatestKeys(
+      String lastUrn, String lastAspect, String endUrn, String endAspect) {
+    RestoreIndicesArgs args = new RestoreIndicesArgs();
+    args.urnLike = "urn:li:corpuser:restoreRange%";
+    args.urnBasedPagination = true;
+    args.lastUrn = lastUrn;
+    args.lastAspect = lastAspect;
+    args.endUrn = endUrn;
+    args.endAspect = endAspect;
+    try (PartitionedStream<EbeanAspectV2> stream = _aspectDao.streamAspectBatches(args)) {
+      return stream
+          .partition(args.batchSize)
+          .flatMap(batch -> batch)
+          .map(aspect -> aspect.getKey().getUrn() + " " + aspect.getKey().getAspect())
+          .collect(Collectors.toList());
+    }
+  }
+
   @Test
   public void dataGeneratorThreadingTest() {
     DataGenerator dataGenerator = new DataGenerator(opContext, _entityServiceImpl);
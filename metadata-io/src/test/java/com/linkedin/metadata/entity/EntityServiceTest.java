@@ -1776,6 +1776,54 @@ public abstract class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
     }
   }
 
+  @Test
+  public void testRestoreIndicesDirectIndexing() throws Exception {
+    if (this instanceof EbeanEntityServiceTest) {
+      String urnStr = "urn:li:dataset:(urn:li:dataPlatform:looker,sample_dataset_direct,PROD)";
+      Urn entityUrn = UrnUtils.getUrn(urnStr);
+      List<Pair<String, RecordTemplate>> pairToIngest = new ArrayList<>();
+
+      final UpstreamLineage upstreamLineage = AspectGenerationUtils.createUpstreamLineage();
+      pairToIngest.add(getAspectRecordPair(upstreamLineage, UpstreamLineage.class));
+
+      SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata();
+
+      _entityServiceImpl.ingestAspects(
+          opContext, entityUrn, pairToIngest, TEST_AUDIT_STAMP, metadata1);
+
+      clearInvocations(_mockProducer, _mockUpdateIndicesService);
+
+      RestoreIndicesArgs args = new RestoreIndicesArgs();
+      args.aspectName(UPSTREAM_LINEAGE_ASPECT_NAME);
+      args.batchSize(1);
+      args.start(0);
+      args.batchDelayMs(1L);
+      args.numThreads(1);
+      args.urn(urnStr);
+      args.directIndexing = true;
+      _entityServiceImpl.restoreIndices(opContext, args, obj -> {});
+
+      // The aspect is indexed in place rather than sent to the consumers
+      ArgumentCaptor<MetadataChangeLog> mclCaptor =
+          ArgumentCaptor.forClass(MetadataChangeLog.class);
+      verify(_mockUpdateIndicesService, atLeastOnce())
+          .handleChangeEvent(Mockito.any(), mclCaptor.capture());
+      List<MetadataChangeLog> restated =
+          mclCaptor.getAllValues().stream()
+              .filter(mcl -> UPSTREAM_LINEAGE_ASPECT_NAME.equals(mcl.getAspectName()))
+              .collect(Collectors.toList());
+      assertEquals(restated.size(), 1);
+      assertEquals(restated.get(0).getChangeType(), ChangeType.RESTATE);
+      assertEquals(
+          restated.get(0).getSystemMetadata().getProperties().get(FORCE_INDEXING_KEY), "true");
+      verify(_mockProducer, never())
+          .produceMetadataChangeLog(
+              Mockito.eq(entityUrn),
+              Mockito.argThat(spec -> UPSTREAM_LINEAGE_ASPECT_NAME.equals(spec.getName())),
+              Mockito.any());
+    }
+  }
+
   @Test
   public void testValidateUrn() throws Exception {
     // Valid URN
@@ -1918,6 +1966,46 @@ public abstract class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
             "datasetKey"));
   }
 
+  @Test
+  public void testIngestProposalBinaryContentTypes() throws Exception {
+    List<String> contentTypes = List.of(GenericRecordUtils.PSON, GenericRecordUtils.PSON_DEFLATE);
+    for (int i = 0; i < contentTypes.size(); i++) {
+      String contentType = contentTypes.get(i);
+      _entityServiceImpl.setMclAspectContentType(contentType);
+      Urn entityUrn =
+          UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,binary" + i + ",PROD)");
+      EditableDatasetProperties datasetProperties = new EditableDatasetProperties();
+      datasetProperties.setDescription("Foo Bar " + i);
+      MetadataChangeProposal gmce = new MetadataChangeProposal();
+      gmce.setEntityUrn(entityUrn);
+      gmce.setChangeType(ChangeType.UPSERT);
+      gmce.setEntityType("dataset");
+      gmce.setAspectName("editableDatasetProperties");
+      gmce.setAspect(GenericRecordUtils.serializeAspect(datasetProperties, contentType));
+      _entityServiceImpl.ingestProposal(opContext, gmce, TEST_AUDIT_STAMP, false);
+
+      EditableDatasetProperties ingested =
+          (EditableDatasetProperties)
+              _entityServiceImpl.getLatestAspect(opContext, entityUrn, "editableDatasetProperties");
+      assertEquals(ingested.getDescription(), "Foo Bar " + i);
+
+      ArgumentCaptor<MetadataChangeLog> captor = ArgumentCaptor.forClass(MetadataChangeLog.class);
+      verify(_mockProducer, atLeastOnce())
+          .produceMetadataChangeLog(Mockito.eq(entityUrn), any(), captor.capture());
+      MetadataChangeLog mcl =
+          captor.getAllValues().stream()
+              .filter(log -> "editableDatasetProperties".equals(log.getAspectName()))
+              .findFirst()
+              .orElseThrow();
+      assertEquals(mcl.getAspect().getContentType(), contentType);
+      assertEquals(
+          GenericRecordUtils.deserializeAspect(
+                  mcl.getAspect().getValue(), contentType, EditableDatasetProperties.class)
+              .getDescription(),
+          "Foo Bar " + i);
+    }
+  }
+
   @Test
   public void testStructuredPropertyIngestProposal() throws Exception {
     String urnStr = "urn:li:dataset:(urn:li:dataPlatform:looker,sample_dataset_unique,PROD)";
@@ -525,6 +525,40 @@ public abstract class GraphServiceTestBase extends AbstractTestNGSpringContextTe
     assertEqualsAnyOrder(relatedIncoming, expectedIncoming);
   }
 
+  @Test(dataProvider = "AddEdgeTests")
+  public void testApplyEdgeBatch(
+      List<Edge> edges, List<RelatedEntity> expectedOutgoing, List<RelatedEntity> expectedIncoming)
+      throws Exception {
+    GraphService service = getGraphService();
+
+    service.applyEdgeBatch(edges, Collections.emptyList(), Collections.emptyList());
+    syncAfterWrite();
+
+    RelatedEntitiesResult relatedOutgoing =
+        service.findRelatedEntities(
+            anyType,
+            EMPTY_FILTER,
+            anyType,
+            EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser),
+            outgoingRelationships,
+            0,
+            100);
+    assertEqualsAnyOrder(relatedOutgoing, expectedOutgoing);
+
+    RelatedEntitiesResult relatedIncoming =
+        service.findRelatedEntities(
+            anyType,
+            EMPTY_FILTER,
+            anyType,
+            EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser),
+            incomingRelationships,
+            0,
+            100);
+    assertEqualsAnyOrder(relatedIncoming, expectedIncoming);
+  }
+
   @Test
   public void testPopulatedGraphService() throws Exception {
     GraphService service = getPopulatedGraphService();
@@ -205,6 +205,79 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
     assertEquals(result.getTotal(), 0);
   }
 
+  @Test
+  public void testApplyEdgeBatchRemovesBeforeAdding() throws Exception {
+    DatasetUrn datasetUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "test", FabricType.TEST);
+    TagUrn oldTagUrn = new TagUrn("oldTag");
+    TagUrn newTagUrn = new TagUrn("newTag");
+    Edge oldEdge = new Edge(datasetUrn, oldTagUrn, TAG_RELATIONSHIP, null, null, null, null, null);
+    Edge newEdge = new Edge(datasetUrn, newTagUrn, TAG_RELATIONSHIP, null, null, null, null, null);
+    getGraphService().addEdge(oldEdge);
+
+    getGraphService()
+        .applyEdgeBatch(
+            Collections.singletonList(newEdge),
+            Collections.singletonList(oldEdge),
+            Collections.emptyList());
+
+    RelatedEntitiesResult result =
+        getGraphService()
+            .findRelatedEntities(
+                Collections.singletonList(datasetType),
+                newFilter(Collections.singletonMap("urn", datasetUrn.toString())),
+                Collections.singletonList("tag"),
+                EMPTY_FILTER,
+                Collections.singletonList(TAG_RELATIONSHIP),
+                newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.OUTGOING),
+                0,
+                100);
+    assertEquals(result.getTotal(), 1);
+    assertEquals(result.getEntities().get(0).getUrn(), newTagUrn.toString());
+  }
+
+  @Test
+  public void testApplyEdgeBatchWithQuotedUrns() throws Exception {
+    // Urns are passed as parameters rather than embedded in the statement text
+    DatasetUrn datasetUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "it's", FabricType.TEST);
+    List<Edge> edges =
+        Arrays.asList(
+            new Edge(datasetUrn, new TagUrn("tag'1"), TAG_RELATIONSHIP, 1L, null, 2L, null, null),
+            new Edge(datasetUrn, new TagUrn("tag'2"), TAG_RELATIONSHIP, 1L, null, 2L, null, null),
+            new Edge(datasetUrn, new TagUrn("tag'3"), TAG_RELATIONSHIP, 1L, null, 2L, null, null));
+    getGraphService().applyEdgeBatch(edges, Collections.emptyList(), Collections.emptyList());
+
+    RelatedEntitiesResult result =
+        getGraphService()
+            .findRelatedEntities(
+                Collections.singletonList(datasetType),
+                newFilter(Collections.singletonMap("urn", datasetUrn.toString())),
+                Collections.singletonList("tag"),
+                EMPTY_FILTER,
+                Collections.singletonList(TAG_RELATIONSHIP),
+                newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.OUTGOING),
+                0,
+                100);
+    assertEquals(result.getTotal(), 3);
+
+    getGraphService()
+        .applyEdgeBatch(Collections.emptyList(), edges.subList(0, 2), Collections.emptyList());
+    result =
+        getGraphService()
+            .findRelatedEntities(
+                Collections.singletonList(datasetType),
+                newFilter(Collections.singletonMap("urn", datasetUrn.toString())),
+                Collections.singletonList("tag"),
+                EMPTY_FILTER,
+                Collections.singletonList(TAG_RELATIONSHIP),
+                newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.OUTGOING),
+                0,
+                100);
+    assertEquals(result.getTotal(), 1);
+    assertEquals(result.getEntities().get(0).getUrn(), new TagUrn("tag'3").toString());
+  }
+
   private Set<UrnArray> getPathUrnArraysFromLineageResult(EntityLineageResult result) {
     return result.getRelationships().stream()
         .map(x -> x.getPaths().get(0))
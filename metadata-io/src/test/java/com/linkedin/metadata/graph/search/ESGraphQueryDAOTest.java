@@ -1,29 +1,54 @@
 package com.linkedin.metadata.graph.search;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Resources;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.UrnArrayMap;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.config.search.GraphQueryConfiguration;
 import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
 import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
+import com.linkedin.metadata.graph.elastic.LineagePathTable;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.query.LineageFlags;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class ESGraphQueryDAOTest {
+  private static final long TIMEOUT_MILLIS = 10000;
+  private static final int WALK_RUNS = 20;
 
   private static final String TEST_QUERY_FILE_LIMITED =
       "elasticsearch/sample_filters/lineage_query_filters_limited.json";
@@ -137,64 +162,56 @@ public class ESGraphQueryDAOTest {
     Urn testChild = UrnUtils.getUrn("urn:li:dashboard:(looker,test-dashboard)");
 
     // Case 0: Add with no existing paths.
-    Map<Urn, UrnArrayArray> nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineagePathTable nodePaths = new LineagePathTable();
+    nodePaths.addEdge(testParent, null, testChild);
     UrnArrayArray expectedPathsToChild =
         new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 1: No paths to parent.
-    nodePaths = new HashMap<>();
-    nodePaths.put(
-        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Other,PROD)"),
-        new UrnArrayArray());
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths = new LineagePathTable();
+    nodePaths.addEdge(
+        testChild, null, UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Other,PROD)"));
+    nodePaths.addEdge(testParent, null, testChild);
     expectedPathsToChild =
         new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 2: 1 Existing Path to Parent Node
-    nodePaths = new HashMap<>();
+    nodePaths = new LineagePathTable();
     Urn testParentParent =
         UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent,PROD)");
-    UrnArrayArray existingPathsToParent =
-        new UrnArrayArray(
-            ImmutableList.of(new UrnArray(ImmutableList.of(testParentParent, testParent))));
-    nodePaths.put(testParent, existingPathsToParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParent, null, testChild);
     expectedPathsToChild =
         new UrnArrayArray(
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 3: > 1 Existing Paths to Parent Node
-    nodePaths = new HashMap<>();
+    nodePaths = new LineagePathTable();
     Urn testParentParent2 =
         UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent2,PROD)");
-    UrnArrayArray existingPathsToParent2 =
-        new UrnArrayArray(
-            ImmutableList.of(
-                new UrnArray(ImmutableList.of(testParentParent, testParent)),
-                new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    nodePaths.put(testParent, existingPathsToParent2);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParentParent2, null, testParent);
+    nodePaths.addEdge(testParent, null, testChild);
     expectedPathsToChild =
         new UrnArrayArray(
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent, testChild)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 4: Build graph from empty by adding multiple edges
-    nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths = new LineagePathTable();
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParentParent2, null, testParent);
+    nodePaths.addEdge(testParent, null, testChild);
 
     // Verify no paths to the grand-parents
-    Assert.assertNull(nodePaths.get(testParentParent));
-    Assert.assertNull(nodePaths.get(testParentParent2));
+    Assert.assertTrue(nodePaths.getPaths(testParentParent).isEmpty());
+    Assert.assertTrue(nodePaths.getPaths(testParentParent2).isEmpty());
 
     // Verify paths to testParent
     UrnArrayArray expectedPathsToParent =
@@ -202,7 +219,7 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    Assert.assertEquals(nodePaths.get(testParent), expectedPathsToParent);
+    Assert.assertEquals(nodePaths.getPaths(testParent), expectedPathsToParent);
 
     // Verify paths to testChild
     expectedPathsToChild =
@@ -210,23 +227,23 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent, testChild)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 5: Mainly documentation: Verify that if you build the graph out of order bad things
     // happen.
     // Also test duplicate edge addition
-    nodePaths = new HashMap<>();
+    nodePaths = new LineagePathTable();
     // Add edge to testChild first! Before path to testParent has been constructed.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths.addEdge(testParent, null, testChild);
     // Duplicate paths WILL appear if you add the same edge twice. Documenting that here.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths.addEdge(testParent, null, testChild);
     // Now construct paths to testParent.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParentParent2, null, testParent);
 
     // Verify no paths to the grand-parents
-    Assert.assertNull(nodePaths.get(testParentParent));
-    Assert.assertNull(nodePaths.get(testParentParent2));
+    Assert.assertTrue(nodePaths.getPaths(testParentParent).isEmpty());
+    Assert.assertTrue(nodePaths.getPaths(testParentParent2).isEmpty());
 
     // Verify paths to testParent
     expectedPathsToParent =
@@ -234,7 +251,7 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    Assert.assertEquals(nodePaths.get(testParent), expectedPathsToParent);
+    Assert.assertEquals(nodePaths.getPaths(testParent), expectedPathsToParent);
 
     // Verify paths to testChild are INCORRECT: partial & duplicated
     expectedPathsToChild =
@@ -242,6 +259,226 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParent, testChild)),
                 new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
+  }
+
+  /**
+   * Walks a graph where entities are reached both through data jobs ignored as hops and through
+   * longer paths of datasets, and checks that the frontier walk finds the same degrees and paths
+   * as the walk it replaced, every time.
+   */
+  @Test
+  public void testLineageMatchesPreviousWalk() throws Exception {
+    Urn a = dataset("A");
+    Urn b = dataset("B");
+    Urn c = dataset("C");
+    Urn d = dataset("D");
+    Urn e = dataset("E");
+    Urn f = dataset("F");
+    Urn g = dataset("G");
+    Urn job1 = dataJob("job1");
+    Urn job2 = dataJob("job2");
+    // C is downstream of A through job1 and through B, F through job2 and through E
+    List<String[]> edges =
+        ImmutableList.of(
+            edge(b, a, "DownstreamOf"),
+            edge(job1, a, "Consumes"),
+            edge(job1, c, "Produces"),
+            edge(c, b, "DownstreamOf"),
+            edge(e, b, "DownstreamOf"),
+            edge(e, c, "DownstreamOf"),
+            edge(d, c, "DownstreamOf"),
+            edge(job2, c, "Consumes"),
+            edge(job2, f, "Produces"),
+            edge(f, e, "DownstreamOf"),
+            edge(g, d, "DownstreamOf"),
+            edge(g, f, "DownstreamOf"));
+    ESGraphQueryDAO graphQueryDAO = graphQueryDAO(edges);
+    LineageFlags lineageFlags =
+        new LineageFlags()
+            .setIgnoreAsHops(
+                new UrnArrayMap(Map.of(Constants.DATA_JOB_ENTITY_NAME, new UrnArray())));
+
+    Map<Urn, LineageRelationship> expected =
+        previousWalk(graphQueryDAO, a, LineageDirection.DOWNSTREAM, 3, lineageFlags);
+    Assert.assertEquals(expected.keySet(), Set.of(b, c, d, e, f, g, job1, job2));
+
+    for (int run = 0; run < WALK_RUNS; run++) {
+      Map<Urn, LineageRelationship> actual =
+          graphQueryDAO
+              .getLineage(
+                  a,
+                  LineageDirection.DOWNSTREAM,
+                  GraphFilters.emptyGraphFilters,
+                  0,
+                  100,
+                  3,
+                  lineageFlags)
+              .getLineageRelationships()
+              .stream()
+              .collect(Collectors.toMap(LineageRelationship::getEntity, Function.identity()));
+      Assert.assertEquals(actual.keySet(), expected.keySet());
+      for (Urn urn : expected.keySet()) {
+        Assert.assertEquals(
+            actual.get(urn).getDegree(), expected.get(urn).getDegree(), "Degree of " + urn);
+        Assert.assertEquals(
+            actual.get(urn).getPaths(), expected.get(urn).getPaths(), "Paths to " + urn);
+        Assert.assertEquals(
+            actual.get(urn).isIgnoredAsHop(),
+            expected.get(urn).isIgnoredAsHop(),
+            "Ignored as hop " + urn);
+      }
+    }
+  }
+
+  /**
+   * The lineage walk before the frontier rework: one level per hop, where the entities ignored as
+   * hops are expanded recursively at the degree of the level before moving on to the next one.
+   */
+  private static Map<Urn, LineageRelationship> previousWalk(
+      ESGraphQueryDAO graphQueryDAO,
+      Urn entityUrn,
+      LineageDirection direction,
+      int maxHops,
+      LineageFlags lineageFlags) {
+    Map<Urn, LineageRelationship> result = new HashMap<>();
+    Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
+    visitedEntities.add(entityUrn);
+    Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
+    LineagePathTable existingPaths = new LineagePathTable();
+    List<Urn> currentLevel = ImmutableList.of(entityUrn);
+    for (int i = 0; i < maxHops && !currentLevel.isEmpty(); i++) {
+      currentLevel =
+          previousOneHop(
+              graphQueryDAO,
+              currentLevel,
+              direction,
+              i + 1,
+              maxHops - i - 1,
+              visitedEntities,
+              viaEntities,
+              existingPaths,
+              result,
+              lineageFlags);
+    }
+    result.values().forEach(r -> r.getPaths().addAll(existingPaths.getPaths(r.getEntity())));
+    return result;
+  }
+
+  private static List<Urn> previousOneHop(
+      ESGraphQueryDAO graphQueryDAO,
+      List<Urn> currentLevel,
+      LineageDirection direction,
+      int numHops,
+      int remainingHops,
+      Set<Urn> visitedEntities,
+      Set<Urn> viaEntities,
+      LineagePathTable existingPaths,
+      Map<Urn, LineageRelationship> result,
+      LineageFlags lineageFlags) {
+    List<LineageRelationship> oneHopRelationships =
+        graphQueryDAO.getLineageRelationshipsInBatches(
+            currentLevel,
+            direction,
+            GraphFilters.emptyGraphFilters,
+            visitedEntities,
+            viaEntities,
+            numHops,
+            remainingHops,
+            TIMEOUT_MILLIS,
+            existingPaths,
+            false,
+            lineageFlags);
+    List<Urn> nextLevel = new ArrayList<>();
+    List<Urn> ignoredAsHops = new ArrayList<>();
+    for (LineageRelationship relationship : oneHopRelationships) {
+      result.putIfAbsent(relationship.getEntity(), relationship);
+      nextLevel.add(relationship.getEntity());
+      if (lineageFlags
+          .getIgnoreAsHops()
+          .containsKey(relationship.getEntity().getEntityType())) {
+        result.get(relationship.getEntity()).setIgnoredAsHop(true);
+        ignoredAsHops.add(relationship.getEntity());
+      }
+    }
+    if (!ignoredAsHops.isEmpty()) {
+      nextLevel.addAll(
+          previousOneHop(
+              graphQueryDAO,
+              ignoredAsHops,
+              direction,
+              numHops,
+              remainingHops,
+              visitedEntities,
+              viaEntities,
+              existingPaths,
+              result,
+              lineageFlags));
+    }
+    return nextLevel;
+  }
+
+  // A DAO over a mocked graph index, which returns every edge of the urns found in the query
+  private static ESGraphQueryDAO graphQueryDAO(List<String[]> edges) throws Exception {
+    RestHighLevelClient client = mock(RestHighLevelClient.class);
+    when(client.search(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenAnswer(
+            invocation -> {
+              String query = invocation.getArgument(0, SearchRequest.class).source().toString();
+              SearchHit[] hits =
+                  edges.stream()
+                      .filter(
+                          edge ->
+                              query.contains('"' + edge[0] + '"')
+                                  || query.contains('"' + edge[1] + '"'))
+                      .map(ESGraphQueryDAOTest::hit)
+                      .toArray(SearchHit[]::new);
+              SearchResponse response = mock(SearchResponse.class);
+              when(response.getHits())
+                  .thenReturn(
+                      new SearchHits(
+                          hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+              return response;
+            });
+    IndexConvention indexConvention = mock(IndexConvention.class);
+    when(indexConvention.getIndexName(anyString())).thenReturn("graph_service_v1");
+
+    GraphQueryConfiguration configuration = new GraphQueryConfiguration();
+    configuration.setTimeoutSeconds(TIMEOUT_MILLIS / 1000);
+    configuration.setBatchSize(1000);
+    configuration.setMaxResult(10000);
+    configuration.setQueryConcurrency(4);
+    return new ESGraphQueryDAO(
+        client,
+        new LineageRegistry(TestOperationContexts.defaultEntityRegistry()),
+        indexConvention,
+        configuration);
+  }
+
+  private static SearchHit hit(String[] edge) {
+    SearchHit hit = new SearchHit(0);
+    hit.sourceRef(
+        new BytesArray(
+            String.format(
+                "{\"source\":{\"urn\":\"%s\"},\"destination\":{\"urn\":\"%s\"},"
+                    + "\"relationshipType\":\"%s\"}",
+                edge[0],
+                edge[1],
+                edge[2])));
+    return hit;
+  }
+
+  private static String[] edge(Urn source, Urn destination, String relationshipType) {
+    return new String[] {source.toString(), destination.toString(), relationshipType};
+  }
+
+  private static Urn dataset(String name) {
+    return UrnUtils.getUrn(
+        String.format("urn:li:dataset:(urn:li:dataPlatform:hive,%s,PROD)", name));
+  }
+
+  private static Urn dataJob(String name) {
+    return UrnUtils.getUrn(
+        String.format("urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,PROD),%s)", name));
   }
 }
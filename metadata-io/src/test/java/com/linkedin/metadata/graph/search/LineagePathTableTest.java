@@ -0,0 +1,112 @@
+package com.linkedin.metadata.graph.search;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.elastic.LineagePathTable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.Test;
+
+@Slf4j
+public class LineagePathTableTest {
+  private static final int LAYERS = 6;
+  private static final int LAYER_WIDTH = 4;
+
+  private static final Urn A = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,A,PROD)");
+  private static final Urn B = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,B,PROD)");
+  private static final Urn C = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,C,PROD)");
+  private static final Urn VIA =
+      UrnUtils.getUrn("urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,PROD),job)");
+
+  @Test
+  public void testViaPaths() {
+    LineagePathTable table = new LineagePathTable();
+    table.addEdge(A, null, B);
+    assertTrue(table.addEdge(B, VIA, C));
+
+    assertEquals(
+        table.getPaths(C),
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(A, B, VIA, C)))));
+    assertEquals(
+        table.getViaPaths(C, VIA),
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(A, B, VIA)))));
+  }
+
+  @Test
+  public void testCyclicPathsAreNotExtended() {
+    LineagePathTable table = new LineagePathTable();
+    table.addEdge(A, null, B);
+    table.addEdge(B, null, A);
+    // The only path to A is [A, B, A], which is not extended any further
+    assertFalse(table.addEdge(A, null, C));
+    assertTrue(table.getPaths(C).isEmpty());
+  }
+
+  @Test
+  public void testDuplicatePathsAreNotAdded() {
+    LineagePathTable table = new LineagePathTable();
+    table.addEdge(A, null, B);
+    assertTrue(table.addEdge(B, null, C));
+    assertFalse(table.addEdge(B, null, C));
+    assertEquals(table.getPaths(C).size(), 1);
+  }
+
+  /**
+   * Walks a layered graph where every node is connected to every node of the next layer, so the
+   * number of paths to a node grows exponentially with its layer, and logs the time taken.
+   */
+  @Test
+  public void testLayeredGraph() {
+    List<List<Urn>> layers =
+        IntStream.range(0, LAYERS)
+            .mapToObj(
+                layer ->
+                    IntStream.range(0, LAYER_WIDTH)
+                        .mapToObj(
+                            i ->
+                                UrnUtils.getUrn(
+                                    String.format(
+                                        "urn:li:dataset:(urn:li:dataPlatform:hive,l%d_%d,PROD)",
+                                        layer, i)))
+                        .collect(Collectors.toList()))
+            .collect(Collectors.toList());
+
+    long start = System.nanoTime();
+    LineagePathTable table = new LineagePathTable();
+    for (Urn child : layers.get(0)) {
+      table.addEdge(A, null, child);
+    }
+    for (int layer = 1; layer < LAYERS; layer++) {
+      for (Urn parent : layers.get(layer - 1)) {
+        for (Urn child : layers.get(layer)) {
+          table.addEdge(parent, null, child);
+        }
+      }
+    }
+    long walkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    start = System.nanoTime();
+    UrnArrayArray paths = table.getPaths(layers.get(LAYERS - 1).get(0));
+    long materializeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(paths.size(), (int) Math.pow(LAYER_WIDTH, LAYERS - 1));
+    paths.forEach(path -> assertEquals(path.size(), LAYERS + 1));
+    log.info(
+        "Layered graph of {} x {} nodes: walk {} ms, materialize {} paths {} ms",
+        LAYERS,
+        LAYER_WIDTH,
+        walkMillis,
+        paths.size(),
+        materializeMillis);
+  }
+}
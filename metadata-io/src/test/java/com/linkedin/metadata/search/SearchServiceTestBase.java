@@ -9,6 +9,7 @@ import com.datahub.test.Snapshot;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.urn.TestEntityUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringArray;
@@ -214,6 +215,12 @@ public abstract class SearchServiceTestBase extends AbstractTestNGSpringContextT
         elasticSearchService.docCount(
             operationContext.withSearchFlags(flags -> flags.setFulltext(false)), ENTITY_NAME);
     assertEquals(docCount, 2L);
+    assertEquals(
+        elasticSearchService.docCounts(
+            operationContext.withSearchFlags(flags -> flags.setFulltext(false)),
+            ImmutableList.of(ENTITY_NAME),
+            null),
+        ImmutableMap.of(ENTITY_NAME, 2L));
 
     elasticSearchService.deleteDocument(operationContext, ENTITY_NAME, urn.toString());
     elasticSearchService.deleteDocument(operationContext, ENTITY_NAME, urn2.toString());
@@ -0,0 +1,85 @@
+package com.linkedin.metadata.search.cache;
+
+import static com.datahub.util.RecordUtils.toJsonString;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.TestEntityUrn;
+import com.linkedin.metadata.search.AggregationMetadataArray;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import java.io.Serializable;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.Test;
+
+public class DataMapCacheValueCodecTest {
+
+  @Test
+  public void testRoundTrip() {
+    SearchResult searchResult = getSearchResult();
+    for (boolean compress : new boolean[] {false, true}) {
+      DataMapCacheValueCodec codec = new DataMapCacheValueCodec(compress);
+      Serializable encoded = codec.encode(searchResult);
+      assertTrue(encoded instanceof byte[]);
+      assertEquals(codec.decode(SearchResult.class, encoded), searchResult);
+    }
+  }
+
+  @Test
+  public void testCompressionShrinksValue() {
+    SearchResult searchResult = getSearchResult();
+    byte[] uncompressed = (byte[]) new DataMapCacheValueCodec(false).encode(searchResult);
+    byte[] compressed = (byte[]) new DataMapCacheValueCodec(true).encode(searchResult);
+    assertTrue(compressed.length < uncompressed.length);
+  }
+
+  @Test
+  public void testDecodesJsonValues() {
+    SearchResult searchResult = getSearchResult();
+    assertEquals(
+        new DataMapCacheValueCodec(true).decode(SearchResult.class, toJsonString(searchResult)),
+        searchResult);
+  }
+
+  @Test
+  public void testDecodesValuesOfEitherCompression() {
+    SearchResult searchResult = getSearchResult();
+    Serializable compressed = new DataMapCacheValueCodec(true).encode(searchResult);
+    Serializable uncompressed = new DataMapCacheValueCodec(false).encode(searchResult);
+    assertEquals(
+        new DataMapCacheValueCodec(false).decode(SearchResult.class, compressed), searchResult);
+    assertEquals(
+        new DataMapCacheValueCodec(true).decode(SearchResult.class, uncompressed), searchResult);
+  }
+
+  @Test
+  public void testUndecodableValuesAreMisses() {
+    DataMapCacheValueCodec codec = new DataMapCacheValueCodec(true);
+    assertNull(codec.decode(SearchResult.class, new byte[0]));
+    assertNull(codec.decode(SearchResult.class, new byte[] {42, 1, 2, 3}));
+    assertNull(codec.decode(SearchResult.class, new byte[] {2, 1, 2, 3}));
+    assertNull(codec.decode(SearchResult.class, "not json"));
+    assertNull(
+        JsonCacheValueCodec.INSTANCE.decode(SearchResult.class, codec.encode(getSearchResult())));
+  }
+
+  private static SearchResult getSearchResult() {
+    return new SearchResult()
+        .setEntities(
+            new SearchEntityArray(
+                IntStream.range(0, 100)
+                    .mapToObj(
+                        i ->
+                            new SearchEntity()
+                                .setEntity(new TestEntityUrn(i + "", "test", "test")))
+                    .collect(Collectors.toList())))
+        .setNumEntities(100)
+        .setFrom(0)
+        .setPageSize(100)
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()));
+  }
+}
@@ -0,0 +1,72 @@
+package com.linkedin.metadata.search.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.CriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.EntitySearchService;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class EntityDocCountCacheTest {
+
+  @Test
+  public void testEntityDocCountCache() {
+    EntityRegistry entityRegistry = mock(EntityRegistry.class);
+    Map<String, EntitySpec> entitySpecs =
+        ImmutableMap.of("dataset", mock(EntitySpec.class), "chart", mock(EntitySpec.class));
+    when(entityRegistry.getEntitySpecs()).thenReturn(entitySpecs);
+    OperationContext opContext = mock(OperationContext.class);
+    when(opContext.getSearchContextId()).thenReturn("searchContext");
+
+    Filter filter =
+        new Filter()
+            .setOr(
+                new ConjunctiveCriterionArray(
+                    new ConjunctiveCriterion()
+                        .setAnd(
+                            new CriterionArray(
+                                ImmutableList.of(
+                                    new Criterion()
+                                        .setField("platform")
+                                        .setCondition(Condition.EQUAL)
+                                        .setValue("hive"))))));
+    EntitySearchService entitySearchService = mock(EntitySearchService.class);
+    when(entitySearchService.docCounts(any(), eq(entitySpecs.keySet()), isNull()))
+        .thenReturn(ImmutableMap.of("dataset", 2L, "chart", 0L));
+    when(entitySearchService.docCounts(any(), eq(entitySpecs.keySet()), eq(filter)))
+        .thenReturn(ImmutableMap.of("dataset", 1L, "chart", 0L));
+
+    EntityDocCountCacheConfiguration config = new EntityDocCountCacheConfiguration();
+    config.setTtlSeconds(600L);
+    config.setMaxSize(10L);
+    EntityDocCountCache cache =
+        new EntityDocCountCache(entityRegistry, entitySearchService, config);
+
+    assertEquals(cache.getEntityDocCount(opContext), ImmutableMap.of("dataset", 2L, "chart", 0L));
+    assertEquals(cache.getNonEmptyEntities(opContext), ImmutableList.of("dataset"));
+    assertEquals(
+        cache.getEntityDocCount(opContext, filter), ImmutableMap.of("dataset", 1L, "chart", 0L));
+
+    // All entities are counted at once, and once per filter
+    verify(entitySearchService, times(1)).docCounts(any(), any(), isNull());
+    verify(entitySearchService, times(1)).docCounts(any(), any(), eq(filter));
+  }
+}
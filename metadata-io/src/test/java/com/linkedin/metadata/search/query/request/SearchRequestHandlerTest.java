@@ -17,9 +17,11 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchRequestHandler;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.search.config.SearchCommonTestConfiguration;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,17 +32,32 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.lucene.search.TotalHits;
+import org.mockito.Mockito;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.MatchQueryBuilder;
 import org.opensearch.index.query.MultiMatchQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FieldAndFormat;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Import;
@@ -49,6 +66,8 @@ import org.testng.annotations.Test;
 
 @Import(SearchCommonTestConfiguration.class)
 public class SearchRequestHandlerTest extends AbstractTestNGSpringContextTests {
+  private static final Logger log = LoggerFactory.getLogger(SearchRequestHandlerTest.class);
+  private static final String TEST_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)";
 
   @Autowired
   @Qualifier("queryOperationContext")
@@ -646,6 +665,113 @@ public class SearchRequestHandlerTest extends AbstractTestNGSpringContextTests {
     assertEquals(((ExistsQueryBuilder) mustHaveV1.must().get(0)).fieldName(), "browsePaths");
   }
 
+  @Test
+  public void testRequestsFetchUrnDocValue() {
+    SearchRequestHandler requestHandler =
+        SearchRequestHandler.getBuilder(TestEntitySpecBuilder.getSpec(), testQueryConfig, null);
+    OperationContext opContext =
+        operationContext.withSearchFlags(flags -> flags.setFulltext(false));
+
+    List<SearchSourceBuilder> sourceBuilders =
+        List.of(
+            requestHandler
+                .getSearchRequest(opContext, "testQuery", null, null, 0, 10, null)
+                .source(),
+            requestHandler
+                .getSearchRequest(opContext, "testQuery", null, null, null, null, null, 10, null)
+                .source(),
+            requestHandler.getFilterRequest(opContext, null, null, 0, 10).source());
+    for (SearchSourceBuilder sourceBuilder : sourceBuilders) {
+      assertFalse(sourceBuilder.fetchSource().fetchSource());
+      assertEquals(
+          sourceBuilder.docValueFields().stream()
+              .map(FieldAndFormat::getField)
+              .collect(Collectors.toList()),
+          List.of("urn"));
+    }
+  }
+
+  @Test
+  public void testExtractResultFromUrnDocValue() {
+    SearchRequestHandler requestHandler =
+        SearchRequestHandler.getBuilder(TestEntitySpecBuilder.getSpec(), testQueryConfig, null);
+    SearchHit docValueHit = urnHit(TEST_URN);
+    docValueHit.matchedQueries(new String[] {"urn"});
+    // Hits with the urn in their source are still supported
+    SearchHit sourceHit = new SearchHit(1, "1", Map.of(), Map.of());
+    sourceHit.sourceRef(new BytesArray("{\"urn\":\"urn:li:dataset:source\"}"));
+    SearchResponse searchResponse = Mockito.mock(SearchResponse.class);
+    Mockito.when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {docValueHit, sourceHit},
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                1.0f));
+
+    SearchResult result =
+        requestHandler.extractResult(
+            operationContext.withSearchFlags(flags -> flags.setSkipAggregates(true)),
+            searchResponse,
+            null,
+            0,
+            10);
+
+    assertEquals(result.getNumEntities(), 2);
+    assertEquals(result.getEntities().get(0).getEntity().toString(), TEST_URN);
+    assertEquals(result.getEntities().get(1).getEntity().toString(), "urn:li:dataset:source");
+    // The urn doc value is not reported as a matched value
+    assertEquals(result.getEntities().get(0).getMatchedFields().get(0).getName(), "urn");
+    assertEquals(result.getEntities().get(0).getMatchedFields().get(0).getValue(), "");
+  }
+
+  /**
+   * Compares the bytes of a hit in the search response when fetching the source of a document with
+   * those of fetching only the urn doc value.
+   */
+  @Test
+  public void testUrnDocValueBytesPerHitBenchmark() throws IOException {
+    Map<String, Object> document = new HashMap<>();
+    document.put("urn", TEST_URN);
+    document.put("name", "test_table");
+    document.put("description", "A table with many columns ".repeat(20));
+    document.put("platform", "urn:li:dataPlatform:hive");
+    document.put(
+        "fieldPaths",
+        IntStream.range(0, 500).mapToObj(i -> "column_" + i).collect(Collectors.toList()));
+    document.put(
+        "fieldDescriptions",
+        IntStream.range(0, 500)
+            .mapToObj(i -> "Description of column " + i)
+            .collect(Collectors.toList()));
+    document.put("tags", List.of("urn:li:tag:pii", "urn:li:tag:gold", "urn:li:tag:deprecated"));
+    document.put("customProperties", List.of("owner=team", "retention=30d"));
+    SearchHit sourceHit = new SearchHit(0, "0", Map.of(), Map.of());
+    sourceHit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(document)));
+    sourceHit.score(1.0f);
+    SearchHit docValueHit = urnHit(TEST_URN);
+
+    int sourceBytes = hitBytes(sourceHit);
+    int docValueBytes = hitBytes(docValueHit);
+    log.info(
+        "A search hit is {} bytes with its source, {} bytes with the urn doc value",
+        sourceBytes,
+        docValueBytes);
+    assertTrue(docValueBytes < sourceBytes / 10);
+  }
+
+  private static SearchHit urnHit(String urn) {
+    SearchHit hit =
+        new SearchHit(0, "0", Map.of("urn", new DocumentField("urn", List.of(urn))), Map.of());
+    hit.score(1.0f);
+    return hit;
+  }
+
+  private static int hitBytes(SearchHit hit) throws IOException {
+    XContentBuilder builder = XContentFactory.jsonBuilder();
+    hit.toXContent(builder, ToXContent.EMPTY_PARAMS);
+    return BytesReference.bytes(builder).length();
+  }
+
   private BoolQueryBuilder getQuery(final Criterion filterCriterion) {
     final Filter filter =
         new Filter()
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.schema.PathSpec;
 import com.linkedin.entity.Aspect;
 import com.linkedin.metadata.TestEntitySpecBuilder;
 import com.linkedin.metadata.TestEntityUtil;
@@ -181,7 +182,10 @@ public class SearchDocumentTransformerTest {
 
     // Mock Behaviour
     Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
-    Mockito.when(aspectRetriever.getLatestAspectObject(any(), anyString())).thenReturn(aspect);
+    Mockito.when(aspectRetriever.getLatestAspectObjects(any(), any()))
+        .thenAnswer(
+            invocation ->
+                allAspects(invocation.getArgument(0), invocation.getArgument(1), aspect));
     OperationContext opContext =
         TestOperationContexts.systemContextNoSearchAuthorization(
             RetrieverContext.builder()
@@ -235,8 +239,8 @@ public class SearchDocumentTransformerTest {
 
     Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
     Mockito.when(
-            aspectRetriever.getLatestAspectObject(
-                eq(Urn.createFromString("urn:li:refEntity:1")), anyString()))
+            aspectRetriever.getLatestAspectObjects(
+                eq(Set.of(Urn.createFromString("urn:li:refEntity:1"))), any()))
         .thenThrow(new RuntimeException("Error"));
     OperationContext opContext =
         TestOperationContexts.systemContextNoSearchAuthorization(
@@ -270,11 +274,13 @@ public class SearchDocumentTransformerTest {
 
     Aspect aspect = new Aspect(dataMapBuilder.convertToDataMap());
     Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
+    // Only the key aspect of the referenced entity exists
+    String keyAspectName = entityRegistry.getEntitySpec("refEntity").getKeyAspectName();
     Mockito.when(
-            aspectRetriever.getLatestAspectObject(
-                eq(Urn.createFromString("urn:li:refEntity:1")), anyString()))
-        .thenReturn(aspect)
-        .thenThrow(new RuntimeException("Error"));
+            aspectRetriever.getLatestAspectObjects(
+                eq(Set.of(Urn.createFromString("urn:li:refEntity:1"))), any()))
+        .thenReturn(
+            Map.of(Urn.createFromString("urn:li:refEntity:1"), Map.of(keyAspectName, aspect)));
     OperationContext opContext =
         TestOperationContexts.systemContextNoSearchAuthorization(
             RetrieverContext.builder()
@@ -305,7 +311,7 @@ public class SearchDocumentTransformerTest {
     List<Object> urnList = List.of(Urn.createFromString("urn:li:refEntity:1"));
 
     Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
-    Mockito.when(aspectRetriever.getLatestAspectObject(any(), anyString())).thenReturn(null);
+    Mockito.when(aspectRetriever.getLatestAspectObjects(any(), any())).thenReturn(Map.of());
     SearchableRefFieldSpec searchableRefFieldSpec =
         entityRegistry.getEntitySpec("testRefEntity").getSearchableRefFieldSpecs().get(0);
     OperationContext opContext =
@@ -323,6 +329,113 @@ public class SearchDocumentTransformerTest {
     assertTrue(searchDocument.get("refEntityUrns").getNodeType().equals(JsonNodeType.NULL));
   }
 
+  @Test
+  public void testSetSearchableRefValue_BatchesReferencedEntities()
+      throws URISyntaxException, RemoteInvocationException {
+    AspectRetriever aspectRetriever = Mockito.mock(AspectRetriever.class);
+    SearchDocumentTransformer searchDocumentTransformer =
+        new SearchDocumentTransformer(1000, 1000, 1000);
+
+    EntityRegistry entityRegistry = getTestEntityRegistry();
+    List<Object> urnList = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      urnList.add(Urn.createFromString("urn:li:refEntity:" + i));
+    }
+    Aspect aspect = refEntityAspect();
+
+    Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
+    Mockito.when(aspectRetriever.getLatestAspectObjects(any(), any()))
+        .thenAnswer(
+            invocation ->
+                allAspects(invocation.getArgument(0), invocation.getArgument(1), aspect));
+    OperationContext opContext = refOperationContext(aspectRetriever);
+
+    ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
+    SearchableRefFieldSpec searchableRefFieldSpec =
+        entityRegistry.getEntitySpec("testRefEntity").getSearchableRefFieldSpecs().get(0);
+    // An array of references to the same entity type
+    SearchableRefFieldSpec arraySpec =
+        new SearchableRefFieldSpec(
+            new PathSpec("refEntityAssociations", "*", "destinationUrn"),
+            searchableRefFieldSpec.getSearchableRefAnnotation(),
+            searchableRefFieldSpec.getPegasusSchema());
+    searchDocumentTransformer.setSearchableRefValue(
+        opContext, arraySpec, urnList, searchDocument, false);
+
+    assertEquals(searchDocument.get("refEntityUrns").size(), urnList.size());
+    Mockito.verify(aspectRetriever, Mockito.times(1)).getLatestAspectObjects(any(), any());
+    Mockito.verify(aspectRetriever, Mockito.never()).getLatestAspectObject(any(), anyString());
+  }
+
+  @Test
+  public void testSetSearchableRefValue_CachesReferencedEntities()
+      throws URISyntaxException, RemoteInvocationException {
+    AspectRetriever aspectRetriever = Mockito.mock(AspectRetriever.class);
+    SearchDocumentTransformer searchDocumentTransformer =
+        new SearchDocumentTransformer(1000, 1000, 1000, 100, 60);
+
+    EntityRegistry entityRegistry = getTestEntityRegistry();
+    Urn refUrn = Urn.createFromString("urn:li:refEntity:1");
+    Aspect aspect = refEntityAspect();
+
+    Mockito.when(aspectRetriever.getEntityRegistry()).thenReturn(entityRegistry);
+    Mockito.when(aspectRetriever.getLatestAspectObjects(any(), any()))
+        .thenAnswer(
+            invocation ->
+                allAspects(invocation.getArgument(0), invocation.getArgument(1), aspect));
+    OperationContext opContext = refOperationContext(aspectRetriever);
+    SearchableRefFieldSpec searchableRefFieldSpec =
+        entityRegistry.getEntitySpec("testRefEntity").getSearchableRefFieldSpecs().get(0);
+
+    ObjectNode first = JsonNodeFactory.instance.objectNode();
+    searchDocumentTransformer.setSearchableRefValue(
+        opContext, searchableRefFieldSpec, List.of(refUrn), first, false);
+    ObjectNode second = JsonNodeFactory.instance.objectNode();
+    searchDocumentTransformer.setSearchableRefValue(
+        opContext, searchableRefFieldSpec, List.of(refUrn), second, false);
+    assertEquals(second, first);
+    Mockito.verify(aspectRetriever, Mockito.times(1)).getLatestAspectObjects(any(), any());
+
+    // Changes to the referenced entity evict it from the cache
+    searchDocumentTransformer.invalidateRefCache(refUrn);
+    searchDocumentTransformer.setSearchableRefValue(
+        opContext,
+        searchableRefFieldSpec,
+        List.of(refUrn),
+        JsonNodeFactory.instance.objectNode(),
+        false);
+    Mockito.verify(aspectRetriever, Mockito.times(2)).getLatestAspectObjects(any(), any());
+  }
+
+  private static Aspect refEntityAspect() {
+    DataMapBuilder dataMapBuilder = new DataMapBuilder();
+    dataMapBuilder.addKVPair("fieldPath", "refEntityUrn");
+    dataMapBuilder.addKVPair("name", "refEntityUrnName");
+    dataMapBuilder.addKVPair("description", "refEntityUrn1 description details");
+    return new Aspect(dataMapBuilder.convertToDataMap());
+  }
+
+  private static OperationContext refOperationContext(AspectRetriever aspectRetriever) {
+    return TestOperationContexts.systemContextNoSearchAuthorization(
+        RetrieverContext.builder()
+            .aspectRetriever(aspectRetriever)
+            .graphRetriever(mock(GraphRetriever.class))
+            .searchRetriever(mock(SearchRetriever.class))
+            .build());
+  }
+
+  /** Returns the aspect for every requested urn and aspect name. */
+  private static Map<Urn, Map<String, Aspect>> allAspects(
+      Set<Urn> urns, Set<String> aspectNames, Aspect aspect) {
+    Map<Urn, Map<String, Aspect>> result = new HashMap<>();
+    for (Urn urn : urns) {
+      Map<String, Aspect> aspects = new HashMap<>();
+      aspectNames.forEach(aspectName -> aspects.put(aspectName, aspect));
+      result.put(urn, aspects);
+    }
+    return result;
+  }
+
   private EntityRegistry getTestEntityRegistry() {
     return new ConfigEntityRegistry(
         TestSearchFieldConfig.class
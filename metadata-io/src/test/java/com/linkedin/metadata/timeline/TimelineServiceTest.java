@@ -1,6 +1,8 @@
 package com.linkedin.metadata.timeline;
 
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
+import static org.testng.Assert.assertEquals;
 
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.FabricType;
@@ -9,6 +11,8 @@ import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.EntityServiceImpl;
 import com.linkedin.metadata.entity.TestEntityRegistry;
 import com.linkedin.metadata.event.EventProducer;
@@ -19,6 +23,7 @@ import com.linkedin.metadata.models.registry.MergedEntityRegistry;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
+import com.linkedin.metadata.timeline.data.ChangeEvent;
 import com.linkedin.metadata.timeline.data.ChangeTransaction;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.schema.MySqlDDL;
@@ -33,10 +38,13 @@ import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.mockito.AdditionalAnswers;
 import org.testng.annotations.Test;
 
 /**
@@ -126,6 +134,70 @@ public abstract class TimelineServiceTest<T_AD extends AspectDao> {
     // Assert.assertEquals(changes.get(1).getTimestamp(), timestamps.get(5).getTime().longValue());
   }
 
+  @Test
+  public void testGetTimelineLookbackMatchesPerVersionReads() throws Exception {
+    Urn entityUrn =
+        Urn.createFromString(
+            "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.barTable"
+                + System.currentTimeMillis()
+                + ",PROD)");
+    String aspectName = "schemaMetadata";
+
+    ArrayList<AuditStamp> timestamps = new ArrayList<>();
+    for (int i = 7; i > 0; i--) {
+      AuditStamp daysAgo = createTestAuditStamp(i);
+      timestamps.add(daysAgo);
+      _entityServiceImpl.ingestAspects(
+          opContext,
+          entityUrn,
+          Collections.singletonList(
+              new Pair<>(aspectName, getSchemaMetadata("This is the description for day " + i))),
+          daysAgo,
+          getSystemMetadata(daysAgo, "run-" + i));
+    }
+
+    // Reads the lookback versions one at a time, as the timeline did before batching them
+    AspectDao perVersionDao = mock(AspectDao.class, AdditionalAnswers.delegatesTo(_aspectDao));
+    doAnswer(
+            invocation -> {
+              Set<EntityAspectIdentifier> keys = invocation.getArgument(0);
+              Map<EntityAspectIdentifier, EntityAspect> rows = new HashMap<>();
+              for (EntityAspectIdentifier key : keys) {
+                EntityAspect row =
+                    _aspectDao.getAspect(key.getUrn(), key.getAspect(), key.getVersion());
+                if (row != null) {
+                  rows.put(key, row);
+                }
+              }
+              return rows;
+            })
+        .when(perVersionDao)
+        .batchGet(anySet());
+    TimelineService perVersionTimelineService =
+        new TimelineServiceImpl(perVersionDao, _testEntityRegistry);
+
+    // Start the range after the first versions, so the version before it is looked up
+    Set<ChangeCategory> elements = Set.of(ChangeCategory.TECHNICAL_SCHEMA);
+    long startTime = timestamps.get(4).getTime() - 3000L;
+    List<ChangeTransaction> changes =
+        _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null, false);
+    List<ChangeTransaction> perVersionChanges =
+        perVersionTimelineService.getTimeline(
+            entityUrn, elements, startTime, 0, null, null, false);
+
+    verify(perVersionDao, atLeastOnce()).batchGet(anySet());
+    assertEquals(changeEvents(changes), changeEvents(perVersionChanges));
+    assertEquals(
+        changes.stream().map(ChangeTransaction::getSemVer).collect(Collectors.toList()),
+        perVersionChanges.stream().map(ChangeTransaction::getSemVer).collect(Collectors.toList()));
+  }
+
+  private static List<List<ChangeEvent>> changeEvents(List<ChangeTransaction> transactions) {
+    return transactions.stream()
+        .map(ChangeTransaction::getChangeEvents)
+        .collect(Collectors.toList());
+  }
+
   private static AuditStamp createTestAuditStamp(int daysAgo) {
     try {
       Long timestamp = System.currentTimeMillis() - (daysAgo * 24 * 60 * 60 * 1000L);
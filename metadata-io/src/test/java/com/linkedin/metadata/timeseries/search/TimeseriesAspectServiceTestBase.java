@@ -61,6 +61,7 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -436,6 +437,33 @@ public abstract class TimeseriesAspectServiceTestBase extends AbstractTestNGSpri
     validateAspectValues(resultAspects, 0);
   }
 
+  @Test(
+      groups = {"getAspectValues"},
+      dependsOnGroups = {"upsert"})
+  public void testGetAspectTimeseriesValuesMultipleUrns() {
+    Urn nonExistingUrn = new TestEntityUrn("missing", "missing", "missing");
+    int expectedNumRows = 10;
+    Map<Urn, List<EnvelopedAspect>> resultAspects =
+        elasticSearchTimeseriesAspectService.getAspectValues(
+            opContext,
+            Set.of(TEST_URN, nonExistingUrn),
+            ENTITY_NAME,
+            ASPECT_NAME,
+            startTime,
+            null,
+            expectedNumRows,
+            null,
+            null);
+    assertEquals(resultAspects.keySet(), Set.of(TEST_URN, nonExistingUrn));
+    // The limit applies to each urn
+    validateAspectValues(resultAspects.get(TEST_URN), expectedNumRows);
+    validateAspectValues(resultAspects.get(nonExistingUrn), 0);
+    assertEquals(
+        resultAspects.get(TEST_URN),
+        elasticSearchTimeseriesAspectService.getAspectValues(
+            opContext, TEST_URN, ENTITY_NAME, ASPECT_NAME, startTime, null, expectedNumRows, null));
+  }
+
   /*
    * Tests for getAggregatedStats API
    */
@@ -5,6 +5,9 @@ import static org.mockito.Mockito.*;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.NumericNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
@@ -15,13 +18,21 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpEntity;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Request;
+import org.opensearch.client.RequestOptions;
 import org.opensearch.client.Response;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.search.SearchHits;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -72,4 +83,44 @@ public class TimeseriesAspectServiceUnitTest {
 
     Assert.assertEquals(results.get(0).getSizeInMb(), 8078.398031);
   }
+
+  @Test
+  public void testGetAspectValuesLeavesOutFailedUrns() throws IOException {
+    Urn failedUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,failed,PROD)");
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,succeeded,PROD)");
+    when(_indexConvention.getTimeseriesAspectIndexName(any(), any())).thenReturn(INDEX_PATTERN);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    MultiSearchResponse multiSearchResponse = mock(MultiSearchResponse.class);
+    when(_searchClient.msearch(any(MultiSearchRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenAnswer(
+            invocation -> {
+              // Fail the search of the failed urn, wherever it is in the request
+              MultiSearchRequest request = invocation.getArgument(0);
+              MultiSearchResponse.Item[] items =
+                  new MultiSearchResponse.Item[request.requests().size()];
+              for (int i = 0; i < items.length; i++) {
+                items[i] =
+                    request.requests().get(i).source().toString().contains(failedUrn.toString())
+                        ? new MultiSearchResponse.Item(null, new IOException("shard failure"))
+                        : new MultiSearchResponse.Item(searchResponse, null);
+              }
+              when(multiSearchResponse.getResponses()).thenReturn(items);
+              return multiSearchResponse;
+            });
+
+    Map<Urn, List<EnvelopedAspect>> results =
+        _timeseriesAspectService.getAspectValues(
+            opContext,
+            Set.of(failedUrn, urn),
+            "dataset",
+            "datasetProfile",
+            null,
+            null,
+            10,
+            null,
+            null);
+
+    Assert.assertEquals(results, Map.of(urn, Collections.emptyList()));
+  }
 }
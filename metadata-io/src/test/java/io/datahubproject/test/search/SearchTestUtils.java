@@ -262,6 +262,7 @@ public class SearchTestUtils {
         setBatchSize(1000);
         setTimeoutSeconds(10);
         setMaxResult(10000);
+        setQueryConcurrency(4);
         setEnableMultiPathSearch(true);
         setBoostViaNodes(true);
       }
@@ -3,13 +3,23 @@ package com.linkedin.metadata.kafka;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.metadata.EventUtils;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -25,79 +35,201 @@ public class MCLKafkaListener {
   private final String consumerGroupId;
   private final List<MetadataChangeLogHook> hooks;
 
+  // Hooks in invocation order. Groups run one after the other, only independent hooks sharing an
+  // execution order are grouped together and may run concurrently.
+  private final List<List<MetadataChangeLogHook>> hookGroups;
+
+  // Runs the events of different urns within a poll concurrently, null when processing is serial
+  @Nullable private final ExecutorService urnExecutor;
+
+  // Runs independent hooks of a single event concurrently, null when processing is serial
+  @Nullable private final ExecutorService hookExecutor;
+
   public MCLKafkaListener(
       OperationContext systemOperationContext,
       String consumerGroup,
       List<MetadataChangeLogHook> hooks) {
+    this(systemOperationContext, consumerGroup, hooks, 1);
+  }
+
+  /**
+   * @param parallelism the max number of urns processed concurrently by {@link #consumeBatch}, 1
+   *     processes every event and hook serially
+   */
+  public MCLKafkaListener(
+      OperationContext systemOperationContext,
+      String consumerGroup,
+      List<MetadataChangeLogHook> hooks,
+      int parallelism) {
     this.consumerGroupId = consumerGroup;
     this.hooks = hooks;
     this.hooks.forEach(hook -> hook.init(systemOperationContext));
+    this.hookGroups = groupHooks(hooks);
+
+    if (parallelism > 1) {
+      this.urnExecutor =
+          Executors.newFixedThreadPool(
+              parallelism,
+              new ThreadFactoryBuilder()
+                  .setNameFormat(consumerGroup + "-urn-%d")
+                  .setDaemon(true)
+                  .build());
+      this.hookExecutor =
+          Executors.newFixedThreadPool(
+              parallelism,
+              new ThreadFactoryBuilder()
+                  .setNameFormat(consumerGroup + "-hook-%d")
+                  .setDaemon(true)
+                  .build());
+    } else {
+      this.urnExecutor = null;
+      this.hookExecutor = null;
+    }
 
     log.info(
-        "Enabled MCL Hooks - Group: {} Hooks: {}",
+        "Enabled MCL Hooks - Group: {} Hooks: {} Parallelism: {}",
         consumerGroup,
-        hooks.stream().map(hook -> hook.getClass().getSimpleName()).collect(Collectors.toList()));
+        hooks.stream().map(hook -> hook.getClass().getSimpleName()).collect(Collectors.toList()),
+        parallelism);
   }
 
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     try (Timer.Context i = MetricUtils.timer(this.getClass(), "consume").time()) {
-      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-      final GenericRecord record = consumerRecord.value();
-      log.debug(
-          "Got MCL event consumer: {} key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
-          consumerGroupId,
-          consumerRecord.key(),
-          consumerRecord.topic(),
-          consumerRecord.partition(),
-          consumerRecord.offset(),
-          consumerRecord.serializedValueSize(),
-          consumerRecord.timestamp());
-      MetricUtils.counter(this.getClass(), consumerGroupId + "_received_mcl_count").inc();
-
-      MetadataChangeLog event;
-      try {
-        event = EventUtils.avroToPegasusMCL(record);
-      } catch (Exception e) {
-        MetricUtils.counter(
-                this.getClass(), consumerGroupId + "_avro_to_pegasus_conversion_failure")
-            .inc();
-        log.error("Error deserializing message due to: ", e);
-        log.error("Message: {}", record.toString());
-        return;
+      MetadataChangeLog event = toMetadataChangeLog(consumerRecord);
+      if (event != null) {
+        invokeHooks(event);
       }
+    }
+  }
 
-      log.info(
-          "Invoking MCL hooks for consumer: {} urn: {}, aspect name: {}, entity type: {}, change type: {}",
-          consumerGroupId,
-          event.getEntityUrn(),
-          event.hasAspectName() ? event.getAspectName() : null,
-          event.hasEntityType() ? event.getEntityType() : null,
-          event.hasChangeType() ? event.getChangeType() : null);
-
-      // Here - plug in additional "custom processor hooks"
-      for (MetadataChangeLogHook hook : this.hooks) {
-        log.info(
-            "Invoking MCL hook {} for urn: {}",
-            hook.getClass().getSimpleName(),
-            event.getEntityUrn());
-        try (Timer.Context ignored =
-            MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
-                .time()) {
-          hook.invoke(event);
-        } catch (Exception e) {
-          // Just skip this hook and continue. - Note that this represents "at most once"//
-          // processing.
-          MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
-          log.error(
-              "Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+  /**
+   * Processes a poll's worth of records. Events for the same urn are processed in offset order,
+   * events for different urns are processed concurrently. The method only returns once every hook
+   * has completed for every record, so offsets committed by the consumer on the next poll never
+   * cover records that are still being processed.
+   */
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context i = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      MetricUtils.histogram(this.getClass(), "consumeBatch_size").update(consumerRecords.size());
+
+      final Map<String, List<MetadataChangeLog>> eventsByUrn = new LinkedHashMap<>();
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        MetadataChangeLog event = toMetadataChangeLog(consumerRecord);
+        if (event != null) {
+          String orderingKey =
+              event.hasEntityUrn()
+                  ? event.getEntityUrn().toString()
+                  : Objects.toString(consumerRecord.key(), "");
+          eventsByUrn.computeIfAbsent(orderingKey, key -> new ArrayList<>()).add(event);
         }
       }
-      // TODO: Manually commit kafka offsets after full processing.
-      MetricUtils.counter(this.getClass(), consumerGroupId + "_consumed_mcl_count").inc();
-      log.info(
-          "Successfully completed MCL hooks for consumer: {} urn: {}",
-          consumerGroupId,
-          event.getEntityUrn());
+
+      if (urnExecutor == null) {
+        eventsByUrn.values().forEach(events -> events.forEach(this::invokeHooks));
+        return;
+      }
+
+      CompletableFuture.allOf(
+              eventsByUrn.values().stream()
+                  .map(
+                      events ->
+                          CompletableFuture.runAsync(
+                              () -> events.forEach(this::invokeHooks), urnExecutor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+    }
+  }
+
+  @Nullable
+  private MetadataChangeLog toMetadataChangeLog(
+      final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+    log.debug(
+        "Got MCL event consumer: {} key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+        consumerGroupId,
+        consumerRecord.key(),
+        consumerRecord.topic(),
+        consumerRecord.partition(),
+        consumerRecord.offset(),
+        consumerRecord.serializedValueSize(),
+        consumerRecord.timestamp());
+    MetricUtils.counter(this.getClass(), consumerGroupId + "_received_mcl_count").inc();
+
+    try {
+      return EventUtils.avroToPegasusMCL(record);
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), consumerGroupId + "_avro_to_pegasus_conversion_failure")
+          .inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return null;
+    }
+  }
+
+  private void invokeHooks(@Nonnull final MetadataChangeLog event) {
+    log.info(
+        "Invoking MCL hooks for consumer: {} urn: {}, aspect name: {}, entity type: {}, change type: {}",
+        consumerGroupId,
+        event.getEntityUrn(),
+        event.hasAspectName() ? event.getAspectName() : null,
+        event.hasEntityType() ? event.getEntityType() : null,
+        event.hasChangeType() ? event.getChangeType() : null);
+
+    // Here - plug in additional "custom processor hooks"
+    for (List<MetadataChangeLogHook> hookGroup : hookGroups) {
+      if (hookExecutor == null || hookGroup.size() == 1) {
+        hookGroup.forEach(hook -> invokeHook(hook, event));
+      } else {
+        // Run the first hook on the calling thread while the others run on the hook pool
+        List<CompletableFuture<Void>> futures =
+            hookGroup.subList(1, hookGroup.size()).stream()
+                .map(
+                    hook -> CompletableFuture.runAsync(() -> invokeHook(hook, event), hookExecutor))
+                .collect(Collectors.toList());
+        invokeHook(hookGroup.get(0), event);
+        futures.forEach(CompletableFuture::join);
+      }
+    }
+
+    MetricUtils.counter(this.getClass(), consumerGroupId + "_consumed_mcl_count").inc();
+    log.info(
+        "Successfully completed MCL hooks for consumer: {} urn: {}",
+        consumerGroupId,
+        event.getEntityUrn());
+  }
+
+  private void invokeHook(
+      @Nonnull final MetadataChangeLogHook hook, @Nonnull final MetadataChangeLog event) {
+    log.info(
+        "Invoking MCL hook {} for urn: {}", hook.getClass().getSimpleName(), event.getEntityUrn());
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency").time()) {
+      hook.invoke(event);
+    } catch (Exception e) {
+      // Just skip this hook and continue. - Note that this represents "at most once"//
+      // processing.
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+    }
+  }
+
+  private static List<List<MetadataChangeLogHook>> groupHooks(
+      @Nonnull final List<MetadataChangeLogHook> hooks) {
+    final List<List<MetadataChangeLogHook>> groups = new ArrayList<>();
+    List<MetadataChangeLogHook> group = null;
+    for (MetadataChangeLogHook hook : hooks) {
+      if (group != null
+          && hook.isIndependent()
+          && group.get(0).isIndependent()
+          && group.get(0).executionOrder() == hook.executionOrder()) {
+        group.add(hook);
+      } else {
+        group = new ArrayList<>();
+        group.add(hook);
+        groups.add(group);
+      }
     }
+    return groups;
   }
 }
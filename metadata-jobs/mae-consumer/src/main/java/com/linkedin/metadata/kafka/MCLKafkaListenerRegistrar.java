@@ -52,6 +52,9 @@ public class MCLKafkaListenerRegistrar implements InitializingBean {
       "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}")
   private String mclTimeseriesTopicName;
 
+  @Value("${kafka.listener.mcl.parallelism:1}")
+  private int mclParallelism;
+
   @Autowired private List<MetadataChangeLogHook> metadataChangeLogHooks;
 
   @Override
@@ -99,10 +102,17 @@ public class MCLKafkaListenerRegistrar implements InitializingBean {
     kafkaListenerEndpoint.setTopics(topics.toArray(new String[topics.size()]));
     kafkaListenerEndpoint.setMessageHandlerMethodFactory(new DefaultMessageHandlerMethodFactory());
     kafkaListenerEndpoint.setBean(
-        new MCLKafkaListener(systemOperationContext, consumerGroupId, hooks));
+        new MCLKafkaListener(systemOperationContext, consumerGroupId, hooks, mclParallelism));
     try {
-      kafkaListenerEndpoint.setMethod(
-          MCLKafkaListener.class.getMethod("consume", ConsumerRecord.class));
+      if (mclParallelism > 1) {
+        // Receive a whole poll so events for different urns can be processed concurrently
+        kafkaListenerEndpoint.setBatchListener(true);
+        kafkaListenerEndpoint.setMethod(
+            MCLKafkaListener.class.getMethod("consumeBatch", List.class));
+      } else {
+        kafkaListenerEndpoint.setMethod(
+            MCLKafkaListener.class.getMethod("consume", ConsumerRecord.class));
+      }
     } catch (NoSuchMethodException e) {
       throw new RuntimeException(e);
     }
@@ -43,4 +43,15 @@ public interface MetadataChangeLogHook {
   default int executionOrder() {
     return 100;
   }
+
+  /**
+   * Whether the hook is independent of the other independent hooks sharing its execution order, in
+   * which case the listener may invoke them concurrently for the same event. Other hooks are
+   * invoked one after the other.
+   *
+   * @return true if the hook may run concurrently with its independent peers
+   */
+  default boolean isIndependent() {
+    return false;
+  }
 }
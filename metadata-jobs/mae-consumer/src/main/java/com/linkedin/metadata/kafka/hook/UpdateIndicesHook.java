@@ -65,6 +65,12 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only writes the indices of the event's urn, which no other hook reads for the same event. */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public UpdateIndicesHook init(@javax.annotation.Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -116,6 +116,12 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Builds change events from the event alone and only produces platform events. */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull final MetadataChangeLog logEvent) throws Exception {
     if (isEligibleForProcessing(logEvent)) {
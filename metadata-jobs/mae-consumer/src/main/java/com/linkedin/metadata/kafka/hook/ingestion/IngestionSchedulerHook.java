@@ -56,6 +56,12 @@ public class IngestionSchedulerHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only updates the schedule of the ingestion source held by this hook's scheduler. */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public IngestionSchedulerHook init(@Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
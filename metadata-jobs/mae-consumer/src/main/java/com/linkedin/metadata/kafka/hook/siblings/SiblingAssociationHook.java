@@ -114,6 +114,15 @@ public class SiblingAssociationHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /**
+   * Reads the entity store and the sibling aspects of other datasets, and writes siblings through
+   * new proposals, so it doesn't depend on the other hooks of the same event.
+   */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull MetadataChangeLog event) {
     if (enabled && isEligibleForProcessing(event)) {
@@ -0,0 +1,262 @@
+package com.linkedin.metadata.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
+import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
+import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
+import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
+import com.linkedin.metadata.utils.AuditStampUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+public class MCLKafkaListenerTest {
+  private static final int URN_COUNT = 10;
+  private static final int EVENTS_PER_URN = 20;
+
+  private OperationContext opContext;
+
+  @BeforeTest
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+  }
+
+  @Test
+  public void testConsumeBatchKeepsPerUrnOrder() throws IOException {
+    RecordingHook hook1 = new RecordingHook();
+    RecordingHook hook2 = new RecordingHook();
+    MCLKafkaListener listener =
+        new MCLKafkaListener(opContext, "test-group", List.of(hook1, hook2), 4);
+
+    listener.consumeBatch(interleavedRecords());
+
+    for (RecordingHook hook : List.of(hook1, hook2)) {
+      assertEquals(hook.invocations.get(), URN_COUNT * EVENTS_PER_URN);
+      assertEquals(hook.runIdsByUrn.size(), URN_COUNT);
+      hook.runIdsByUrn.values().forEach(runIds -> assertEquals(runIds, expectedRunIds()));
+    }
+  }
+
+  @Test
+  public void testConsumeSerial() throws IOException {
+    RecordingHook hook = new RecordingHook();
+    MCLKafkaListener listener = new MCLKafkaListener(opContext, "test-group", List.of(hook));
+
+    for (ConsumerRecord<String, GenericRecord> record : interleavedRecords()) {
+      listener.consume(record);
+    }
+
+    assertEquals(hook.invocations.get(), URN_COUNT * EVENTS_PER_URN);
+    hook.runIdsByUrn.values().forEach(runIds -> assertEquals(runIds, expectedRunIds()));
+  }
+
+  @Test
+  public void testFailingHookDoesNotBlockOthers() throws IOException {
+    RecordingHook hook = new RecordingHook();
+    MetadataChangeLogHook failingHook =
+        new RecordingHook() {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog event) {
+            throw new IllegalStateException("test failure");
+          }
+        };
+    MCLKafkaListener listener =
+        new MCLKafkaListener(opContext, "test-group", List.of(failingHook, hook), 4);
+
+    listener.consumeBatch(interleavedRecords());
+
+    assertEquals(hook.invocations.get(), URN_COUNT * EVENTS_PER_URN);
+  }
+
+  @Test
+  public void testConsumeBatchKeepsHookOrder() throws IOException {
+    // Both hooks share the default execution order, the second depends on the first's effects
+    Map<Urn, List<String>> firstHookRunIds = new ConcurrentHashMap<>();
+    AtomicInteger outOfOrder = new AtomicInteger();
+    RecordingHook firstHook =
+        new RecordingHook() {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog event) throws InterruptedException {
+            Thread.sleep(1);
+            firstHookRunIds
+                .computeIfAbsent(
+                    event.getEntityUrn(), urn -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event.getSystemMetadata().getRunId());
+          }
+        };
+    RecordingHook secondHook =
+        new RecordingHook() {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog event) throws Exception {
+            List<String> runIds = firstHookRunIds.get(event.getEntityUrn());
+            if (runIds == null || !runIds.contains(event.getSystemMetadata().getRunId())) {
+              outOfOrder.incrementAndGet();
+            }
+            super.invoke(event);
+          }
+        };
+    MCLKafkaListener listener =
+        new MCLKafkaListener(opContext, "test-group", List.of(firstHook, secondHook), 4);
+
+    listener.consumeBatch(interleavedRecords());
+
+    assertEquals(secondHook.invocations.get(), URN_COUNT * EVENTS_PER_URN);
+    assertEquals(outOfOrder.get(), 0);
+  }
+
+  @Test
+  public void testConsumeBatchRunsIndependentHooksConcurrently() throws IOException {
+    // Each hook waits for the other, so invoking them one after the other would time out
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    AtomicInteger timeouts = new AtomicInteger();
+    List<MetadataChangeLogHook> hooks =
+        IntStream.range(0, 2)
+            .mapToObj(
+                index ->
+                    new RecordingHook() {
+                      @Override
+                      public void invoke(@Nonnull MetadataChangeLog event) throws Exception {
+                        try {
+                          barrier.await(10, TimeUnit.SECONDS);
+                        } catch (TimeoutException e) {
+                          timeouts.incrementAndGet();
+                        }
+                      }
+
+                      @Override
+                      public boolean isIndependent() {
+                        return true;
+                      }
+                    })
+            .collect(Collectors.toList());
+    MCLKafkaListener listener = new MCLKafkaListener(opContext, "test-group", hooks, 2);
+
+    listener.consumeBatch(interleavedRecords().subList(0, 1));
+
+    assertEquals(timeouts.get(), 0);
+  }
+
+  @Test
+  public void testConsumeBatchRunsIndependentDataHubHooksConcurrently() throws Exception {
+    // Each hook waits for the others, so invoking them one after the other would time out
+    List<Class<? extends MetadataChangeLogHook>> hookClasses =
+        List.of(
+            UpdateIndicesHook.class,
+            SiblingAssociationHook.class,
+            EntityChangeEventGeneratorHook.class,
+            IngestionSchedulerHook.class);
+    CyclicBarrier barrier = new CyclicBarrier(hookClasses.size());
+    AtomicInteger timeouts = new AtomicInteger();
+    List<MetadataChangeLogHook> hooks = new ArrayList<>();
+    for (Class<? extends MetadataChangeLogHook> hookClass : hookClasses) {
+      MetadataChangeLogHook hook = mock(hookClass);
+      when(hook.isIndependent()).thenCallRealMethod();
+      when(hook.executionOrder()).thenCallRealMethod();
+      doAnswer(
+              invocation -> {
+                try {
+                  barrier.await(10, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                  timeouts.incrementAndGet();
+                }
+                return null;
+              })
+          .when(hook)
+          .invoke(any());
+      hooks.add(hook);
+    }
+    MCLKafkaListener listener =
+        new MCLKafkaListener(opContext, "test-group", hooks, hookClasses.size());
+
+    listener.consumeBatch(interleavedRecords().subList(0, 1));
+
+    assertEquals(timeouts.get(), 0);
+  }
+
+  private static List<String> expectedRunIds() {
+    return IntStream.range(0, EVENTS_PER_URN)
+        .mapToObj(String::valueOf)
+        .collect(Collectors.toList());
+  }
+
+  /** Records for all urns interleaved, as they would be within a single partition */
+  private static List<ConsumerRecord<String, GenericRecord>> interleavedRecords()
+      throws IOException {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    long offset = 0;
+    for (int event = 0; event < EVENTS_PER_URN; event++) {
+      for (int urnIndex = 0; urnIndex < URN_COUNT; urnIndex++) {
+        Urn urn = UrnUtils.getUrn("urn:li:corpuser:mcl" + urnIndex);
+        MetadataChangeLog mcl =
+            new MetadataChangeLog()
+                .setEntityType("corpuser")
+                .setEntityUrn(urn)
+                .setChangeType(ChangeType.UPSERT)
+                .setAspectName("status")
+                .setCreated(AuditStampUtils.createDefaultAuditStamp())
+                .setSystemMetadata(new SystemMetadata().setRunId(String.valueOf(event)));
+        records.add(
+            new ConsumerRecord<>(
+                "MetadataChangeLog_Versioned_v1",
+                0,
+                offset++,
+                urn.toString(),
+                EventUtils.pegasusToAvroMCL(mcl)));
+      }
+    }
+    return records;
+  }
+
+  private static class RecordingHook implements MetadataChangeLogHook {
+    final AtomicInteger invocations = new AtomicInteger();
+    final Map<Urn, List<String>> runIdsByUrn = new ConcurrentHashMap<>();
+
+    @Nonnull
+    @Override
+    public String getConsumerGroupSuffix() {
+      return "";
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog event) throws Exception {
+      invocations.incrementAndGet();
+      runIdsByUrn
+          .computeIfAbsent(
+              event.getEntityUrn(), urn -> Collections.synchronizedList(new ArrayList<>()))
+          .add(event.getSystemMetadata().getRunId());
+    }
+  }
+}
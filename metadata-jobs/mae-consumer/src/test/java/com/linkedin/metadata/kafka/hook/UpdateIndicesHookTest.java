@@ -36,6 +36,7 @@ import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
 import com.linkedin.metadata.key.ChartKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.extractor.FieldSpecAccessor;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
@@ -66,7 +67,7 @@ import org.testng.annotations.Test;
 
 public class UpdateIndicesHookTest {
   //  going to want a test where we have an upstreamLineage aspect with finegrained, check that we
-  // call _graphService.addEdge for each edge
+  // call _graphService.applyEdgeBatch with each edge
   //  as well as _graphService.removeEdgesFromNode for each field and their relationships
 
   static final long EVENT_TIME = 123L;
@@ -162,7 +163,11 @@ public class UpdateIndicesHookTest {
             null,
             lifeCycleOwner,
             null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .applyEdgeBatch(
+            Mockito.argThat(edges -> edges.contains(edge)),
+            Mockito.eq(Collections.emptyList()),
+            Mockito.eq(Collections.emptyList()));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -200,7 +205,11 @@ public class UpdateIndicesHookTest {
             null,
             lifeCycleOwner,
             null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .applyEdgeBatch(
+            Mockito.argThat(edges -> edges.contains(edge)),
+            Mockito.eq(Collections.emptyList()),
+            Mockito.eq(Collections.emptyList()));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -248,7 +257,11 @@ public class UpdateIndicesHookTest {
             String.format("urn:li:schemaField:(%s,%s)", TEST_CHART_URN, downstreamFieldPath));
 
     Edge edge = new Edge(downstreamUrn, upstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .applyEdgeBatch(
+            Mockito.argThat(edges -> edges.contains(edge)),
+            Mockito.eq(Collections.emptyList()),
+            Mockito.eq(Collections.emptyList()));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -272,7 +285,7 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // One new edge added
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
+    verifyEdgeBatch(1, 0);
     // Update document
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(
@@ -290,10 +303,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No edges added
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Timestamp updated
-    Mockito.verify(mockGraphService, Mockito.times(1)).upsertEdge(Mockito.any());
+    // No edges added, timestamp updated
+    verifyEdgeBatch(0, 1);
     // No document change
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -308,10 +319,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // New edge added
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
-    // Update timestamp of old edge
-    Mockito.verify(mockGraphService, Mockito.times(1)).upsertEdge(Mockito.any());
+    // New edge added, timestamp of old edge updated
+    verifyEdgeBatch(1, 1);
     // Document update for new upstream
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -324,10 +333,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -340,10 +347,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -356,10 +361,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -373,10 +376,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -390,10 +391,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -408,10 +407,8 @@ public class UpdateIndicesHookTest {
 
     updateIndicesHook.invoke(changeLog);
 
-    // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
-    // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    // No new edges, timestamps of old edges updated
+    verifyEdgeBatch(0, 2);
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -429,7 +426,7 @@ public class UpdateIndicesHookTest {
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
     // Forced add of edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).addEdge(Mockito.any());
+    verifyEdgeBatch(2, 0);
     // Forced document update
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -470,11 +467,19 @@ public class UpdateIndicesHookTest {
     MetadataChangeLog changeLog =
         createUpstreamLineageMCLUIPreProcessed(upstreamUrn, downstreamUrn, ChangeType.UPSERT);
     reprocessUIHook.invoke(changeLog);
-    Mockito.verify(mockGraphService, Mockito.times(3)).addEdge(Mockito.any());
+    verifyEdgeBatch(3, 0);
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
   }
 
+  private void verifyEdgeBatch(int expectedAdds, int expectedUpserts) {
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .applyEdgeBatch(
+            Mockito.argThat(edges -> edges.size() == expectedAdds),
+            Mockito.any(),
+            Mockito.argThat(edges -> edges.size() == expectedUpserts));
+  }
+
   private EntityRegistry createMockEntityRegistry() {
     // need to mock this registry instead of using test-entity-registry.yml because inputFields does
     // not work due to a known bug
@@ -509,6 +514,14 @@ public class UpdateIndicesHookTest {
     AspectSpec mockSpec = Mockito.mock(AspectSpec.class);
     Mockito.when(mockSpec.getDataTemplateClass()).thenReturn((Class<RecordTemplate>) clazz);
     Mockito.when(mockSpec.getPegasusSchema()).thenReturn(schema);
+    Mockito.when(mockSpec.getSearchableFieldAccessor())
+        .thenReturn(FieldSpecAccessor.compile(Collections.emptyList()));
+    Mockito.when(mockSpec.getSearchableRefFieldAccessor())
+        .thenReturn(FieldSpecAccessor.compile(Collections.emptyList()));
+    Mockito.when(mockSpec.getSearchScoreFieldAccessor())
+        .thenReturn(FieldSpecAccessor.compile(Collections.emptyList()));
+    Mockito.when(mockSpec.getRelationshipFieldAccessor())
+        .thenReturn(FieldSpecAccessor.compile(Collections.emptyList()));
     return mockSpec;
   }
 
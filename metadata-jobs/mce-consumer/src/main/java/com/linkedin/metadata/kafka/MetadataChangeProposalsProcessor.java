@@ -4,6 +4,7 @@ import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
 import com.linkedin.metadata.EventUtils;
 import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
@@ -13,6 +14,8 @@ import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.Topics;
 import io.datahubproject.metadata.context.OperationContext;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,10 +53,14 @@ public class MetadataChangeProposalsProcessor {
           + "}")
   private String fmcpTopicName;
 
+  @Value("${kafka.listener.mcp.batch.size:500}")
+  private int batchSize;
+
   @KafkaListener(
       id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}",
       topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
-      containerFactory = "kafkaEventConsumer")
+      containerFactory = "kafkaEventConsumer",
+      autoStartup = "#{'${kafka.listener.mcp.batch.enabled:false}' != 'true'}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consume").time()) {
       kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
@@ -85,6 +92,115 @@ public class MetadataChangeProposalsProcessor {
     }
   }
 
+  /**
+   * Batch variant of {@link #consume}, enabled with kafka.listener.mcp.batch.enabled. The MCPs of a
+   * poll are ingested in offset order as batches of up to kafka.listener.mcp.batch.size proposals,
+   * each sharing one transaction and one read-before-write. If a batch fails its proposals are
+   * retried one at a time so that only the failing ones are routed to the FMCP topic.
+   */
+  @KafkaListener(
+      id =
+          "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}-batch",
+      groupId =
+          "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}",
+      topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
+      containerFactory = "kafkaEventConsumer",
+      batch = "true",
+      autoStartup = "${kafka.listener.mcp.batch.enabled:false}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      MetricUtils.histogram(this.getClass(), "consumeBatch_size").update(consumerRecords.size());
+
+      final List<MetadataChangeProposal> events = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+        final GenericRecord record = consumerRecord.value();
+
+        log.debug(
+            "Got MCP event key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+            consumerRecord.key(),
+            consumerRecord.topic(),
+            consumerRecord.partition(),
+            consumerRecord.offset(),
+            consumerRecord.serializedValueSize(),
+            consumerRecord.timestamp());
+
+        try {
+          events.add(EventUtils.avroToPegasusMCP(record));
+        } catch (Throwable throwable) {
+          log.error("MCP Processor Error", throwable);
+          log.error("Message: {}", record);
+          sendFailedMCP(new MetadataChangeProposal(), throwable);
+        }
+      }
+
+      // Offset order is kept across and within batches, preserving the order of each urn's MCPs
+      toBatches(events).forEach(this::ingestBatch);
+    }
+  }
+
+  /**
+   * Splits the MCPs into batches, keeping their order. A failed batch may have committed some of
+   * its proposals before failing, and all of them are then retried. Only UPSERTs are batched, as
+   * re-ingesting an UPSERT whose aspect was already written leaves it unchanged. Proposals of
+   * other change types, such as CREATE, are ingested on their own.
+   */
+  @Nonnull
+  private List<List<MetadataChangeProposal>> toBatches(
+      @Nonnull List<MetadataChangeProposal> events) {
+    final List<List<MetadataChangeProposal>> batches = new ArrayList<>();
+    List<MetadataChangeProposal> batch = new ArrayList<>();
+    for (MetadataChangeProposal event : events) {
+      if (event.getChangeType() != ChangeType.UPSERT) {
+        if (!batch.isEmpty()) {
+          batches.add(batch);
+          batch = new ArrayList<>();
+        }
+        batches.add(List.of(event));
+        continue;
+      }
+      batch.add(event);
+      if (batch.size() >= batchSize) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
+  private void ingestBatch(@Nonnull List<MetadataChangeProposal> events) {
+    if (events.size() == 1) {
+      ingestProposal(events.get(0));
+      return;
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "ingestBatch").time()) {
+      entityClient.batchIngestProposals(systemOperationContext, events, false);
+      log.info("Successfully processed batch of {} MCP events", events.size());
+    } catch (Throwable throwable) {
+      log.error(
+          "MCP Processor Error for batch of {} MCP events, retrying individually",
+          events.size(),
+          throwable);
+      MetricUtils.counter(this.getClass(), "ingestBatch_failure").inc();
+      events.forEach(this::ingestProposal);
+    }
+  }
+
+  private void ingestProposal(@Nonnull MetadataChangeProposal event) {
+    try {
+      String urn = entityClient.ingestProposal(systemOperationContext, event, false);
+      log.info("Successfully processed MCP event urn: {}", urn);
+    } catch (Throwable throwable) {
+      log.error("MCP Processor Error", throwable);
+      log.error("Message: {}", event);
+      sendFailedMCP(event, throwable);
+    }
+  }
+
   private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
     final FailedMetadataChangeProposal failedMetadataChangeProposal =
         createFailedMCPEvent(event, throwable);
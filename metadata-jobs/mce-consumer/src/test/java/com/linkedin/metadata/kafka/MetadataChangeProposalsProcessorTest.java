@@ -0,0 +1,144 @@
+package com.linkedin.metadata.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.r2.RemoteInvocationException;
+import io.datahubproject.metadata.context.OperationContext;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class MetadataChangeProposalsProcessorTest {
+  private static final Urn URN_1 = UrnUtils.getUrn("urn:li:corpuser:mcp1");
+  private static final Urn URN_2 = UrnUtils.getUrn("urn:li:corpuser:mcp2");
+  private static final Urn URN_3 = UrnUtils.getUrn("urn:li:corpuser:mcp3");
+
+  private OperationContext opContext;
+  private SystemEntityClient entityClient;
+  private Producer<String, IndexedRecord> kafkaProducer;
+  private MetadataChangeProposalsProcessor processor;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    opContext = mock(OperationContext.class);
+    entityClient = mock(SystemEntityClient.class);
+    kafkaProducer = mock(Producer.class);
+    processor = new MetadataChangeProposalsProcessor(opContext, entityClient, kafkaProducer);
+    ReflectionTestUtils.setField(processor, "fmcpTopicName", "FailedMetadataChangeProposal_v1");
+    ReflectionTestUtils.setField(processor, "batchSize", 2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testConsumeBatch() throws Exception {
+    processor.consumeBatch(records(upsert(URN_1), upsert(URN_2), upsert(URN_3)));
+
+    ArgumentCaptor<Collection<MetadataChangeProposal>> batchCaptor =
+        ArgumentCaptor.forClass(Collection.class);
+    verify(entityClient, times(2))
+        .batchIngestProposals(eq(opContext), batchCaptor.capture(), eq(false));
+    assertEquals(
+        batchCaptor.getAllValues().stream()
+            .map(MetadataChangeProposalsProcessorTest::urns)
+            .collect(Collectors.toList()),
+        List.of(List.of(URN_1, URN_2), List.of(URN_3)));
+    verify(entityClient, never()).ingestProposal(any(), any(), anyBoolean());
+    verify(kafkaProducer, never()).send(any());
+  }
+
+  @Test
+  public void testConsumeBatchRetriesFailedBatchIndividually() throws Exception {
+    when(entityClient.batchIngestProposals(eq(opContext), anyCollection(), eq(false)))
+        .thenThrow(new RemoteInvocationException("batch failure"));
+    when(entityClient.ingestProposal(eq(opContext), argThat(hasUrn(URN_2)), eq(false)))
+        .thenThrow(new RemoteInvocationException("item failure"));
+
+    processor.consumeBatch(records(upsert(URN_1), upsert(URN_2)));
+
+    // Only the proposal failing on its own is routed to the FMCP topic
+    verify(entityClient).ingestProposal(eq(opContext), argThat(hasUrn(URN_1)), eq(false));
+    verify(entityClient).ingestProposal(eq(opContext), argThat(hasUrn(URN_2)), eq(false));
+    verify(kafkaProducer, times(1)).send(any(ProducerRecord.class));
+  }
+
+  @Test
+  public void testConsumeBatchIngestsNonUpsertsOnTheirOwn() throws Exception {
+    processor.consumeBatch(
+        records(upsert(URN_1), proposal(URN_2, ChangeType.CREATE), upsert(URN_3)));
+
+    // A failed batch is retried as a whole, which is only safe for UPSERTs
+    verify(entityClient, never()).batchIngestProposals(any(), anyCollection(), anyBoolean());
+    InOrder inOrder = inOrder(entityClient);
+    for (Urn urn : List.of(URN_1, URN_2, URN_3)) {
+      inOrder.verify(entityClient).ingestProposal(eq(opContext), argThat(hasUrn(urn)), eq(false));
+    }
+  }
+
+  private static List<Urn> urns(Collection<MetadataChangeProposal> proposals) {
+    return proposals.stream()
+        .map(MetadataChangeProposal::getEntityUrn)
+        .collect(Collectors.toList());
+  }
+
+  private static ArgumentMatcher<MetadataChangeProposal> hasUrn(Urn urn) {
+    return proposal -> proposal != null && urn.equals(proposal.getEntityUrn());
+  }
+
+  private static MetadataChangeProposal upsert(Urn urn) {
+    return proposal(urn, ChangeType.UPSERT);
+  }
+
+  private static MetadataChangeProposal proposal(Urn urn, ChangeType changeType) {
+    return new MetadataChangeProposal()
+        .setEntityType("corpuser")
+        .setEntityUrn(urn)
+        .setChangeType(changeType)
+        .setAspectName("status");
+  }
+
+  private static List<ConsumerRecord<String, GenericRecord>> records(
+      MetadataChangeProposal... proposals) throws IOException {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int offset = 0; offset < proposals.length; offset++) {
+      records.add(
+          new ConsumerRecord<>(
+              "MetadataChangeProposal_v1",
+              0,
+              offset,
+              proposals[offset].getEntityUrn().toString(),
+              EventUtils.pegasusToAvroMCP(proposals[offset])));
+    }
+    return records;
+  }
+}
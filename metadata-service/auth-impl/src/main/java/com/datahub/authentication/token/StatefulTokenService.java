@@ -1,6 +1,8 @@
 package com.datahub.authentication.token;
 
 import com.datahub.authentication.Actor;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -15,6 +17,7 @@ import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.key.DataHubAccessTokenKey;
 import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.*;
@@ -37,6 +40,8 @@ public class StatefulTokenService extends StatelessTokenService {
   private final OperationContext systemOperationContext;
   private final EntityService<?> _entityService;
   private final LoadingCache<String, Boolean> _revokedTokenCache;
+  // Claims of tokens whose signature has been verified, keyed by token hash. Null if disabled.
+  @Nullable private final Cache<String, TokenClaims> _validatedTokenCache;
   private final String salt;
 
   public StatefulTokenService(
@@ -46,6 +51,24 @@ public class StatefulTokenService extends StatelessTokenService {
       @Nullable final String iss,
       @Nonnull final EntityService<?> entityService,
       @Nonnull final String salt) {
+    this(systemOperationContext, signingKey, signingAlgorithm, iss, entityService, salt, 0, 0);
+  }
+
+  /**
+   * @param validatedTokenCacheMaxSize the maximum number of validated tokens whose claims are
+   *     reused without verifying the token again, 0 to verify every token
+   * @param validatedTokenCacheTtlSeconds how long the claims of a validated token are reused, at
+   *     most until the token expires
+   */
+  public StatefulTokenService(
+      @Nonnull final OperationContext systemOperationContext,
+      @Nonnull final String signingKey,
+      @Nonnull final String signingAlgorithm,
+      @Nullable final String iss,
+      @Nonnull final EntityService<?> entityService,
+      @Nonnull final String salt,
+      final long validatedTokenCacheMaxSize,
+      final long validatedTokenCacheTtlSeconds) {
     super(signingKey, signingAlgorithm, iss);
     this.systemOperationContext = systemOperationContext;
     this._entityService = entityService;
@@ -61,6 +84,13 @@ public class StatefulTokenService extends StatelessTokenService {
                     return !_entityService.exists(systemOperationContext, accessUrn, true);
                   }
                 });
+    this._validatedTokenCache =
+        validatedTokenCacheMaxSize > 0 && validatedTokenCacheTtlSeconds > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(validatedTokenCacheMaxSize)
+                .expireAfterWrite(validatedTokenCacheTtlSeconds, TimeUnit.SECONDS)
+                .build()
+            : null;
     this.salt = salt;
   }
 
@@ -156,10 +186,12 @@ public class StatefulTokenService extends StatelessTokenService {
   @Override
   public TokenClaims validateAccessToken(@Nonnull String accessToken) throws TokenException {
     try {
-      final TokenClaims tokenClaims = super.validateAccessToken(accessToken);
+      final String hash = hash(accessToken);
+      final TokenClaims tokenClaims = validateSignedToken(accessToken, hash);
       if (tokenClaims.getTokenVersion().equals(TokenVersion.TWO)) {
-        final String hash = hash(accessToken);
         if (_revokedTokenCache.get(hash)) {
+          // Evict tokens revoked here or deleted by other instances
+          invalidateValidatedToken(hash);
           throw new TokenException("Failed to validate DataHub token: Token has been revoked");
         }
       }
@@ -174,6 +206,42 @@ public class StatefulTokenService extends StatelessTokenService {
     }
   }
 
+  /**
+   * Returns the claims of a token, reusing those of a previous validation of the token until it
+   * expires. Revocation is checked by the caller on every validation.
+   */
+  private TokenClaims validateSignedToken(@Nonnull String accessToken, @Nonnull String hash)
+      throws TokenException {
+    if (_validatedTokenCache == null) {
+      return super.validateAccessToken(accessToken);
+    }
+    final TokenClaims cached = _validatedTokenCache.getIfPresent(hash);
+    if (cached != null) {
+      if (cached.getExpirationInMs() == null
+          || System.currentTimeMillis() < cached.getExpirationInMs()) {
+        MetricUtils.counter(this.getClass(), "validatedTokenCacheHit").inc();
+        return cached;
+      }
+      // Validate the expired token again so that it is reported and removed as expired
+      _validatedTokenCache.invalidate(hash);
+    }
+    MetricUtils.counter(this.getClass(), "validatedTokenCacheMiss").inc();
+    final TokenClaims tokenClaims = super.validateAccessToken(accessToken);
+    _validatedTokenCache.put(hash, tokenClaims);
+    return tokenClaims;
+  }
+
+  private void invalidateValidatedToken(@Nonnull String hashedToken) {
+    if (_validatedTokenCache != null) {
+      _validatedTokenCache.invalidate(hashedToken);
+    }
+  }
+
+  @VisibleForTesting
+  long getValidatedTokenCacheSize() {
+    return _validatedTokenCache == null ? 0 : _validatedTokenCache.size();
+  }
+
   public Urn tokenUrnFromKey(String tokenHash) {
     return Urn.createFromTuple(Constants.ACCESS_TOKEN_ENTITY_NAME, tokenHash);
   }
@@ -184,6 +252,7 @@ public class StatefulTokenService extends StatelessTokenService {
         final Urn tokenUrn = tokenUrnFromKey(hashedToken);
         _entityService.deleteUrn(systemOperationContext, tokenUrn);
         _revokedTokenCache.put(hashedToken, true);
+        invalidateValidatedToken(hashedToken);
         return;
       }
     } catch (ExecutionException e) {
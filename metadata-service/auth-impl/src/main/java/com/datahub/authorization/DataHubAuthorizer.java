@@ -3,6 +3,11 @@ package com.datahub.authorization;
 import com.datahub.authentication.Authentication;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -19,16 +24,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -59,6 +68,14 @@ public class DataHubAuthorizer implements Authorizer {
   protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   protected final Lock readLock = readWriteLock.readLock();
 
+  // Index of the policy cache used to find the policies that may grant a request. Built on first
+  // use after each policy cache refresh, null until then.
+  private volatile PolicyIndex policyIndex;
+
+  // Maps actor urn to the resolved actor, so the groups and roles of an actor are fetched once
+  // rather than for every policy and request. Null if disabled.
+  @Nullable private final Cache<String, ResolvedActor> actorCache;
+
   private final ScheduledExecutorService refreshExecutorService =
       Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable policyRefreshRunnable;
@@ -69,6 +86,8 @@ public class DataHubAuthorizer implements Authorizer {
 
   public static final String ALL = "ALL";
 
+  private static final long ACTOR_CACHE_MAX_SIZE = 10000;
+
   public DataHubAuthorizer(
       @Nonnull final OperationContext systemOpContext,
       final EntityClient entityClient,
@@ -76,9 +95,39 @@ public class DataHubAuthorizer implements Authorizer {
       final int refreshIntervalSeconds,
       final AuthorizationMode mode,
       final int policyFetchSize) {
+    this(
+        systemOpContext,
+        entityClient,
+        delayIntervalSeconds,
+        refreshIntervalSeconds,
+        mode,
+        policyFetchSize,
+        0);
+  }
+
+  /**
+   * @param actorCacheTtlSeconds how long the groups and roles of an actor are reused across
+   *     requests, 0 resolves them once per request. Changes to the actor's role and group
+   *     memberships are only seen once the cached entry expires.
+   */
+  public DataHubAuthorizer(
+      @Nonnull final OperationContext systemOpContext,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final int policyFetchSize,
+      final int actorCacheTtlSeconds) {
     this.systemOpContext = systemOpContext;
     this.mode = Objects.requireNonNull(mode);
     policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient));
+    actorCache =
+        actorCacheTtlSeconds > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(actorCacheTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(ACTOR_CACHE_MAX_SIZE)
+                .build()
+            : null;
     if (refreshIntervalSeconds > 0) {
       policyRefreshRunnable =
           new PolicyRefreshRunnable(
@@ -86,7 +135,8 @@ public class DataHubAuthorizer implements Authorizer {
               new PolicyFetcher(entityClient),
               policyCache,
               readWriteLock.writeLock(),
-              policyFetchSize);
+              policyFetchSize,
+              () -> policyIndex = null);
       refreshExecutorService.scheduleAtFixedRate(
           policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
     } else {
@@ -110,15 +160,29 @@ public class DataHubAuthorizer implements Authorizer {
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
         request.getResourceSpec().map(entitySpecResolver::resolve);
 
-    // 1. Fetch the policies relevant to the requested privilege.
+    // The actor is resolved lazily, it is not needed if no policy has the requested privilege.
+    final Supplier<ResolvedActor> resolvedActor =
+        Suppliers.memoize(() -> resolveActor(request.getActorUrn()));
+
+    // 1. Fetch the policies that may grant the requested privilege to the actor.
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(request.getPrivilege(), new ArrayList<>()));
+        getPolicyIndex()
+            .getCandidatePolicies(
+                request.getPrivilege(),
+                resolvedResourceSpec,
+                request.getActorUrn(),
+                () -> resolvedActor.get().getSpec().getGroupMembership(),
+                () ->
+                    policyEngine.resolveRoles(
+                        systemOpContext,
+                        resolvedActor.get().getSpec(),
+                        resolvedActor.get().getContext()));
     policiesToEvaluate.addAll(
         PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn())));
 
     // 2. Evaluate each policy.
     for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
+      if (isRequestGranted(policy, request, resolvedActor, resolvedResourceSpec)) {
         // Short circuit if policy has granted privileges to this actor.
         return new AuthorizationResult(
             request,
@@ -239,9 +303,12 @@ public class DataHubAuthorizer implements Authorizer {
 
   /**
    * Invalidates the policy cache and fires off a refresh thread. Should be invoked when a policy is
-   * created, modified, or deleted.
+   * created, modified, or deleted. Resolved actors are discarded immediately.
    */
   public void invalidateCache() {
+    if (actorCache != null) {
+      actorCache.invalidateAll();
+    }
     if (policyRefreshRunnable != null) {
       refreshExecutorService.execute(policyRefreshRunnable);
     }
@@ -268,6 +335,7 @@ public class DataHubAuthorizer implements Authorizer {
   private boolean isRequestGranted(
       final DataHubPolicyInfo policy,
       final AuthorizationRequest request,
+      final Supplier<ResolvedActor> resolvedActor,
       final Optional<ResolvedEntitySpec> resourceSpec) {
     if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
       return true;
@@ -279,13 +347,14 @@ public class DataHubAuthorizer implements Authorizer {
     }
 
     try {
-      final ResolvedEntitySpec resolvedActorSpec =
-          entitySpecResolver.resolve(
-              new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
-
       final PolicyEngine.PolicyEvaluationResult result =
           policyEngine.evaluatePolicy(
-              systemOpContext, policy, resolvedActorSpec, request.getPrivilege(), resourceSpec);
+              systemOpContext,
+              policy,
+              resolvedActor.get().getSpec(),
+              request.getPrivilege(),
+              resourceSpec,
+              resolvedActor.get().getContext());
       return result.isGranted();
     } catch (RuntimeException e) {
       log.error("Error evaluating policy {} for request {}", policy.getDisplayName(), request);
@@ -305,6 +374,42 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
+  /** Resolves the actor of a request, reusing a previous resolution if the cache is enabled. */
+  private ResolvedActor resolveActor(final String actor) {
+    if (actorCache == null) {
+      return newResolvedActor(actor);
+    }
+    try {
+      return actorCache.get(actor, () -> newResolvedActor(actor));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private ResolvedActor newResolvedActor(final String actor) {
+    final Urn actorUrn = UrnUtils.getUrn(actor);
+    return new ResolvedActor(
+        entitySpecResolver.resolve(new EntitySpec(actorUrn.getEntityType(), actor)),
+        new PolicyEngine.PolicyEvaluationContext());
+  }
+
+  private PolicyIndex getPolicyIndex() {
+    PolicyIndex index = policyIndex;
+    if (index != null) {
+      return index;
+    }
+    readLock.lock();
+    try {
+      // Published under the read lock, so a refresh can not be missed while building.
+      index = new PolicyIndex(policyCache);
+      policyIndex = index;
+      return index;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
   private List<DataHubPolicyInfo> getOrDefault(String key, List<DataHubPolicyInfo> defaultValue) {
     readLock.lock();
     try {
@@ -330,6 +435,8 @@ public class DataHubAuthorizer implements Authorizer {
     private final Map<String, List<DataHubPolicyInfo>> policyCache;
     private final Lock writeLock;
     private final int count;
+    // Invoked while holding the write lock once the cache has been swapped
+    private final Runnable onRefresh;
 
     @Override
     public void run() {
@@ -362,6 +469,7 @@ public class DataHubAuthorizer implements Authorizer {
         try {
           policyCache.clear();
           policyCache.putAll(newCache);
+          onRefresh.run();
         } finally {
           // To unlock the acquired write thread
           writeLock.unlock();
@@ -398,4 +506,11 @@ public class DataHubAuthorizer implements Authorizer {
       cache.put(ALL, existingPolicies);
     }
   }
+
+  /** An actor resolved for policy evaluation, with the groups and roles resolved so far. */
+  @Value
+  private static class ResolvedActor {
+    ResolvedEntitySpec spec;
+    PolicyEngine.PolicyEvaluationContext context;
+  }
 }
@@ -56,8 +56,21 @@ public class PolicyEngine {
       final ResolvedEntitySpec resolvedActorSpec,
       final String privilege,
       final Optional<ResolvedEntitySpec> resource) {
+    return evaluatePolicy(
+        opContext, policy, resolvedActorSpec, privilege, resource, new PolicyEvaluationContext());
+  }
 
-    final PolicyEvaluationContext context = new PolicyEvaluationContext();
+  /**
+   * Evaluates a policy, reusing the groups and roles of the actor already resolved by the
+   * evaluation of other policies with the same context.
+   */
+  public PolicyEvaluationResult evaluatePolicy(
+      @Nonnull OperationContext opContext,
+      final DataHubPolicyInfo policy,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final String privilege,
+      final Optional<ResolvedEntitySpec> resource,
+      final PolicyEvaluationContext context) {
     log.debug("Evaluating policy {}", policy.getDisplayName());
 
     // If the privilege is not in scope, deny the request.
@@ -207,7 +220,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by
    * constructing PolicyMatchFilter object from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -404,7 +417,7 @@ public class PolicyEngine {
     return Objects.requireNonNull(actorFilter.getRoles()).stream().anyMatch(actorRoles::contains);
   }
 
-  private Set<Urn> resolveRoles(
+  Set<Urn> resolveRoles(
       @Nonnull OperationContext opContext,
       final ResolvedEntitySpec resolvedActorSpec,
       PolicyEvaluationContext context) {
@@ -462,16 +475,20 @@ public class PolicyEngine {
     if (!groups.isEmpty()) {
       GroupMembership memberships = new GroupMembership();
       memberships.setGroups(new UrnArray(groups));
-      roles.addAll(getRolesFromGroups(opContext, memberships));
-    }
-
-    if (!roles.isEmpty()) {
-      context.setRoles(roles);
+      final Set<Urn> groupRoles = getRolesFromGroups(opContext, memberships);
+      if (groupRoles == null) {
+        // Do not cache the roles if the roles of the groups could not be fetched
+        return roles;
+      }
+      roles.addAll(groupRoles);
     }
 
+    // Cache the roles, even if there are none, so they are only fetched once per context.
+    context.setRoles(roles);
     return roles;
   }
 
+  @Nullable
   private Set<Urn> getRolesFromGroups(
       @Nonnull OperationContext opContext, final GroupMembership groupMembership) {
 
@@ -501,7 +518,7 @@ public class PolicyEngine {
     } catch (Exception e) {
       log.error(
           String.format("Failed to fetch %s for urns %s", ROLE_MEMBERSHIP_ASPECT_NAME, groups), e);
-      return new HashSet<>();
+      return null;
     }
   }
 
@@ -517,10 +534,13 @@ public class PolicyEngine {
     return groups;
   }
 
-  /** Class used to store state across a single Policy evaluation. */
+  /**
+   * Class used to store state across Policy evaluations for a single actor. Contexts may be shared
+   * by concurrent evaluations, the state is only ever replaced by an equivalent value.
+   */
   static class PolicyEvaluationContext {
-    private Set<String> groups;
-    private Set<Urn> roles;
+    private volatile Set<String> groups;
+    private volatile Set<Urn> roles;
 
     public void setGroups(Set<String> groups) {
       this.groups = groups;
@@ -0,0 +1,185 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Active policies indexed by privilege, resource type and actor, so that authorizing a request
+ * only evaluates the policies that could grant it rather than every policy with the privilege.
+ *
+ * <p>The index is conservative: any policy it leaves out can not grant the request, but the
+ * policies it returns must still be evaluated in full by the {@link PolicyEngine}.
+ */
+class PolicyIndex {
+
+  private static final String ANY_RESOURCE_TYPE = "*";
+
+  // Maps privilege name to resource type to the policies granting it.
+  private final Map<String, Map<String, PolicyBucket>> index = new HashMap<>();
+
+  /**
+   * @param policiesByPrivilege the policies granting each privilege, policies are returned in the
+   *     order they appear in for a privilege
+   */
+  PolicyIndex(@Nonnull final Map<String, List<DataHubPolicyInfo>> policiesByPrivilege) {
+    policiesByPrivilege.forEach(
+        (privilege, policies) -> {
+          if (DataHubAuthorizer.ALL.equals(privilege)) {
+            return;
+          }
+          final Map<String, PolicyBucket> byResourceType = new HashMap<>();
+          for (int i = 0; i < policies.size(); i++) {
+            final DataHubPolicyInfo policy = policies.get(i);
+            if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())) {
+              continue;
+            }
+            for (String resourceType : getResourceTypes(policy)) {
+              byResourceType
+                  .computeIfAbsent(resourceType, k -> new PolicyBucket())
+                  .add(new IndexedPolicy(i, policy));
+            }
+          }
+          index.put(privilege, byResourceType);
+        });
+  }
+
+  /**
+   * Returns the policies that may grant the privilege to the actor on the resource, as a new
+   * mutable list.
+   *
+   * @param groups supplies the groups of the actor, only invoked when a candidate policy names
+   *     groups
+   * @param roles supplies the roles of the actor, only invoked when a candidate policy names roles
+   */
+  @Nonnull
+  List<DataHubPolicyInfo> getCandidatePolicies(
+      @Nonnull final String privilege,
+      @Nonnull final Optional<ResolvedEntitySpec> resourceSpec,
+      @Nonnull final String actorUrn,
+      @Nonnull final Supplier<Set<String>> groups,
+      @Nonnull final Supplier<Set<Urn>> roles) {
+    final Map<String, PolicyBucket> byResourceType = index.get(privilege);
+    if (byResourceType == null) {
+      return new ArrayList<>();
+    }
+
+    // Policies limited to resource types can not match requests without a resource
+    final List<PolicyBucket> buckets = new ArrayList<>(2);
+    Optional.ofNullable(byResourceType.get(ANY_RESOURCE_TYPE)).ifPresent(buckets::add);
+    resourceSpec
+        .map(resource -> byResourceType.get(resource.getSpec().getType()))
+        .ifPresent(buckets::add);
+
+    // Policies may be reachable through several keys, keep each once in index order
+    final TreeMap<Integer, DataHubPolicyInfo> candidates = new TreeMap<>();
+    for (PolicyBucket bucket : buckets) {
+      bucket.anyActor.forEach(policy -> candidates.put(policy.ordinal, policy.policy));
+      addAll(candidates, bucket.byUser.get(actorUrn));
+      if (!bucket.byGroup.isEmpty()) {
+        groups.get().forEach(group -> addAll(candidates, bucket.byGroup.get(group)));
+      }
+      if (!bucket.byRole.isEmpty()) {
+        roles.get().forEach(role -> addAll(candidates, bucket.byRole.get(role)));
+      }
+    }
+    return new ArrayList<>(candidates.values());
+  }
+
+  private static void addAll(
+      @Nonnull final Map<Integer, DataHubPolicyInfo> candidates,
+      @Nullable final Collection<IndexedPolicy> policies) {
+    if (policies != null) {
+      policies.forEach(policy -> candidates.put(policy.ordinal, policy.policy));
+    }
+  }
+
+  /**
+   * Returns the resource types a policy can match, as required by the type criteria of its
+   * resource filter, or {@link #ANY_RESOURCE_TYPE}.
+   */
+  private static Set<String> getResourceTypes(@Nonnull final DataHubPolicyInfo policy) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType())
+        || policy.getResources() == null) {
+      return Set.of(ANY_RESOURCE_TYPE);
+    }
+
+    // Every criterion must match, so the policy can only match types allowed by all of them
+    Set<String> resourceTypes = null;
+    for (PolicyMatchCriterion criterion :
+        PolicyEngine.getFilter(policy.getResources()).getCriteria()) {
+      final String field = criterion.getField().toUpperCase();
+      if ((EntityFieldType.TYPE.name().equals(field)
+              || EntityFieldType.RESOURCE_TYPE.name().equals(field))
+          && criterion.getCondition() == PolicyMatchCondition.EQUALS) {
+        final Set<String> values = new HashSet<>(criterion.getValues());
+        if (resourceTypes == null) {
+          resourceTypes = values;
+        } else {
+          resourceTypes.retainAll(values);
+        }
+      }
+    }
+    return resourceTypes == null ? Set.of(ANY_RESOURCE_TYPE) : resourceTypes;
+  }
+
+  private static class IndexedPolicy {
+    private final int ordinal;
+    private final DataHubPolicyInfo policy;
+
+    private IndexedPolicy(int ordinal, DataHubPolicyInfo policy) {
+      this.ordinal = ordinal;
+      this.policy = policy;
+    }
+  }
+
+  /** The policies for a privilege and resource type, keyed by the actors they name. */
+  private static class PolicyBucket {
+    // Policies matching all users, all groups or resource owners
+    private final List<IndexedPolicy> anyActor = new ArrayList<>();
+    private final Map<String, List<IndexedPolicy>> byUser = new HashMap<>();
+    private final Map<String, List<IndexedPolicy>> byGroup = new HashMap<>();
+    private final Map<Urn, List<IndexedPolicy>> byRole = new HashMap<>();
+
+    private void add(@Nonnull final IndexedPolicy policy) {
+      final DataHubActorFilter actors = policy.policy.getActors();
+      if (actors == null
+          || actors.isAllUsers()
+          || actors.isAllGroups()
+          || actors.isResourceOwners()) {
+        anyActor.add(policy);
+        return;
+      }
+      if (actors.getUsers() != null) {
+        for (Urn user : actors.getUsers()) {
+          byUser.computeIfAbsent(user.toString(), k -> new ArrayList<>()).add(policy);
+        }
+      }
+      if (actors.getGroups() != null) {
+        for (Urn group : actors.getGroups()) {
+          byGroup.computeIfAbsent(group.toString(), k -> new ArrayList<>()).add(policy);
+        }
+      }
+      if (actors.getRoles() != null) {
+        for (Urn role : actors.getRoles()) {
+          byRole.computeIfAbsent(role, k -> new ArrayList<>()).add(policy);
+        }
+      }
+    }
+  }
+}
@@ -223,5 +223,59 @@ public class StatefulTokenServiceTest {
     assertThrows(TokenException.class, () -> tokenService.validateAccessToken(token));
   }
 
+  @Test
+  public void testValidatedTokenCache() throws Exception {
+    EntityService<?> entityService = mock(EntityService.class);
+    Mockito.when(entityService.exists(any(OperationContext.class), any(Urn.class), eq(true)))
+        .thenReturn(true);
+    Mockito.when(entityService.deleteUrn(any(OperationContext.class), any(Urn.class)))
+        .thenReturn(new RollbackRunResult(ImmutableList.of(), 0, ImmutableList.of()));
+    StatefulTokenService tokenService =
+        new StatefulTokenService(
+            opContext, TEST_SIGNING_KEY, "HS256", null, entityService, TEST_SALTING_KEY, 100, 60);
+    Actor datahub = new Actor(ActorType.USER, "datahub");
+    String token =
+        tokenService.generateAccessToken(
+            TokenType.PERSONAL, datahub, "some token", "A token description", datahub.toUrnStr());
+
+    TokenClaims claims = tokenService.validateAccessToken(token);
+    assertEquals(tokenService.getValidatedTokenCacheSize(), 1);
+    assertSame(tokenService.validateAccessToken(token), claims);
+
+    // Tokens failing validation are not cached
+    assertThrows(TokenException.class, () -> tokenService.validateAccessToken(token.substring(1)));
+    assertEquals(tokenService.getValidatedTokenCacheSize(), 1);
+
+    // Revocation evicts the token
+    tokenService.revokeAccessToken(tokenService.hash(token));
+    assertEquals(tokenService.getValidatedTokenCacheSize(), 0);
+    assertThrows(TokenException.class, () -> tokenService.validateAccessToken(token));
+  }
+
+  @Test
+  public void testValidatedTokenCacheExpiration() throws Exception {
+    StatefulTokenService tokenService =
+        new StatefulTokenService(
+            opContext, TEST_SIGNING_KEY, "HS256", null, mockService, TEST_SALTING_KEY, 100, 60);
+    Mockito.when(mockService.exists(any(OperationContext.class), any(Urn.class), eq(true)))
+        .thenReturn(true);
+    String token =
+        tokenService.generateAccessToken(
+            TokenType.PERSONAL,
+            new Actor(ActorType.USER, "datahub"),
+            1000L,
+            System.currentTimeMillis(),
+            "token",
+            "",
+            "urn:li:corpuser:datahub");
+    tokenService.validateAccessToken(token);
+    assertEquals(tokenService.getValidatedTokenCacheSize(), 1);
+
+    // Cached claims are not reused once the token expires
+    Thread.sleep(1500);
+    assertThrows(TokenExpiredException.class, () -> tokenService.validateAccessToken(token));
+    assertEquals(tokenService.getValidatedTokenCacheSize(), 0);
+  }
+
   private void mockStateful() {}
 }
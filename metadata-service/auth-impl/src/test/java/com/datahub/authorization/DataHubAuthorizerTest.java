@@ -11,6 +11,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -563,6 +565,64 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
   }
 
+  @Test
+  public void testActorCacheReusesRolesAcrossRequests() throws Exception {
+    final DataHubAuthorizer authorizer =
+        new DataHubAuthorizer(
+            systemOpContext,
+            _entityClient,
+            10,
+            10,
+            DataHubAuthorizer.AuthorizationMode.DEFAULT,
+            1,
+            60);
+    authorizer.init(
+        Collections.emptyMap(), createAuthorizerContext(systemOpContext, _entityClient));
+    authorizer.invalidateCache();
+    Thread.sleep(500); // Sleep so the runnable can execute. (not ideal)
+
+    AuthorizationRequest request =
+        new AuthorizationRequest(
+            USER_WITH_ADMIN_ROLE.toString(),
+            "EDIT_USER_PROFILE",
+            Optional.of(new EntitySpec("dataset", "urn:li:dataset:test")));
+
+    assertEquals(authorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(authorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    verifyRoleMembershipFetches(1);
+
+    // Invalidating the cache resolves the actor again
+    authorizer.invalidateCache();
+    assertEquals(authorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    verifyRoleMembershipFetches(2);
+  }
+
+  @Test
+  public void testActorRolesResolvedOncePerRequest() throws Exception {
+    AuthorizationRequest request =
+        new AuthorizationRequest(
+            USER_WITH_ADMIN_ROLE.toString(),
+            "EDIT_USER_PROFILE",
+            Optional.of(new EntitySpec("dataset", "urn:li:dataset:test")));
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    verifyRoleMembershipFetches(2);
+  }
+
+  private void verifyRoleMembershipFetches(int times) throws Exception {
+    verify(_entityClient, times(times))
+        .batchGetV2(
+            any(OperationContext.class),
+            any(),
+            eq(Collections.singleton(USER_WITH_ADMIN_ROLE)),
+            eq(
+                ImmutableSet.of(
+                    ROLE_MEMBERSHIP_ASPECT_NAME,
+                    GROUP_MEMBERSHIP_ASPECT_NAME,
+                    NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)));
+  }
+
   private DataHubPolicyInfo createDataHubPolicyInfo(
       boolean active, List<String> privileges, @Nullable final Urn domain) throws Exception {
 
@@ -0,0 +1,136 @@
+package com.datahub.authorization;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.ACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.INACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.METADATA_POLICY_TYPE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.PLATFORM_POLICY_TYPE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.testng.annotations.Test;
+
+public class PolicyIndexTest {
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final String USER = "urn:li:corpuser:user";
+  private static final String GROUP = "urn:li:corpGroup:group";
+  private static final Urn ROLE = UrnUtils.getUrn("urn:li:dataHubRole:Editor");
+  private static final Optional<ResolvedEntitySpec> DATASET =
+      Optional.of(
+          new ResolvedEntitySpec(new EntitySpec("dataset", "urn:li:dataset:test"), Map.of()));
+
+  @Test
+  public void testIndexByActor() {
+    DataHubPolicyInfo userPolicy =
+        policy(new DataHubActorFilter().setUsers(new UrnArray(UrnUtils.getUrn(USER))), null);
+    DataHubPolicyInfo otherUserPolicy =
+        policy(
+            new DataHubActorFilter()
+                .setUsers(new UrnArray(UrnUtils.getUrn("urn:li:corpuser:other"))),
+            null);
+    DataHubPolicyInfo groupPolicy =
+        policy(new DataHubActorFilter().setGroups(new UrnArray(UrnUtils.getUrn(GROUP))), null);
+    DataHubPolicyInfo rolePolicy =
+        policy(new DataHubActorFilter().setRoles(new UrnArray(ROLE)), null);
+    DataHubPolicyInfo allUsersPolicy = policy(new DataHubActorFilter().setAllUsers(true), null);
+
+    PolicyIndex index =
+        new PolicyIndex(
+            Map.of(
+                PRIVILEGE,
+                List.of(userPolicy, otherUserPolicy, groupPolicy, rolePolicy, allUsersPolicy)));
+
+    assertEquals(
+        index.getCandidatePolicies(
+            PRIVILEGE, DATASET, USER, () -> Set.of(GROUP), () -> Set.of(ROLE)),
+        List.of(userPolicy, groupPolicy, rolePolicy, allUsersPolicy));
+    assertEquals(
+        index.getCandidatePolicies(PRIVILEGE, DATASET, USER, Set::of, Set::of),
+        List.of(userPolicy, allUsersPolicy));
+    assertTrue(
+        index
+            .getCandidatePolicies("EDIT_ENTITY_OWNERS", DATASET, USER, Set::of, Set::of)
+            .isEmpty());
+  }
+
+  @Test
+  public void testIndexByResourceType() {
+    DataHubPolicyInfo datasetPolicy = policy(new DataHubActorFilter().setAllUsers(true), "dataset");
+    DataHubPolicyInfo chartPolicy = policy(new DataHubActorFilter().setAllUsers(true), "chart");
+    DataHubPolicyInfo anyTypePolicy = policy(new DataHubActorFilter().setAllUsers(true), null);
+    // Platform policies match any resource, whatever their resource filter
+    DataHubPolicyInfo platformPolicy =
+        policy(new DataHubActorFilter().setAllUsers(true), "chart").setType(PLATFORM_POLICY_TYPE);
+
+    PolicyIndex index =
+        new PolicyIndex(
+            Map.of(PRIVILEGE, List.of(datasetPolicy, chartPolicy, anyTypePolicy, platformPolicy)));
+
+    assertEquals(
+        index.getCandidatePolicies(PRIVILEGE, DATASET, USER, Set::of, Set::of),
+        List.of(datasetPolicy, anyTypePolicy, platformPolicy));
+    // Policies limited to resource types can not match requests without a resource
+    assertEquals(
+        index.getCandidatePolicies(PRIVILEGE, Optional.empty(), USER, Set::of, Set::of),
+        List.of(anyTypePolicy, platformPolicy));
+  }
+
+  @Test
+  public void testInactivePoliciesAreSkipped() {
+    DataHubPolicyInfo inactivePolicy =
+        policy(new DataHubActorFilter().setAllUsers(true), null).setState(INACTIVE_POLICY_STATE);
+
+    PolicyIndex index = new PolicyIndex(Map.of(PRIVILEGE, List.of(inactivePolicy)));
+
+    assertTrue(
+        index.getCandidatePolicies(PRIVILEGE, DATASET, USER, Set::of, Set::of).isEmpty());
+  }
+
+  @Test
+  public void testActorIsOnlyResolvedWhenNeeded() {
+    DataHubPolicyInfo userPolicy =
+        policy(new DataHubActorFilter().setUsers(new UrnArray(UrnUtils.getUrn(USER))), null);
+    PolicyIndex index = new PolicyIndex(Map.of(PRIVILEGE, List.of(userPolicy)));
+
+    Supplier<Set<String>> groups =
+        () -> {
+          fail("Groups should not be resolved");
+          return Set.of();
+        };
+    Supplier<Set<Urn>> roles =
+        () -> {
+          fail("Roles should not be resolved");
+          return Set.of();
+        };
+    assertEquals(
+        index.getCandidatePolicies(PRIVILEGE, DATASET, USER, groups, roles), List.of(userPolicy));
+  }
+
+  private static DataHubPolicyInfo policy(
+      DataHubActorFilter actors, @Nullable String resourceType) {
+    DataHubPolicyInfo policy =
+        new DataHubPolicyInfo()
+            .setDisplayName("Test")
+            .setType(METADATA_POLICY_TYPE)
+            .setState(ACTIVE_POLICY_STATE)
+            .setPrivileges(new StringArray(List.of(PRIVILEGE)))
+            .setActors(actors);
+    if (resourceType != null) {
+      policy.setResources(new DataHubResourceFilter().setType(resourceType).setAllResources(true));
+    }
+    return policy;
+  }
+}
@@ -22,10 +22,16 @@ public class EbeanConfiguration {
   private long waitTimeoutMillis;
   private boolean autoCreateDdl;
   private boolean postgresUseIamAuth;
+  private int batchWriteSize;
   private LockingConfiguration locking;
+  private BatchGetConfiguration batchGet;
 
   public static final EbeanConfiguration testDefault =
-      EbeanConfiguration.builder().locking(LockingConfiguration.testDefault).build();
+      EbeanConfiguration.builder()
+          .batchWriteSize(100)
+          .locking(LockingConfiguration.testDefault)
+          .batchGet(BatchGetConfiguration.testDefault)
+          .build();
 
   @Data
   @Builder
@@ -43,4 +49,19 @@ public class EbeanConfiguration {
             .maximumLocks(10000)
             .build();
   }
+
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class BatchGetConfiguration {
+    /** UNION_ALL or ROW_VALUE_IN */
+    private String method;
+
+    /** Max number of key pages queried concurrently, 1 runs the pages serially */
+    private int parallelism;
+
+    public static final BatchGetConfiguration testDefault =
+        BatchGetConfiguration.builder().method("UNION_ALL").parallelism(1).build();
+  }
 }
@@ -5,5 +5,6 @@ import lombok.Data;
 @Data
 public class EntityDocCountCacheConfiguration {
   long ttlSeconds;
+  long maxSize;
   long lightningThreshold;
 }
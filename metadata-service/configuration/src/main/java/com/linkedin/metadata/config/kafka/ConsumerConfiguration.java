@@ -8,4 +8,5 @@ public class ConsumerConfiguration {
   private int maxPartitionFetchBytes;
   private boolean stopOnDeserializationError;
   private boolean healthCheckEnabled;
+  private boolean mxeDeserializerEnabled;
 }
@@ -16,4 +16,6 @@ public class ProducerConfiguration {
   private String compressionType;
 
   private int maxRequestSize;
+
+  private String aspectContentType;
 }
@@ -8,6 +8,8 @@ public class GraphQueryConfiguration {
   private long timeoutSeconds;
   private int batchSize;
   private int maxResult;
+  // The max number of batched queries run concurrently by a lineage walk
+  private int queryConcurrency;
   // When set to true, the graph walk (typically in search-across-lineage or scroll-across-lineage)
   // will return all paths between the source and destination nodes within the hops limit.
   private boolean enableMultiPathSearch;
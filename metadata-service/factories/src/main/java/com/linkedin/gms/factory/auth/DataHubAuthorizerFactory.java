@@ -19,6 +19,9 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.cachePolicyFetchSize}")
   private Integer policyCacheFetchSize;
 
+  @Value("${authorization.defaultAuthorizer.actorCacheTtlSecs:0}")
+  private Integer actorCacheTtlSeconds;
+
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
@@ -40,6 +43,7 @@ public class DataHubAuthorizerFactory {
         10,
         policyCacheRefreshIntervalSeconds,
         mode,
-        policyCacheFetchSize);
+        policyCacheFetchSize,
+        actorCacheTtlSeconds);
   }
 }
@@ -26,6 +26,12 @@ public class DataHubTokenServiceFactory {
   @Value("${authentication.tokenService.issuer:datahub-metadata-service}")
   private String issuer;
 
+  @Value("${authentication.tokenService.validatedTokenCacheMaxSize:0}")
+  private long validatedTokenCacheMaxSize;
+
+  @Value("${authentication.tokenService.validatedTokenCacheTtlSeconds:0}")
+  private long validatedTokenCacheTtlSeconds;
+
   /** + @Inject + @Named("entityService") + private EntityService<?> _entityService; + */
   @Autowired
   @Qualifier("entityService")
@@ -37,6 +43,13 @@ public class DataHubTokenServiceFactory {
   protected StatefulTokenService getInstance(
       @Qualifier("systemOperationContext") final OperationContext systemOpContext) {
     return new StatefulTokenService(
-        systemOpContext, signingKey, signingAlgorithm, issuer, _entityService, saltingKey);
+        systemOpContext,
+        signingKey,
+        signingAlgorithm,
+        issuer,
+        _entityService,
+        saltingKey,
+        validatedTokenCacheMaxSize,
+        validatedTokenCacheTtlSeconds);
   }
 }
@@ -31,12 +31,19 @@ public class EntityServiceFactory {
 
     FeatureFlags featureFlags = configurationProvider.getFeatureFlags();
 
-    return new EntityServiceImpl(
-        aspectDao,
-        eventProducer,
-        featureFlags.isAlwaysEmitChangeLog(),
-        featureFlags.getPreProcessHooks(),
-        _ebeanMaxTransactionRetry,
-        enableBrowsePathV2);
+    EntityServiceImpl entityService =
+        new EntityServiceImpl(
+            aspectDao,
+            eventProducer,
+            featureFlags.isAlwaysEmitChangeLog(),
+            featureFlags.getPreProcessHooks(),
+            _ebeanMaxTransactionRetry,
+            enableBrowsePathV2);
+    String aspectContentType =
+        configurationProvider.getKafka().getProducer().getAspectContentType();
+    if (aspectContentType != null) {
+      entityService.setMclAspectContentType(aspectContentType);
+    }
+    return entityService;
   }
 }
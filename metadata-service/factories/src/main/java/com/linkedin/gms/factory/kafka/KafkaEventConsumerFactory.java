@@ -3,6 +3,7 @@ package com.linkedin.gms.factory.kafka;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.kafka.schemaregistry.SchemaRegistryConfig;
 import com.linkedin.metadata.config.kafka.KafkaConfiguration;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
@@ -40,6 +41,13 @@ public class KafkaEventConsumerFactory {
     Map<String, Object> customizedProperties =
         buildCustomizedProperties(baseKafkaProperties, kafkaConfiguration, schemaRegistryConfig);
 
+    // MCLs, MCPs and platform events are read straight into the schemas they are translated from
+    if (kafkaConfiguration.getConsumer().isMxeDeserializerEnabled()
+        && KafkaAvroDeserializer.class.equals(schemaRegistryConfig.getDeserializer())) {
+      customizedProperties.put(
+          ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, MXEAvroDeserializer.class);
+    }
+
     return new DefaultKafkaConsumerFactory<>(customizedProperties);
   }
 
@@ -0,0 +1,84 @@
+package com.linkedin.gms.factory.kafka;
+
+import com.linkedin.metadata.EventUtils;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Deserializes MCLs, MCPs and platform events straight into the com.linkedin.pegasus2avro schemas
+ * {@link EventUtils} translates them to Pegasus from, so that the consumers don't re-encode every
+ * record to rename its schema. The resolution of each writer schema ID is done once and cached;
+ * records of other schemas are deserialized as by {@link KafkaAvroDeserializer}.
+ */
+public class MXEAvroDeserializer extends KafkaAvroDeserializer {
+
+  private static final byte MAGIC_BYTE = 0x0;
+  private static final int HEADER_SIZE = 5;
+
+  private final Map<Integer, Optional<DatumReader<GenericRecord>>> readersBySchemaId =
+      new ConcurrentHashMap<>();
+
+  public MXEAvroDeserializer() {
+    super();
+  }
+
+  public MXEAvroDeserializer(SchemaRegistryClient client) {
+    super(client);
+  }
+
+  @Override
+  public Object deserialize(String topic, byte[] bytes) {
+    if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != MAGIC_BYTE) {
+      return super.deserialize(topic, bytes);
+    }
+
+    final int schemaId = ByteBuffer.wrap(bytes, 1, HEADER_SIZE - 1).getInt();
+    final Optional<DatumReader<GenericRecord>> reader =
+        readersBySchemaId.computeIfAbsent(schemaId, this::createReader);
+    if (reader.isEmpty()) {
+      return super.deserialize(topic, bytes);
+    }
+
+    final BinaryDecoder decoder =
+        DecoderFactory.get().binaryDecoder(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, null);
+    try {
+      return reader.get().read(null, decoder);
+    } catch (IOException | RuntimeException e) {
+      throw new SerializationException("Error deserializing Avro message for id " + schemaId, e);
+    }
+  }
+
+  private Optional<DatumReader<GenericRecord>> createReader(int schemaId) {
+    final ParsedSchema parsedSchema;
+    try {
+      parsedSchema = schemaRegistry.getSchemaById(schemaId);
+    } catch (IOException | RestClientException e) {
+      throw new SerializationException("Error retrieving Avro schema for id " + schemaId, e);
+    }
+    if (!(parsedSchema instanceof AvroSchema)) {
+      return Optional.empty();
+    }
+
+    final Schema writerSchema = ((AvroSchema) parsedSchema).rawSchema();
+    final Schema readerSchema = EventUtils.getRenamedAvroSchema(writerSchema.getFullName());
+    if (readerSchema == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new GenericDatumReader<>(writerSchema, readerSchema));
+  }
+}
@@ -1,6 +1,9 @@
 package com.linkedin.gms.factory.search;
 
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.CacheValueCodec;
+import com.linkedin.metadata.search.cache.DataMapCacheValueCodec;
+import com.linkedin.metadata.search.cache.JsonCacheValueCodec;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,11 +29,29 @@ public class CachingEntitySearchServiceFactory {
   @Value("${searchService.enableCache}")
   private Boolean enableCache;
 
+  @Value("${searchService.cache.valueCodec:json}")
+  private String cacheValueCodec;
+
+  @Value("${searchService.cache.compressValues:false}")
+  private Boolean compressCacheValues;
+
   @Bean(name = "cachingEntitySearchService")
   @Primary
   @Nonnull
   protected CachingEntitySearchService getInstance() {
     return new CachingEntitySearchService(
-        cacheManager, entitySearchService, batchSize, enableCache);
+        cacheManager, entitySearchService, batchSize, enableCache, getCacheValueCodec());
+  }
+
+  private CacheValueCodec getCacheValueCodec() {
+    switch (cacheValueCodec.toLowerCase()) {
+      case "json":
+        return JsonCacheValueCodec.INSTANCE;
+      case "pson":
+        return new DataMapCacheValueCodec(compressCacheValues);
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported searchService.cache.valueCodec: " + cacheValueCodec);
+    }
   }
 }
@@ -16,8 +16,19 @@ public class SearchDocumentTransformerFactory {
   @Value("${elasticsearch.index.maxValueLength}")
   private int maxValueLength;
 
+  @Value("${elasticsearch.index.searchableRefCacheMaxSize:0}")
+  private int searchableRefCacheMaxSize;
+
+  @Value("${elasticsearch.index.searchableRefCacheTtlSeconds:0}")
+  private int searchableRefCacheTtlSeconds;
+
   @Bean("searchDocumentTransformer")
   protected SearchDocumentTransformer getInstance() {
-    return new SearchDocumentTransformer(maxArrayLength, maxObjectKeys, maxValueLength);
+    return new SearchDocumentTransformer(
+        maxArrayLength,
+        maxObjectKeys,
+        maxValueLength,
+        searchableRefCacheMaxSize,
+        searchableRefCacheTtlSeconds);
   }
 }
@@ -0,0 +1,82 @@
+package com.linkedin.gms.factory.kafka;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.testng.annotations.Test;
+
+public class MXEAvroDeserializerTest {
+
+  private static final String TOPIC = "MetadataChangeLog_Versioned_v1";
+
+  @Test
+  public void testDeserializeMCL() throws Exception {
+    MockSchemaRegistryClient schemaRegistry = new MockSchemaRegistryClient();
+    AvroSchema schema = new AvroSchema(EventUtils.RENAMED_MCL_AVRO_SCHEMA);
+    int schemaId = schemaRegistry.register(TOPIC + "-value", schema);
+    MetadataChangeLog event =
+        new MetadataChangeLog()
+            .setEntityType("dataset")
+            .setEntityUrn(
+                UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)"))
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName("status");
+    byte[] bytes = serialize(schemaId, EventUtils.pegasusToAvroMCL(event));
+
+    MXEAvroDeserializer deserializer = new MXEAvroDeserializer(schemaRegistry);
+    GenericRecord record = (GenericRecord) deserializer.deserialize(TOPIC, bytes);
+
+    // Read with the schema translated from, the resolution is reused for following records
+    assertSame(record.getSchema(), EventUtils.RENAMED_MCL_AVRO_SCHEMA);
+    assertEquals(EventUtils.avroToPegasusMCL(record), event);
+    assertEquals(
+        EventUtils.avroToPegasusMCL((GenericRecord) deserializer.deserialize(TOPIC, bytes)),
+        event);
+  }
+
+  @Test
+  public void testDeserializeOtherSchema() throws Exception {
+    Schema schema =
+        SchemaBuilder.record("Other")
+            .namespace("com.example")
+            .fields()
+            .requiredString("name")
+            .endRecord();
+    MockSchemaRegistryClient schemaRegistry = new MockSchemaRegistryClient();
+    int schemaId = schemaRegistry.register("Other-value", new AvroSchema(schema));
+    GenericRecord other = new GenericData.Record(schema);
+    other.put("name", "value");
+
+    MXEAvroDeserializer deserializer = new MXEAvroDeserializer(schemaRegistry);
+    GenericRecord record =
+        (GenericRecord) deserializer.deserialize("Other", serialize(schemaId, other));
+
+    assertEquals(record.getSchema(), schema);
+    assertEquals(record.get("name").toString(), "value");
+  }
+
+  private static byte[] serialize(int schemaId, GenericRecord record) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(0);
+    out.write(ByteBuffer.allocate(4).putInt(schemaId).array());
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+    encoder.flush();
+    return out.toByteArray();
+  }
+}
@@ -24,6 +24,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
@@ -32,6 +33,7 @@ import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @OpenAPIDefinition(
@@ -74,6 +76,24 @@ public class SpringWebConfig implements WebMvcConfigurer {
     registry.addConverter(new StringToChangeCategoryConverter());
   }
 
+  /**
+   * Runs the streamed entity exports, so that they don't compete with the other async requests of
+   * the servlet for threads.
+   */
+  @Bean(name = "exportTaskExecutor")
+  public ThreadPoolTaskExecutor exportTaskExecutor(
+      @Value("${openapi.export.corePoolSize:4}") int corePoolSize,
+      @Value("${openapi.export.maxPoolSize:16}") int maxPoolSize,
+      @Value("${openapi.export.queueCapacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("openapi-export-");
+    executor.setDaemon(true);
+    return executor;
+  }
+
   @Bean
   public GroupedOpenApi v3OpenApiGroup(final EntityRegistry entityRegistry) {
     return GroupedOpenApi.builder()
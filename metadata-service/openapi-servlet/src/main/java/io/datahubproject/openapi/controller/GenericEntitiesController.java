@@ -35,6 +35,7 @@ import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.query.filter.SortOrder;
 import com.linkedin.metadata.search.ScrollResult;
+import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.utils.AuditStampUtils;
@@ -51,14 +52,24 @@ import io.datahubproject.openapi.models.GenericEntityScrollResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
@@ -71,7 +82,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+@Slf4j
 public abstract class GenericEntitiesController<
     A extends GenericAspect,
     E extends GenericEntity<A>,
@@ -90,6 +103,13 @@ public abstract class GenericEntitiesController<
   @Autowired
   protected OperationContext systemOperationContext;
 
+  @Qualifier("exportTaskExecutor")
+  @Autowired
+  protected AsyncTaskExecutor exportTaskExecutor;
+
+  @Value("${openapi.export.timeoutMs:3600000}")
+  protected long exportTimeoutMs;
+
   /**
    * Returns scroll result entities
    *
@@ -234,6 +254,137 @@ public abstract class GenericEntitiesController<
             result.getScrollId()));
   }
 
+  @Tag(name = "Generic Entities")
+  @GetMapping(value = "/{entityName}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Export entities as newline delimited JSON")
+  public WebAsyncTask<Void> exportEntities(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      @PathVariable("entityName") String entityName,
+      @RequestParam(value = "aspectNames", defaultValue = "") Set<String> aspects1,
+      @RequestParam(value = "aspects", defaultValue = "") Set<String> aspects2,
+      @RequestParam(value = "query", defaultValue = "*") String query,
+      @RequestParam(value = "batchSize", defaultValue = "1000") Integer batchSize,
+      @RequestParam(value = "keepAlive", defaultValue = "5m") String keepAlive,
+      @RequestParam(value = "systemMetadata", required = false, defaultValue = "false")
+          Boolean withSystemMetadata,
+      @RequestParam(value = "includeSoftDelete", required = false, defaultValue = "false")
+          Boolean includeSoftDelete,
+      @RequestParam(value = "gzip", required = false, defaultValue = "false") Boolean gzip) {
+
+    EntitySpec entitySpec = entityRegistry.getEntitySpec(entityName);
+    Authentication authentication = AuthenticationContext.getAuthentication();
+
+    if (!AuthUtil.isAPIAuthorizedEntityType(authentication, authorizationChain, READ, entityName)) {
+      throw new UnauthorizedException(
+          authentication.getActor().toUrnStr() + " is unauthorized to " + READ + "  entities.");
+    }
+
+    OperationContext opContext =
+        OperationContext.asSession(
+            systemOperationContext,
+            RequestContext.builder()
+                .buildOpenapi(
+                    authentication.getActor().toUrnStr(), request, "exportEntities", entityName),
+            authorizationChain,
+            authentication,
+            true);
+    OperationContext searchContext =
+        opContext
+            .withSearchFlags(flags -> DEFAULT_SEARCH_FLAGS)
+            .withSearchFlags(flags -> flags.setSkipCache(true))
+            .withSearchFlags(flags -> flags.setIncludeSoftDeleted(includeSoftDelete));
+    Set<String> aspectNames =
+        ImmutableSet.<String>builder().addAll(aspects1).addAll(aspects2).build();
+    List<SortCriterion> sortCriteria =
+        Collections.singletonList(SearchUtil.sortBy("urn", SortOrder.ASCENDING));
+
+    Function<String, ScrollResult> scroll =
+        scrollId ->
+            searchService.scrollAcrossEntities(
+                searchContext,
+                List.of(entitySpec.getName()),
+                query,
+                null,
+                sortCriteria,
+                scrollId,
+                keepAlive,
+                batchSize);
+    String unauthorizedMessage =
+        authentication.getActor().toUrnStr() + " is unauthorized to " + READ + " entities.";
+
+    // The first page is read before the response is committed, so that its authorization and
+    // search failures are returned as errors
+    ScrollResult firstPage = scroll.apply(null);
+    if (!AuthUtil.isAPIAuthorizedResult(authentication, authorizationChain, firstPage)) {
+      throw new UnauthorizedException(unauthorizedMessage);
+    }
+
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    // Pages are written as they are read, so the next page is only fetched once the client has
+    // consumed the previous one
+    Callable<Void> export =
+        () -> {
+          OutputStream out =
+              gzip
+                  ? new GZIPOutputStream(response.getOutputStream(), true)
+                  : response.getOutputStream();
+          try {
+            ScrollResult result = firstPage;
+            while (true) {
+              List<Urn> urns =
+                  result.getEntities().stream()
+                      .map(SearchEntity::getEntity)
+                      .collect(Collectors.toList());
+              for (E entity : buildEntityList(opContext, urns, aspectNames, withSystemMetadata)) {
+                out.write(objectMapper.writeValueAsBytes(entity));
+                out.write('\n');
+              }
+              out.flush();
+
+              if (result.getScrollId() == null) {
+                break;
+              }
+              result = scroll.apply(result.getScrollId());
+              if (!AuthUtil.isAPIAuthorizedResult(authentication, authorizationChain, result)) {
+                throw new UnauthorizedException(unauthorizedMessage);
+              }
+            }
+          } catch (Exception e) {
+            // The status is already committed, end the export with an error line so that clients
+            // can tell a failed export from a complete one
+            log.error("Failed to export {} entities", entityName, e);
+            try {
+              out.write(
+                  objectMapper.writeValueAsBytes(
+                      Map.of(
+                          "error",
+                          e instanceof UnauthorizedException
+                              ? e.getMessage()
+                              : "Failed to export entities: " + e.getMessage())));
+              out.write('\n');
+            } catch (IOException writeException) {
+              // The client is gone, there is no one left to tell
+              log.warn("Failed to end the {} export with an error", entityName, writeException);
+              return null;
+            }
+          }
+
+          if (out instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) out).finish();
+          }
+          out.flush();
+          return null;
+        };
+
+    // The export has its own timeout and threads, rather than the defaults of all async requests
+    return new WebAsyncTask<>(exportTimeoutMs, exportTaskExecutor, export);
+  }
+
   @Tag(name = "Generic Entities")
   @GetMapping(
       value = "/{entityName}/{entityUrn:urn:li:.+}",
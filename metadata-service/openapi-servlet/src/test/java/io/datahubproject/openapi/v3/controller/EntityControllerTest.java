@@ -2,14 +2,18 @@ package io.datahubproject.openapi.v3.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 import com.datahub.authentication.Actor;
 import com.datahub.authentication.ActorType;
@@ -40,6 +44,7 @@ import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -54,6 +59,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testng.annotations.Test;
@@ -171,6 +177,146 @@ public class EntityControllerTest extends AbstractTestNGSpringContextTests {
             MockMvcResultMatchers.jsonPath("$.entities[2].urn").value(TEST_URNS.get(0).toString()));
   }
 
+  @Test
+  public void testExportEntities() throws Exception {
+    List<Urn> TEST_URNS =
+        List.of(
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,1,PROD)"),
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,2,PROD)"),
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,3,PROD)"));
+
+    // Mock two pages of scroll results
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            eq(List.of("dataset")),
+            eq("*"),
+            nullable(Filter.class),
+            eq(Collections.singletonList(SearchUtil.sortBy("urn", SortOrder.ASCENDING))),
+            nullable(String.class),
+            eq("5m"),
+            eq(2)))
+        .thenReturn(
+            new ScrollResult()
+                .setEntities(
+                    new SearchEntityArray(
+                        List.of(
+                            new SearchEntity().setEntity(TEST_URNS.get(0)),
+                            new SearchEntity().setEntity(TEST_URNS.get(1)))))
+                .setScrollId("page2"),
+            new ScrollResult()
+                .setEntities(
+                    new SearchEntityArray(
+                        List.of(new SearchEntity().setEntity(TEST_URNS.get(2))))));
+    // Mock entity aspect
+    when(mockEntityService.getEnvelopedVersionedAspects(
+            any(OperationContext.class), anyMap(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              Map<Urn, ?> requested = invocation.getArgument(1);
+              return requested.keySet().stream()
+                  .collect(
+                      Collectors.toMap(
+                          urn -> urn,
+                          urn ->
+                              List.of(
+                                  new EnvelopedAspect()
+                                      .setName("status")
+                                      .setValue(new Aspect(new Status().data())))));
+            });
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.get("/v3/entity/dataset/export")
+                    .param("aspects", "status")
+                    .param("batchSize", "2")
+                    .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+    String content =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(result))
+            .andExpect(status().is2xxSuccessful())
+            .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    List<String> lines = content.lines().collect(Collectors.toList());
+    assertEquals(lines.size(), 3);
+    ObjectMapper objectMapper = new ObjectMapper();
+    for (int i = 0; i < TEST_URNS.size(); i++) {
+      assertEquals(
+          objectMapper.readTree(lines.get(i)).get("urn").asText(), TEST_URNS.get(i).toString());
+    }
+    // Each page is read as the previous one is written
+    verify(mockSearchService)
+        .scrollAcrossEntities(
+            any(OperationContext.class),
+            eq(List.of("dataset")),
+            eq("*"),
+            nullable(Filter.class),
+            anyList(),
+            eq("page2"),
+            eq("5m"),
+            eq(2));
+  }
+
+  @Test
+  public void testExportEntitiesEndsWithErrorOnFailure() throws Exception {
+    Urn testUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,1,PROD)");
+
+    // The first page is read, the second fails after the response is committed
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            eq(List.of("dataset")),
+            eq("failing"),
+            nullable(Filter.class),
+            anyList(),
+            nullable(String.class),
+            eq("5m"),
+            eq(1)))
+        .thenReturn(
+            new ScrollResult()
+                .setEntities(new SearchEntityArray(List.of(new SearchEntity().setEntity(testUrn))))
+                .setScrollId("page2"))
+        .thenThrow(new IllegalStateException("search unavailable"));
+    when(mockEntityService.getEnvelopedVersionedAspects(
+            any(OperationContext.class), anyMap(), eq(false)))
+        .thenReturn(
+            Map.of(
+                testUrn,
+                List.of(
+                    new EnvelopedAspect()
+                        .setName("status")
+                        .setValue(new Aspect(new Status().data())))));
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.get("/v3/entity/dataset/export")
+                    .param("aspects", "status")
+                    .param("query", "failing")
+                    .param("batchSize", "1")
+                    .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+    String content =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(result))
+            .andExpect(status().is2xxSuccessful())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    List<String> lines = content.lines().collect(Collectors.toList());
+    assertEquals(lines.size(), 2);
+    ObjectMapper objectMapper = new ObjectMapper();
+    assertEquals(objectMapper.readTree(lines.get(0)).get("urn").asText(), testUrn.toString());
+    assertTrue(
+        objectMapper.readTree(lines.get(1)).get("error").asText().contains("search unavailable"));
+  }
+
   @TestConfiguration
   public static class EntityControllerTestConfig {
     @MockBean public EntityServiceImpl entityService;
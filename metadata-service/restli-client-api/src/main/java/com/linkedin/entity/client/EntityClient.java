@@ -34,6 +34,7 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -510,6 +511,35 @@ public interface EntityClient {
       @Nullable SortCriterion sort)
       throws RemoteInvocationException;
 
+  /**
+   * Returns the timeseries aspect values of a set of entities, as {@link
+   * #getTimeseriesAspectValues(OperationContext, String, String, String, Long, Long, Integer,
+   * Filter, SortCriterion)} returns them for each entity.
+   *
+   * @return the aspect values of each urn, urns without values map to an empty list and urns whose
+   *     retrieval failed are left out
+   */
+  default Map<String, List<EnvelopedAspect>> batchGetTimeseriesAspectValues(
+      @Nonnull OperationContext opContext,
+      @Nonnull Set<String> urns,
+      @Nonnull String entity,
+      @Nonnull String aspect,
+      @Nullable Long startTimeMillis,
+      @Nullable Long endTimeMillis,
+      @Nullable Integer limit,
+      @Nullable Filter filter,
+      @Nullable SortCriterion sort)
+      throws RemoteInvocationException {
+    final Map<String, List<EnvelopedAspect>> results = new HashMap<>();
+    for (String urn : urns) {
+      results.put(
+          urn,
+          getTimeseriesAspectValues(
+              opContext, urn, entity, aspect, startTimeMillis, endTimeMillis, limit, filter, sort));
+    }
+    return results;
+  }
+
   @Deprecated
   default String ingestProposal(
       @Nonnull OperationContext opContext,
@@ -10,6 +10,7 @@ import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.metadata.config.cache.client.EntityClientCacheConfig;
+import com.linkedin.metadata.utils.DataMapSizeEstimator;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collection;
@@ -130,9 +131,9 @@ public class EntityClientCache {
     public EntityClientCache build(
         @Nonnull final Function<CollectionKey, Map<Urn, EntityResponse>> fetchFunction,
         Class<?> metricClazz) {
-      // estimate size
+      // estimate size without serializing the value
       Weigher<Key, EnvelopedAspect> weighByEstimatedSize =
-          (key, value) -> value.getValue().data().toString().getBytes().length;
+          (key, value) -> DataMapSizeEstimator.estimateSize(value.getValue());
 
       // batch loads data from entity client (restli or java)
       Function<Iterable<? extends Key>, Map<Key, EnvelopedAspect>> loader =
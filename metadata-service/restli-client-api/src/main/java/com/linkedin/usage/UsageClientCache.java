@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Weigher;
 import com.linkedin.common.client.ClientCache;
 import com.linkedin.metadata.config.cache.client.UsageClientCacheConfig;
+import com.linkedin.metadata.utils.DataMapSizeEstimator;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -44,9 +45,9 @@ public class UsageClientCache {
     }
 
     public UsageClientCache build() {
-      // estimate size
+      // estimate size without serializing the value
       Weigher<Key, UsageQueryResult> weighByEstimatedSize =
-          (key, value) -> value.data().toString().getBytes().length;
+          (key, value) -> DataMapSizeEstimator.estimateSize(value);
 
       // batch loads data from usage client
       Function<Iterable<? extends Key>, Map<Key, UsageQueryResult>> loader =
@@ -25,6 +25,11 @@ public class RestoreIndicesArgs implements Cloneable {
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  // Inclusive upper bound of urn based pagination, unbounded if empty
+  public String endUrn = "";
+  public String endAspect = "";
+  // Update the indices directly rather than producing MCLs for the consumers to index
+  public boolean directIndexing = false;
 
   @Override
   public RestoreIndicesArgs clone() {
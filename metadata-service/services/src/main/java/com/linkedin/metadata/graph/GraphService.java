@@ -42,6 +42,26 @@ public interface GraphService extends GraphRetriever {
    */
   void removeEdge(final Edge edge);
 
+  /**
+   * Applies a set of edge changes, such as those produced by a single aspect update. Removals are
+   * applied first, then additions, then upserts.
+   *
+   * <p>Implementations should write the whole batch in as few round trips as the store allows. The
+   * default applies the edges one at a time.
+   *
+   * @param adds edges to add, see {@link #addEdge(Edge)}
+   * @param removes edges to remove, see {@link #removeEdge(Edge)}
+   * @param upserts edges to add or update, see {@link #upsertEdge(Edge)}
+   */
+  default void applyEdgeBatch(
+      @Nonnull final List<Edge> adds,
+      @Nonnull final List<Edge> removes,
+      @Nonnull final List<Edge> upserts) {
+    removes.forEach(this::removeEdge);
+    adds.forEach(this::addEdge);
+    upserts.forEach(this::upsertEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship
    * types. Related entities can be filtered by source and destination type (use `null` for any
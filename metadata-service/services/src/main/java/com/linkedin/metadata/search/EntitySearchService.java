@@ -7,6 +7,8 @@ import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -33,6 +35,24 @@ public interface EntitySearchService {
     return docCount(opContext, entityName, null);
   }
 
+  /**
+   * Get the number of documents corresponding to each of a set of entities
+   *
+   * @param entityNames names of the entities
+   * @param filter optional filter
+   * @return the number of documents of each entity
+   */
+  default Map<String, Long> docCounts(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    final Map<String, Long> docCounts = new HashMap<>();
+    for (String entityName : entityNames) {
+      docCounts.put(entityName, docCount(opContext, entityName, filter));
+    }
+    return docCounts;
+  }
+
   /**
    * Updates or inserts the given search document.
    *
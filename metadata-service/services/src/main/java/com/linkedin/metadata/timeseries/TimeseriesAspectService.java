@@ -11,7 +11,10 @@ import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import com.linkedin.timeseries.TimeseriesIndexSizeResult;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -116,6 +119,45 @@ public interface TimeseriesAspectService {
       @Nullable final Filter filter,
       @Nullable final SortCriterion sort);
 
+  /**
+   * Retrieve the Time-Series Aspects of a set of entities, matching a set of optional filters. The
+   * aspects of each entity are the ones {@link #getAspectValues(OperationContext, Urn, String,
+   * String, Long, Long, Integer, Filter, SortCriterion)} returns for it, so the limit applies to
+   * each entity separately.
+   *
+   * @param urns the urns of the entities to retrieve aspects for, all of the given entity name
+   * @return the Time-Series aspects found for each urn, urns without aspects map to an empty list
+   *     and urns whose retrieval failed are left out
+   */
+  @Nonnull
+  default Map<Urn, List<EnvelopedAspect>> getAspectValues(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Integer limit,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort) {
+    final Map<Urn, List<EnvelopedAspect>> results = new HashMap<>();
+    for (Urn urn : urns) {
+      results.put(
+          urn,
+          getAspectValues(
+              opContext,
+              urn,
+              entityName,
+              aspectName,
+              startTimeMillis,
+              endTimeMillis,
+              limit,
+              filter,
+              sort));
+    }
+    return results;
+  }
+
   /**
    * Perform a arbitrary aggregation query over a set of Time-Series aspects. This is used to answer
    * arbitrary questions about the Time-Series aspects that we have.
@@ -0,0 +1,99 @@
+package com.linkedin.metadata.utils;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.DataTemplate;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Estimates the serialized size of Pegasus data by walking it in place, for use by cache weighers.
+ *
+ * <p>The estimate approximates the length of {@code data.toString()}, which weighers used to
+ * compute by serializing the whole structure, so configured byte limits keep their meaning. Strings
+ * are counted by their number of chars, so multi byte characters are under-counted.
+ */
+public class DataMapSizeEstimator {
+
+  // "{}" or "[]"
+  private static final int BRACKETS_SIZE = 2;
+  // ", " between entries
+  private static final int SEPARATOR_SIZE = 2;
+  // "=" between a key and its value
+  private static final int KEY_VALUE_SEPARATOR_SIZE = 1;
+  // Floating point values are estimated rather than formatted
+  private static final int FLOATING_POINT_SIZE = 8;
+  private static final int NULL_SIZE = 4;
+
+  private DataMapSizeEstimator() {}
+
+  /** Estimated size of a record or other data template, in bytes. */
+  public static int estimateSize(@Nullable DataTemplate<?> template) {
+    return template == null ? NULL_SIZE : estimateSize(template.data());
+  }
+
+  /** Estimated size of a Pegasus data value, in bytes. */
+  public static int estimateSize(@Nullable Object data) {
+    if (data == null) {
+      return NULL_SIZE;
+    }
+    if (data instanceof DataMap) {
+      return estimateMapSize((DataMap) data);
+    }
+    if (data instanceof DataList) {
+      return estimateListSize((DataList) data);
+    }
+    if (data instanceof String) {
+      return ((String) data).length();
+    }
+    if (data instanceof Integer) {
+      return digits((Integer) data);
+    }
+    if (data instanceof Long) {
+      return digits((Long) data);
+    }
+    if (data instanceof Boolean) {
+      return (Boolean) data ? 4 : 5;
+    }
+    if (data instanceof Float || data instanceof Double) {
+      return FLOATING_POINT_SIZE;
+    }
+    if (data instanceof ByteString) {
+      return ((ByteString) data).length();
+    }
+    return NULL_SIZE;
+  }
+
+  private static int estimateMapSize(@Nonnull DataMap dataMap) {
+    int size = BRACKETS_SIZE;
+    if (!dataMap.isEmpty()) {
+      size += (dataMap.size() - 1) * SEPARATOR_SIZE;
+    }
+    for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+      size +=
+          entry.getKey().length() + KEY_VALUE_SEPARATOR_SIZE + estimateSize(entry.getValue());
+    }
+    return size;
+  }
+
+  private static int estimateListSize(@Nonnull DataList dataList) {
+    int size = BRACKETS_SIZE;
+    if (!dataList.isEmpty()) {
+      size += (dataList.size() - 1) * SEPARATOR_SIZE;
+    }
+    for (int i = 0; i < dataList.size(); i++) {
+      size += estimateSize(dataList.get(i));
+    }
+    return size;
+  }
+
+  private static int digits(long value) {
+    int digits = value < 0 ? 2 : 1;
+    for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+      digits++;
+    }
+    return digits;
+  }
+}
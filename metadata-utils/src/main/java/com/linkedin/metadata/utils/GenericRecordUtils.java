@@ -1,8 +1,11 @@
 package com.linkedin.metadata.utils;
 
 import com.datahub.util.RecordUtils;
+import com.datahub.util.exception.ModelConversionException;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.PsonDataCodec;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entity.Aspect;
 import com.linkedin.entity.EntityResponse;
@@ -12,14 +15,32 @@ import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.GenericPayload;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import javax.annotation.Nonnull;
 
 public class GenericRecordUtils {
   public static final String JSON = "application/json";
 
+  /** Binary PSON encoding of the record's {@link DataMap}, skips JSON encoding and parsing */
+  public static final String PSON = "application/x-pson";
+
+  /** Deflate compressed {@link #PSON}, for large aspects such as schemas and lineage */
+  public static final String PSON_DEFLATE = "application/x-pson+deflate";
+
+  public static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of(JSON, PSON, PSON_DEFLATE);
+
+  private static final PsonDataCodec PSON_DATA_CODEC = new PsonDataCodec();
+
   private GenericRecordUtils() {}
 
   /** Deserialize the given value into the aspect based on the input aspectSpec */
@@ -34,21 +55,13 @@ public class GenericRecordUtils {
   @Nonnull
   public static <T extends RecordTemplate> T deserializeAspect(
       @Nonnull ByteString aspectValue, @Nonnull String contentType, @Nonnull Class<T> clazz) {
-    if (!contentType.equals(JSON)) {
-      throw new IllegalArgumentException(
-          String.format("%s content type is not supported", contentType));
-    }
-    return RecordUtils.toRecordTemplate(clazz, aspectValue.asString(StandardCharsets.UTF_8));
+    return deserialize(aspectValue, contentType, clazz);
   }
 
   @Nonnull
   public static <T extends RecordTemplate> T deserializePayload(
       @Nonnull ByteString payloadValue, @Nonnull String contentType, @Nonnull Class<T> clazz) {
-    if (!contentType.equals(JSON)) {
-      throw new IllegalArgumentException(
-          String.format("%s content type is not supported", contentType));
-    }
-    return RecordUtils.toRecordTemplate(clazz, payloadValue.asString(StandardCharsets.UTF_8));
+    return deserialize(payloadValue, contentType, clazz);
   }
 
   @Nonnull
@@ -59,22 +72,84 @@ public class GenericRecordUtils {
 
   @Nonnull
   public static GenericAspect serializeAspect(@Nonnull RecordTemplate aspect) {
+    return serializeAspect(aspect, JSON);
+  }
+
+  /**
+   * Serialize the aspect with one of the {@link #SUPPORTED_CONTENT_TYPES}. Consumers of events
+   * produced with binary content types must be able to deserialize them, JSON remains the default.
+   */
+  @Nonnull
+  public static GenericAspect serializeAspect(
+      @Nonnull RecordTemplate aspect, @Nonnull String contentType) {
     GenericAspect genericAspect = new GenericAspect();
-    genericAspect.setValue(
-        ByteString.unsafeWrap(RecordUtils.toJsonString(aspect).getBytes(StandardCharsets.UTF_8)));
-    genericAspect.setContentType(GenericRecordUtils.JSON);
+    genericAspect.setValue(serialize(aspect, contentType));
+    genericAspect.setContentType(contentType);
     return genericAspect;
   }
 
   @Nonnull
   public static GenericPayload serializePayload(@Nonnull RecordTemplate payload) {
+    return serializePayload(payload, JSON);
+  }
+
+  @Nonnull
+  public static GenericPayload serializePayload(
+      @Nonnull RecordTemplate payload, @Nonnull String contentType) {
     GenericPayload genericPayload = new GenericPayload();
-    genericPayload.setValue(
-        ByteString.unsafeWrap(RecordUtils.toJsonString(payload).getBytes(StandardCharsets.UTF_8)));
-    genericPayload.setContentType(GenericRecordUtils.JSON);
+    genericPayload.setValue(serialize(payload, contentType));
+    genericPayload.setContentType(contentType);
     return genericPayload;
   }
 
+  @Nonnull
+  private static ByteString serialize(@Nonnull RecordTemplate record, @Nonnull String contentType) {
+    switch (contentType) {
+      case JSON:
+        return ByteString.unsafeWrap(
+            RecordUtils.toJsonString(record).getBytes(StandardCharsets.UTF_8));
+      case PSON:
+      case PSON_DEFLATE:
+        try {
+          ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          try (OutputStream out =
+              PSON_DEFLATE.equals(contentType)
+                  ? new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED))
+                  : bytes) {
+            PSON_DATA_CODEC.writeMap(record.data(), out);
+          }
+          return ByteString.unsafeWrap(bytes.toByteArray());
+        } catch (IOException e) {
+          throw new ModelConversionException("Failed to serialize " + contentType, e);
+        }
+      default:
+        throw new IllegalArgumentException(
+            String.format("%s content type is not supported", contentType));
+    }
+  }
+
+  @Nonnull
+  private static <T extends RecordTemplate> T deserialize(
+      @Nonnull ByteString value, @Nonnull String contentType, @Nonnull Class<T> clazz) {
+    switch (contentType) {
+      case JSON:
+        return RecordUtils.toRecordTemplate(clazz, value.asString(StandardCharsets.UTF_8));
+      case PSON:
+      case PSON_DEFLATE:
+        try (InputStream in =
+            PSON_DEFLATE.equals(contentType)
+                ? new InflaterInputStream(value.asInputStream())
+                : value.asInputStream()) {
+          return RecordUtils.toRecordTemplate(clazz, PSON_DATA_CODEC.readMap(in));
+        } catch (IOException e) {
+          throw new ModelConversionException("Failed to deserialize " + contentType, e);
+        }
+      default:
+        throw new IllegalArgumentException(
+            String.format("%s content type is not supported", contentType));
+    }
+  }
+
   @Nonnull
   public static Map<Urn, Map<String, Aspect>> entityResponseToAspectMap(
       Map<Urn, EntityResponse> inputMap) {
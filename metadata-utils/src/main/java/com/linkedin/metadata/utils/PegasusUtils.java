@@ -14,6 +14,7 @@ import com.linkedin.metadata.models.annotation.EntityAnnotation;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
@@ -95,6 +96,36 @@ public class PegasusUtils {
       SystemMetadata newSystemMetadata,
       RecordTemplate oldAspectValue,
       SystemMetadata oldSystemMetadata) {
+    return constructMCL(
+        base,
+        entityName,
+        urn,
+        changeType,
+        aspectName,
+        auditStamp,
+        newAspectValue,
+        newSystemMetadata,
+        oldAspectValue,
+        oldSystemMetadata,
+        GenericRecordUtils.JSON);
+  }
+
+  /**
+   * Constructs an MCL with the aspect values serialized with the given content type, one of {@link
+   * GenericRecordUtils#SUPPORTED_CONTENT_TYPES}.
+   */
+  public static MetadataChangeLog constructMCL(
+      @Nullable MetadataChangeProposal base,
+      String entityName,
+      Urn urn,
+      ChangeType changeType,
+      String aspectName,
+      AuditStamp auditStamp,
+      RecordTemplate newAspectValue,
+      SystemMetadata newSystemMetadata,
+      RecordTemplate oldAspectValue,
+      SystemMetadata oldSystemMetadata,
+      @Nonnull String aspectContentType) {
     final MetadataChangeLog metadataChangeLog;
     if (base != null) {
       metadataChangeLog = new MetadataChangeLog(new DataMap(base.data()));
@@ -107,13 +138,15 @@ public class PegasusUtils {
     metadataChangeLog.setAspectName(aspectName);
     metadataChangeLog.setCreated(auditStamp);
     if (newAspectValue != null) {
-      metadataChangeLog.setAspect(GenericRecordUtils.serializeAspect(newAspectValue));
+      metadataChangeLog.setAspect(
+          GenericRecordUtils.serializeAspect(newAspectValue, aspectContentType));
     }
     if (newSystemMetadata != null) {
       metadataChangeLog.setSystemMetadata(newSystemMetadata);
     }
     if (oldAspectValue != null) {
-      metadataChangeLog.setPreviousAspectValue(GenericRecordUtils.serializeAspect(oldAspectValue));
+      metadataChangeLog.setPreviousAspectValue(
+          GenericRecordUtils.serializeAspect(oldAspectValue, aspectContentType));
     }
     if (oldSystemMetadata != null) {
       metadataChangeLog.setPreviousSystemMetadata(oldSystemMetadata);
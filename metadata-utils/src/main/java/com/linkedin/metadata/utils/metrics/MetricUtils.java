@@ -2,6 +2,7 @@ package com.linkedin.metadata.utils.metrics;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.SharedMetricRegistries;
 import com.codahale.metrics.Timer;
@@ -41,6 +42,10 @@ public class MetricUtils {
     return REGISTRY.counter(MetricRegistry.name(metricName));
   }
 
+  public static Histogram histogram(Class<?> klass, String metricName) {
+    return REGISTRY.histogram(MetricRegistry.name(klass, metricName));
+  }
+
   public static Timer timer(Class<?> klass, String metricName) {
     return REGISTRY.timer(MetricRegistry.name(klass, metricName));
   }
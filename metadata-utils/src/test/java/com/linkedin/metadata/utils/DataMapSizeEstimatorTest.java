@@ -0,0 +1,94 @@
+package com.linkedin.metadata.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.test.metadata.ThreadCost;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+public class DataMapSizeEstimatorTest {
+  private static final Logger log = LoggerFactory.getLogger(DataMapSizeEstimatorTest.class);
+
+  private static final int FIELD_COUNT = 2000;
+  private static final int BENCHMARK_ROUNDS = 50;
+
+  @Test
+  public void testMatchesToStringLength() {
+    DataMap dataMap = new DataMap();
+    dataMap.put("name", "test");
+    dataMap.put("count", 12345);
+    dataMap.put("negative", -7L);
+    dataMap.put("enabled", true);
+    dataMap.put("empty", new DataMap());
+    DataList list = new DataList();
+    list.add("a");
+    list.add(false);
+    dataMap.put("list", list);
+
+    assertEquals(DataMapSizeEstimator.estimateSize(dataMap), dataMap.toString().length());
+  }
+
+  @Test
+  public void testEstimatesLargeSchema() {
+    DataMap schema = schemaMetadata();
+    int actual = schema.toString().getBytes().length;
+    int estimate = DataMapSizeEstimator.estimateSize(schema);
+    assertTrue(
+        Math.abs(estimate - actual) < actual / 10,
+        String.format("Estimate %d too far from %d", estimate, actual));
+  }
+
+  /**
+   * Compares the bytes allocated by the estimator with those allocated by serializing the data to
+   * a string, as the cache weighers used to.
+   */
+  @Test
+  public void testAllocationBenchmark() {
+    DataMap schema = schemaMetadata();
+    // Warm up both code paths
+    DataMapSizeEstimator.estimateSize(schema);
+    schema.toString().getBytes();
+
+    long toStringBytes =
+        ThreadCost.measure(BENCHMARK_ROUNDS, () -> schema.toString().getBytes().length).getBytes();
+    long estimatorBytes =
+        ThreadCost.measure(BENCHMARK_ROUNDS, () -> DataMapSizeEstimator.estimateSize(schema))
+            .getBytes();
+
+    log.info(
+        "Weighing a DataMap of {} fields allocates {} bytes with toString, {} bytes estimated",
+        FIELD_COUNT,
+        toStringBytes,
+        estimatorBytes);
+    assertTrue(estimatorBytes < toStringBytes / 10);
+  }
+
+  /** A DataMap shaped like a large schemaMetadata aspect */
+  private static DataMap schemaMetadata() {
+    DataList fields = new DataList();
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      DataMap type = new DataMap();
+      type.put("com.linkedin.schema.StringType", new DataMap());
+      DataMap field = new DataMap();
+      field.put("fieldPath", "[version=2.0].[type=struct].column_" + i);
+      field.put("nativeDataType", "VARCHAR(255)");
+      field.put("description", "Description of column " + i);
+      field.put("nullable", i % 2 == 0);
+      field.put("recursive", false);
+      field.put("type", new DataMap(Map.of("type", type)));
+      fields.add(field);
+    }
+    DataMap schema = new DataMap();
+    schema.put("schemaName", "test_schema");
+    schema.put("platform", "urn:li:dataPlatform:hive");
+    schema.put("version", 0L);
+    schema.put("hash", "");
+    schema.put("fields", fields);
+    return schema;
+  }
+}
@@ -0,0 +1,79 @@
+package com.linkedin.metadata.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.GenericPayload;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/** Tests the capabilities of {@link GenericRecordUtils} */
+public class GenericRecordUtilsTest {
+
+  private static final DatasetProperties DATASET_PROPERTIES =
+      new DatasetProperties()
+          .setName("SampleHiveDataset")
+          .setDescription("This is the canonical User profile dataset œ∑´´†¥¨ˆˆπ")
+          .setCustomProperties(new StringMap(Map.of("owner", "datahub", "rows", "100")));
+
+  @DataProvider(name = "contentTypes")
+  public Object[][] contentTypes() {
+    return GenericRecordUtils.SUPPORTED_CONTENT_TYPES.stream()
+        .map(contentType -> new Object[] {contentType})
+        .toArray(Object[][]::new);
+  }
+
+  @Test(dataProvider = "contentTypes")
+  public void testSerializeAspect(String contentType) {
+    GenericAspect genericAspect =
+        GenericRecordUtils.serializeAspect(DATASET_PROPERTIES, contentType);
+
+    assertEquals(genericAspect.getContentType(), contentType);
+    assertEquals(
+        GenericRecordUtils.deserializeAspect(
+            genericAspect.getValue(), contentType, DatasetProperties.class),
+        DATASET_PROPERTIES);
+  }
+
+  @Test(dataProvider = "contentTypes")
+  public void testSerializePayload(String contentType) {
+    GenericPayload genericPayload =
+        GenericRecordUtils.serializePayload(DATASET_PROPERTIES, contentType);
+
+    assertEquals(genericPayload.getContentType(), contentType);
+    assertEquals(
+        GenericRecordUtils.deserializePayload(
+            genericPayload.getValue(), contentType, DatasetProperties.class),
+        DATASET_PROPERTIES);
+  }
+
+  @Test
+  public void testSerializeAspectDefaultsToJson() {
+    GenericAspect genericAspect = GenericRecordUtils.serializeAspect(DATASET_PROPERTIES);
+
+    assertEquals(genericAspect.getContentType(), GenericRecordUtils.JSON);
+    assertEquals(
+        RecordUtils.toRecordTemplate(
+            DatasetProperties.class, genericAspect.getValue().asString(StandardCharsets.UTF_8)),
+        DATASET_PROPERTIES);
+  }
+
+  @Test
+  public void testUnsupportedContentType() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> GenericRecordUtils.serializeAspect(DATASET_PROPERTIES, "application/xml"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GenericRecordUtils.deserializeAspect(
+                ByteString.empty(), "application/xml", DatasetProperties.class));
+  }
+}